@@ -0,0 +1,72 @@
+package io.maju.frosty.benchmarks;
+
+import io.maju.frosty.checkin.CheckinOrder;
+import io.maju.frosty.checkin.CheckinOrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckinOrderBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int itemCount;
+
+    private List<CheckinOrderItem> items;
+    private CheckinOrder order;
+
+    @Setup
+    public void setUp() {
+        this.items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            this.items.add(CheckinOrderItem.with("Item " + i, new BigDecimal("10.75"), i + 1, "product-" + i));
+        }
+        this.order = CheckinOrder.newOrder(new ArrayList<>(items), false);
+    }
+
+    @Benchmark
+    public CheckinOrder newOrder() {
+        return CheckinOrder.newOrder(items, false);
+    }
+
+    // builds the order one item at a time, the way a receiving screen does
+    @Benchmark
+    public CheckinOrder addOrderItem() {
+        final var anOrder = CheckinOrder.newOrder(new ArrayList<>(List.of(items.getFirst())), false);
+        for (int i = 1; i < itemCount; i++) {
+            anOrder.addOrderItem(items.get(i));
+        }
+        return anOrder;
+    }
+
+    @Benchmark
+    public CheckinOrder builder() {
+        return CheckinOrder.builder()
+                .expectedSize(itemCount)
+                .items(items)
+                .build();
+    }
+
+    @Benchmark
+    public BigDecimal total() {
+        return this.order.total();
+    }
+}
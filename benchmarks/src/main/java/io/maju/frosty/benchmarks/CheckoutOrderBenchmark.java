@@ -0,0 +1,59 @@
+package io.maju.frosty.benchmarks;
+
+import io.maju.frosty.checkout.CheckoutOrder;
+import io.maju.frosty.checkout.CheckoutOrderItem;
+import io.maju.frosty.checkout.CheckoutOrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckoutOrderBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int itemCount;
+
+    private BigDecimal amount;
+    private List<CheckoutOrderItem> items;
+    private CheckoutOrder order;
+
+    @Setup
+    public void setUp() {
+        final var price = new BigDecimal("10.75");
+        this.items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            this.items.add(CheckoutOrderItem.with(price, 1, "product-" + i));
+        }
+        this.amount = price.multiply(BigDecimal.valueOf(itemCount));
+        this.order = CheckoutOrder.newOrder(amount, new ArrayList<>(items), true, CheckoutOrderStatus.PENDING, "Maria");
+    }
+
+    @Benchmark
+    public CheckoutOrder newOrder() {
+        return CheckoutOrder.newOrder(amount, items, true, CheckoutOrderStatus.PENDING, "Maria");
+    }
+
+    // reopens first so that every invocation closes an open order
+    @Benchmark
+    public CheckoutOrder close() {
+        return this.order.open().close(CheckoutOrderStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,58 @@
+package io.maju.frosty.benchmarks;
+
+import io.maju.frosty.checkout.CheckoutOrder;
+import io.maju.frosty.checkout.CheckoutOrderItem;
+import io.maju.frosty.infrastructure.checkout.CheckoutOrderBinaryCodec;
+import io.maju.frosty.utils.IdUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckoutOrderCodecBenchmark {
+
+    @Param({"10", "3000"})
+    public int itemCount;
+
+    private final CheckoutOrderBinaryCodec codec = new CheckoutOrderBinaryCodec();
+    private CheckoutOrder order;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        final var price = new BigDecimal("10.75");
+        this.order = CheckoutOrder.builder()
+                .amount(price.multiply(BigDecimal.valueOf(itemCount)))
+                .customerName("Maria")
+                .items(IntStream.range(0, itemCount).mapToObj(i -> CheckoutOrderItem.with(price, 1, IdUtils.uuid())))
+                .build();
+        this.encoded = this.codec.encode(this.order);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return this.codec.encode(this.order);
+    }
+
+    @Benchmark
+    public CheckoutOrder decode() {
+        return this.codec.decode(this.encoded);
+    }
+}
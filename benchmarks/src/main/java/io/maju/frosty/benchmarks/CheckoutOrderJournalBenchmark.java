@@ -0,0 +1,63 @@
+package io.maju.frosty.benchmarks;
+
+import io.maju.frosty.checkout.CheckoutOrder;
+import io.maju.frosty.checkout.CheckoutOrderEvent;
+import io.maju.frosty.checkout.CheckoutOrderItem;
+import io.maju.frosty.infrastructure.journal.CheckoutOrderJournal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+// time until a checkout is durable with 8 terminals appending at once, syncs are shared between them
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class CheckoutOrderJournalBenchmark {
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private CheckoutOrderJournal journal;
+    private CheckoutOrder order;
+    private CheckoutOrderEvent created;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.journal = new CheckoutOrderJournal(Files.createTempDirectory("checkout-journal"), SEGMENT_SIZE);
+        this.order = CheckoutOrder.builder()
+                .recordEvents(true)
+                .amount(new BigDecimal("21.50"))
+                .customerName("Maria")
+                .item(CheckoutOrderItem.with(new BigDecimal("10.75"), 2, "product-1"))
+                .build();
+        this.created = (CheckoutOrderEvent) this.order.pendingEvents().getFirst();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.journal.close();
+    }
+
+    @Benchmark
+    public long appendCreated() {
+        return this.journal.append(this.order.getId(), this.created);
+    }
+}
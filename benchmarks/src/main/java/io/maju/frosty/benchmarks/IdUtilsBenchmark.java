@@ -0,0 +1,56 @@
+package io.maju.frosty.benchmarks;
+
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.product.ProductID;
+import io.maju.frosty.utils.IdStrategy;
+import io.maju.frosty.utils.IdUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdUtilsBenchmark {
+
+    @Benchmark
+    public String uuid() {
+        return IdUtils.uuid();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String uuidContended() {
+        return IdUtils.uuid();
+    }
+
+    @Benchmark
+    public ProductID productId() {
+        return ProductID.unique(IdStrategy.RANDOM);
+    }
+
+    @Benchmark
+    public ProductID timeOrderedProductId() {
+        return ProductID.unique(IdStrategy.TIME_ORDERED);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ProductID timeOrderedProductIdContended() {
+        return ProductID.unique(IdStrategy.TIME_ORDERED);
+    }
+
+    @Benchmark
+    public CheckinOrderID checkinOrderId() {
+        return CheckinOrderID.unique();
+    }
+}
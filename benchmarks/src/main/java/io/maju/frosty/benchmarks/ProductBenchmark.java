@@ -0,0 +1,46 @@
+package io.maju.frosty.benchmarks;
+
+import io.maju.frosty.product.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductBenchmark {
+
+    private final BigDecimal price = new BigDecimal("10.75");
+    private final LocalDate expirationDate = LocalDate.of(2030, 12, 31);
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        this.product = Product.newProduct("Sorvete", "Sorvete de chocolate", true, price, expirationDate, 10);
+    }
+
+    @Benchmark
+    public Product newProduct() {
+        return Product.newProduct("Sorvete", "Sorvete de chocolate", true, price, expirationDate, 10);
+    }
+
+    @Benchmark
+    public Product update() {
+        return this.product.update("Picolé", "Picolé de morango", true, price, expirationDate, 20);
+    }
+}
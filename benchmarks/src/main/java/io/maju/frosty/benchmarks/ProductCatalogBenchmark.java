@@ -0,0 +1,57 @@
+package io.maju.frosty.benchmarks;
+
+import io.maju.frosty.infrastructure.product.ProductCatalog;
+import io.maju.frosty.infrastructure.product.ProductInMemoryGateway;
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductCatalogBenchmark {
+
+    @Param({"100000"})
+    public int productCount;
+
+    private ProductCatalog catalog;
+    private ProductID[] ids;
+
+    @Setup
+    public void setUp() {
+        final var aGateway = new ProductInMemoryGateway();
+        this.ids = new ProductID[productCount];
+        for (int i = 0; i < productCount; i++) {
+            this.ids[i] = aGateway.create(Product.newProduct("Sorvete " + i, null, true, BigDecimal.TEN, null, i)).getId();
+        }
+        this.catalog = new ProductCatalog(aGateway).rebuild();
+    }
+
+    @Benchmark
+    public Optional<Product> findById() {
+        return this.catalog.findById(this.ids[ThreadLocalRandom.current().nextInt(productCount)]);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return this.catalog.contains(this.ids[ThreadLocalRandom.current().nextInt(productCount)]);
+    }
+}
@@ -0,0 +1,55 @@
+package io.maju.frosty.benchmarks;
+
+import io.maju.frosty.infrastructure.stock.AtomicStockCounter;
+import io.maju.frosty.infrastructure.stock.StockCounter;
+import io.maju.frosty.infrastructure.stock.StripedStockCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// one hot product shared by 32 threads; a stock of 16 keeps the striped counter collapsing
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class StockCounterBenchmark {
+
+    @Param({"atomic", "striped"})
+    public String counter;
+
+    @Param({"1000000", "16"})
+    public int stock;
+
+    private StockCounter stockCounter;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.stockCounter = "striped".equals(counter) ? new StripedStockCounter() : new AtomicStockCounter();
+        this.stockCounter.reset(stock);
+    }
+
+    @Benchmark
+    public boolean reserveAndRelease() {
+        return this.stockCounter.reserve(1) && this.stockCounter.release(1);
+    }
+
+    @Benchmark
+    public long available() {
+        return this.stockCounter.available();
+    }
+}
@@ -1,8 +1,50 @@
 package io.maju.frosty;
 
+import io.maju.frosty.events.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private final List<DomainEvent> pendingEvents = new ArrayList<>();
+    private long version;
+    private boolean recordingEvents;
+
     protected AggregateRoot(final ID id) {
         super(id);
     }
+
+    // events raised since the aggregate was created or loaded, oldest first
+    public List<DomainEvent> pendingEvents() {
+        return Collections.unmodifiableList(pendingEvents);
+    }
+
+    // number of events already stored for this aggregate
+    public long version() {
+        return version;
+    }
+
+    // only aggregates kept in an event store record their events, nothing else would ever clear them
+    public boolean isRecordingEvents() {
+        return recordingEvents;
+    }
+
+    public void markEventsCommitted(final long aVersion) {
+        this.pendingEvents.clear();
+        this.version = aVersion;
+    }
+
+    protected void recordEvents() {
+        this.recordingEvents = true;
+    }
+
+    // the event is only built when it is recorded
+    protected void raise(final Supplier<? extends DomainEvent> anEvent) {
+        if (this.recordingEvents) {
+            this.pendingEvents.add(anEvent.get());
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package io.maju.frosty;
+
+import io.maju.frosty.utils.IdUtils;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Identifier backed by the two halves of a 128 bit UUID. Ids parsed from text keep that text as
+ * their {@link #getValue()}, so stored keys still match; generated ids render the compact lower
+ * case form the first time it is asked for. Equality, hashing and the binary codecs only use the
+ * bits, so dashed and compact, upper and lower case texts of one UUID are the same id. Values that
+ * are not UUIDs (legacy or external ids) are kept as opaque strings and compared as such.
+ */
+public abstract class BinaryIdentifier extends Identifier {
+
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final boolean binary;
+    private String value;
+
+    protected BinaryIdentifier(final long mostSigBits, final long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.binary = true;
+    }
+
+    protected BinaryIdentifier(final String aValue) {
+        Objects.requireNonNull(aValue);
+        this.binary = IdUtils.isUuid(aValue);
+        this.mostSigBits = binary ? IdUtils.mostSignificantBits(aValue) : 0L;
+        this.leastSigBits = binary ? IdUtils.leastSignificantBits(aValue) : 0L;
+        this.value = aValue;
+    }
+
+    @Override
+    public String getValue() {
+        var aValue = this.value;
+        if (aValue == null) {
+            aValue = IdUtils.hex(mostSigBits, leastSigBits);
+            this.value = aValue;
+        }
+        return aValue;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    // creation time embedded in time-ordered ids
+    public Optional<Instant> timestamp() {
+        if (!binary || IdUtils.versionOf(mostSigBits) != 7) {
+            return Optional.empty();
+        }
+        return Optional.of(Instant.ofEpochMilli(IdUtils.timestampOf(mostSigBits)));
+    }
+
+    public long mostSignificantBits() {
+        return mostSigBits;
+    }
+
+    public long leastSignificantBits() {
+        return leastSigBits;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final var that = (BinaryIdentifier) o;
+        if (binary && that.binary) {
+            return mostSigBits == that.mostSigBits && leastSigBits == that.leastSigBits;
+        }
+        return !binary && !that.binary && value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        if (binary) {
+            final long bits = mostSigBits ^ leastSigBits;
+            return (int) (bits >> 32) ^ (int) bits;
+        }
+        return value.hashCode();
+    }
+}
@@ -0,0 +1,24 @@
+package io.maju.frosty;
+
+import java.util.List;
+
+/**
+ * Items added, changed and removed since an aggregate was created or loaded, each at most once, so a
+ * gateway can write only those instead of every item of the aggregate.
+ */
+public record ChangeSet<T>(List<T> added, List<T> changed, List<T> removed) {
+
+    public ChangeSet {
+        added = List.copyOf(added);
+        changed = List.copyOf(changed);
+        removed = List.copyOf(removed);
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+
+    public int size() {
+        return added.size() + changed.size() + removed.size();
+    }
+}
@@ -0,0 +1,89 @@
+package io.maju.frosty;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Result of a batch existence check: one bit per requested id, in the order the ids were given.
+ * {@link #missing()} and {@link #present()} are views over the requested ids, nothing is copied.
+ */
+public final class ExistenceSet<ID extends Identifier> {
+
+    private final List<ID> ids;
+    private final BitSet present;
+
+    private ExistenceSet(final List<ID> ids, final BitSet present) {
+        this.ids = Objects.requireNonNull(ids);
+        this.present = Objects.requireNonNull(present);
+    }
+
+    public static <ID extends Identifier> ExistenceSet<ID> of(final List<ID> ids, final BitSet present) {
+        if (present.length() > ids.size()) {
+            throw new IllegalArgumentException("'present' has bits beyond the requested ids");
+        }
+        return new ExistenceSet<>(ids, present);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public boolean exists(final int index) {
+        Objects.checkIndex(index, ids.size());
+        return present.get(index);
+    }
+
+    public boolean allExist() {
+        return present.cardinality() == ids.size();
+    }
+
+    public int presentCount() {
+        return present.cardinality();
+    }
+
+    public int missingCount() {
+        return ids.size() - present.cardinality();
+    }
+
+    public List<ID> ids() {
+        return ids;
+    }
+
+    public List<ID> present() {
+        return new Selection(true);
+    }
+
+    public List<ID> missing() {
+        return new Selection(false);
+    }
+
+    // the requested ids whose bit matches, positions resolved once on creation
+    private final class Selection extends AbstractList<ID> implements RandomAccess {
+
+        private final int[] positions;
+
+        private Selection(final boolean exists) {
+            final var count = exists ? presentCount() : missingCount();
+            this.positions = new int[count];
+            var index = exists ? present.nextSetBit(0) : present.nextClearBit(0);
+            for (int i = 0; i < count; i++) {
+                this.positions[i] = index;
+                index = exists ? present.nextSetBit(index + 1) : present.nextClearBit(index + 1);
+            }
+        }
+
+        @Override
+        public ID get(final int index) {
+            Objects.checkIndex(index, this.positions.length);
+            return ids.get(this.positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return this.positions.length;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.maju.frosty;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Fixed-point amount kept as an unscaled {@code long} plus a decimal scale, e.g. {@code 10.75} is
+ * {@code (1075, 2)}. Arithmetic follows {@link BigDecimal} scale rules and only falls back to a
+ * {@link BigDecimal} when a result no longer fits in a long. Equality is numeric: {@code 10.0} equals {@code 10.00}.
+ */
+public final class Money extends ValueObject implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L, 0, BigDecimal.ZERO);
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L
+    };
+
+    private final long units;
+    private final int scale;
+    private final boolean compact;
+    private BigDecimal decimal;
+
+    private Money(final long units, final int scale, final BigDecimal decimal) {
+        this.units = units;
+        this.scale = scale;
+        this.compact = true;
+        this.decimal = decimal;
+    }
+
+    private Money(final BigDecimal decimal) {
+        this.units = 0L;
+        this.scale = decimal.scale();
+        this.compact = false;
+        this.decimal = decimal;
+    }
+
+    public static Money of(final BigDecimal aValue) {
+        Objects.requireNonNull(aValue, "'value' should not be null");
+        final BigInteger unscaled = aValue.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            return new Money(unscaled.longValue(), aValue.scale(), aValue);
+        }
+        return new Money(aValue);
+    }
+
+    public static Money of(final long units, final int scale) {
+        return new Money(units, scale, null);
+    }
+
+    public static Money of(final String aValue) {
+        return of(new BigDecimal(aValue));
+    }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    public long units() {
+        if (!compact) {
+            throw new ArithmeticException("Money value does not fit in a long: " + decimal);
+        }
+        return units;
+    }
+
+    public int scale() {
+        return scale;
+    }
+
+    public int signum() {
+        return compact ? Long.signum(units) : decimal.signum();
+    }
+
+    public boolean isPositive() {
+        return signum() > 0;
+    }
+
+    public Money negate() {
+        if (compact && units != Long.MIN_VALUE) {
+            return new Money(-units, scale, null);
+        }
+        return of(toBigDecimal().negate());
+    }
+
+    public Money plus(final Money other) {
+        if (this.compact && other.compact) {
+            final int aScale = Math.max(this.scale, other.scale);
+            try {
+                return new Money(Math.addExact(rescale(this, aScale), rescale(other, aScale)), aScale, null);
+            } catch (final ArithmeticException overflow) {
+                // falls through to BigDecimal
+            }
+        }
+        return of(this.toBigDecimal().add(other.toBigDecimal()));
+    }
+
+    public Money minus(final Money other) {
+        return plus(other.negate());
+    }
+
+    public Money times(final long aQuantity) {
+        if (compact) {
+            try {
+                return new Money(Math.multiplyExact(units, aQuantity), scale, null);
+            } catch (final ArithmeticException overflow) {
+                // falls through to BigDecimal
+            }
+        }
+        return of(toBigDecimal().multiply(BigDecimal.valueOf(aQuantity)));
+    }
+
+    // exact rescale; throws ArithmeticException when digits would be lost
+    public Money withScale(final int aScale) {
+        if (aScale == scale) {
+            return this;
+        }
+        if (compact) {
+            try {
+                if (aScale > scale) {
+                    return new Money(rescale(this, aScale), aScale, null);
+                }
+                final long divisor = powerOfTen(scale - aScale);
+                if (units % divisor == 0) {
+                    return new Money(units / divisor, aScale, null);
+                }
+            } catch (final ArithmeticException overflow) {
+                // falls through to BigDecimal
+            }
+        }
+        return of(toBigDecimal().setScale(aScale, RoundingMode.UNNECESSARY));
+    }
+
+    public BigDecimal toBigDecimal() {
+        var aDecimal = this.decimal;
+        if (aDecimal == null) {
+            aDecimal = BigDecimal.valueOf(units, scale);
+            this.decimal = aDecimal;
+        }
+        return aDecimal;
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        if (this.compact && other.compact) {
+            final int aScale = Math.max(this.scale, other.scale);
+            try {
+                return Long.compare(rescale(this, aScale), rescale(other, aScale));
+            } catch (final ArithmeticException overflow) {
+                // falls through to BigDecimal
+            }
+        }
+        return this.toBigDecimal().compareTo(other.toBigDecimal());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return compareTo((Money) o) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        if (compact) {
+            long aUnits = units;
+            int aScale = scale;
+            if (aUnits == 0) {
+                return 0;
+            }
+            while (aUnits % 10 == 0) {
+                aUnits /= 10;
+                aScale--;
+            }
+            return 31 * Long.hashCode(aUnits) + aScale;
+        }
+        final var stripped = decimal.stripTrailingZeros();
+        if (stripped.unscaledValue().bitLength() < Long.SIZE) {
+            return 31 * Long.hashCode(stripped.unscaledValue().longValue()) + stripped.scale();
+        }
+        return stripped.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static long rescale(final Money aMoney, final int aScale) {
+        return Math.multiplyExact(aMoney.units, powerOfTen(aScale - aMoney.scale));
+    }
+
+    private static long powerOfTen(final int exponent) {
+        if (exponent < 0 || exponent >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("Scale difference out of range: " + exponent);
+        }
+        return POWERS_OF_TEN[exponent];
+    }
+}
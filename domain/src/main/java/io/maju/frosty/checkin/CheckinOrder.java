@@ -1,25 +1,40 @@
 package io.maju.frosty.checkin;
 
 import io.maju.frosty.AggregateRoot;
+import io.maju.frosty.ChangeSet;
+import io.maju.frosty.Money;
+import io.maju.frosty.events.EventStream;
 import io.maju.frosty.exceptions.NotificationException;
 import io.maju.frosty.utils.InstantUtils;
+import io.maju.frosty.utils.ItemChangeTracker;
+import io.maju.frosty.utils.RunningTotal;
 import io.maju.frosty.validation.ValidationHandler;
 import io.maju.frosty.validation.handler.Notification;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class CheckinOrder extends AggregateRoot<CheckinOrderID> {
 
+    public static final int PARALLEL_VALIDATION_CHUNK = 4_096;
+
     private List<CheckinOrderItem> items;
+    private final RunningTotal total = new RunningTotal();
+    private final ItemChangeTracker<CheckinOrderItem> itemChanges =
+            new ItemChangeTracker<>(CheckinOrderItem::id, CheckinOrder::sameValues);
     private boolean canceled;
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private final int maxValidationErrors;
 
     private CheckinOrder(
             final CheckinOrderID anId,
@@ -28,15 +43,34 @@ public class CheckinOrder extends AggregateRoot<CheckinOrderID> {
             final Instant aCreatedAt,
             final Instant aUpdatedAt,
             final Instant aDeletedAt
+    ) {
+        this(anId, items, isCanceled, aCreatedAt, aUpdatedAt, aDeletedAt, false, Notification.UNBOUNDED);
+    }
+
+    private CheckinOrder(
+            final CheckinOrderID anId,
+            final List<CheckinOrderItem> items,
+            final boolean isCanceled,
+            final Instant aCreatedAt,
+            final Instant aUpdatedAt,
+            final Instant aDeletedAt,
+            final boolean parallelValidation,
+            final int maxValidationErrors
     ) {
         super(anId);
+        this.maxValidationErrors = maxValidationErrors;
         this.items = items;
         this.canceled = isCanceled;
         this.createdAt = Objects.requireNonNull(aCreatedAt, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(aUpdatedAt, "'updatedAt' should not be null");
         this.deletedAt = aDeletedAt;
 
-        selfValidate();
+        recomputeTotal();
+        if (parallelValidation && items != null && items.size() > PARALLEL_VALIDATION_CHUNK) {
+            selfValidateInParallel();
+        } else {
+            selfValidate();
+        }
     }
 
     public static CheckinOrder newOrder(
@@ -49,6 +83,10 @@ public class CheckinOrder extends AggregateRoot<CheckinOrderID> {
         return new CheckinOrder(anId, items, isCanceled, now, now, deletedAt);
     }
 
+    public static Builder builder() {
+        return new Builder();
+    }
+
     public static CheckinOrder with(
             final CheckinOrderID anId,
             final List<CheckinOrderItem> items,
@@ -63,7 +101,7 @@ public class CheckinOrder extends AggregateRoot<CheckinOrderID> {
     public static CheckinOrder with(final CheckinOrder anCheckinOrder) {
         return new CheckinOrder(
                 anCheckinOrder.id,
-                anCheckinOrder.items,
+                new ArrayList<>(anCheckinOrder.items),
                 anCheckinOrder.canceled,
                 anCheckinOrder.createdAt,
                 anCheckinOrder.updatedAt,
@@ -71,46 +109,102 @@ public class CheckinOrder extends AggregateRoot<CheckinOrderID> {
         );
     }
 
+    // rebuilds the order from its last snapshot, or its creation, and the events stored after it
+    public static CheckinOrder replay(final EventStream<CheckinOrderEvent> aStream) {
+        final var events = aStream.events();
+        final var anOrder = switch (events.getFirst()) {
+            case CheckinOrderEvent.Created e -> with(
+                    e.id(), new ArrayList<>(e.items()), e.canceled(),
+                    e.occurredOn(), e.occurredOn(), e.canceled() ? e.occurredOn() : null
+            );
+            case CheckinOrderEvent.Snapshot e -> with(
+                    e.id(), new ArrayList<>(e.items()), e.canceled(), e.createdAt(), e.updatedAt(), e.deletedAt()
+            );
+            default -> throw new IllegalArgumentException("'events' should start with a creation or a snapshot");
+        };
+        for (int i = 1; i < events.size(); i++) {
+            anOrder.apply(events.get(i));
+        }
+        anOrder.recordEvents();
+        anOrder.markEventsCommitted(aStream.version());
+        return anOrder;
+    }
+
+    public CheckinOrderEvent.Snapshot snapshot() {
+        return new CheckinOrderEvent.Snapshot(
+                this.id, this.items, this.canceled, this.createdAt, this.updatedAt, this.deletedAt
+        );
+    }
+
     @Override
     public void validate(final ValidationHandler handler) {
         new CheckinOrderValidator(this, handler).validate();
     }
 
+    // the new items are validated first, a failed update leaves the order as it was
     public CheckinOrder update(
             final List<CheckinOrderItem> items,
             final boolean isCanceled
     ) {
-        if (isCanceled) {
-            cancel();
-        } else {
-            uncancel();
-        }
+        final var previousItems = this.items;
         this.items = new ArrayList<>(items != null ? items : Collections.emptyList());
+        recomputeTotal();
+        try {
+            selfValidate();
+        } catch (final RuntimeException e) {
+            this.items = previousItems;
+            recomputeTotal();
+            throw e;
+        }
+        if (isCanceled != this.canceled) {
+            if (isCanceled) {
+                cancel();
+            } else {
+                uncancel();
+            }
+        }
         this.updatedAt = InstantUtils.now();
-        selfValidate();
+        this.itemChanges.replaced(previousItems != null ? previousItems : List.of(), this.items);
+        raise(() -> new CheckinOrderEvent.Updated(this.items, this.updatedAt));
         return this;
     }
 
     public CheckinOrder uncancel() {
+        final var now = InstantUtils.now();
         this.deletedAt = null;
         this.canceled = false;
-        this.updatedAt = InstantUtils.now();
+        this.updatedAt = now;
+        raise(() -> new CheckinOrderEvent.Uncanceled(now));
         return this;
     }
 
     public CheckinOrder cancel() {
+        final var now = InstantUtils.now();
         if (deletedAt() == null) {
-            this.deletedAt = InstantUtils.now();
+            this.deletedAt = now;
         }
         this.canceled = true;
-        this.updatedAt = InstantUtils.now();
+        this.updatedAt = now;
+        raise(() -> new CheckinOrderEvent.Canceled(now));
         return this;
     }
 
     public BigDecimal total() {
-        return this.items.stream().
-                map(CheckinOrderItem::total)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return this.total.value().toBigDecimal();
+    }
+
+    public Money totalAsMoney() {
+        return this.total.value();
+    }
+
+    // items added, changed and removed since the order was created or loaded
+    public ChangeSet<CheckinOrderItem> itemChanges() {
+        return this.itemChanges.changes();
+    }
+
+    // the gateway wrote the current items, later changes are tracked from here
+    public void markItemsPersisted() {
+        this.itemChanges.clear();
     }
 
     public List<CheckinOrderItem> items() {
@@ -134,8 +228,37 @@ public class CheckinOrder extends AggregateRoot<CheckinOrderID> {
     }
 
     private void selfValidate() {
-        final var notification = Notification.create();
-        validate(notification);
+        selfValidate(0);
+    }
+
+    // items before 'fromIndex' were already validated when they were added
+    private void selfValidate(final int fromIndex) {
+        final var notification = Notification.bounded(this.maxValidationErrors);
+        new CheckinOrderValidator(this, notification, fromIndex).validate();
+
+        if (notification.hasError()) {
+            throw new NotificationException("Failed to create a Aggregate Order", notification);
+        }
+    }
+
+    // validates fixed-size chunks concurrently and merges the errors back in item order
+    private void selfValidateInParallel() {
+        final int size = this.items.size();
+        final int chunks = (size + PARALLEL_VALIDATION_CHUNK - 1) / PARALLEL_VALIDATION_CHUNK;
+
+        final var chunkNotifications = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    final var aNotification = Notification.bounded(this.maxValidationErrors);
+                    final int from = chunk * PARALLEL_VALIDATION_CHUNK;
+                    final int to = Math.min(size, from + PARALLEL_VALIDATION_CHUNK);
+                    new CheckinOrderValidator(this, aNotification, from, to).validate();
+                    return aNotification;
+                })
+                .toList();
+
+        final var notification = Notification.bounded(this.maxValidationErrors);
+        chunkNotifications.forEach(notification::append);
 
         if (notification.hasError()) {
             throw new NotificationException("Failed to create a Aggregate Order", notification);
@@ -146,10 +269,7 @@ public class CheckinOrder extends AggregateRoot<CheckinOrderID> {
         if (anCheckinOrderItem == null) {
             return this;
         }
-        this.items.add(anCheckinOrderItem);
-        this.updatedAt = InstantUtils.now();
-
-        selfValidate();
+        appendItems(List.of(anCheckinOrderItem));
         return this;
     }
 
@@ -157,19 +277,214 @@ public class CheckinOrder extends AggregateRoot<CheckinOrderID> {
         if (checkinOrderItems == null || checkinOrderItems.isEmpty()) {
             return this;
         }
-        this.items.addAll(checkinOrderItems);
-        this.updatedAt = InstantUtils.now();
-
-        selfValidate();
+        appendItems(checkinOrderItems);
         return this;
     }
 
+    // only the appended items are validated, they are taken back out if any of them is invalid
+    private void appendItems(final List<CheckinOrderItem> someItems) {
+        final int fromIndex = this.items.size();
+        this.items.addAll(someItems);
+        someItems.forEach(this::addToTotal);
+
+        try {
+            selfValidate(fromIndex);
+        } catch (final RuntimeException e) {
+            final var appended = this.items.subList(fromIndex, this.items.size());
+            appended.forEach(this::subtractFromTotal);
+            appended.clear();
+            throw e;
+        }
+        this.updatedAt = InstantUtils.now();
+        someItems.forEach(this.itemChanges::added);
+        raise(() -> new CheckinOrderEvent.ItemsAdded(someItems, this.updatedAt));
+    }
+
     public CheckinOrder removeOrderItem(final CheckinOrderItem anCheckinOrderItem) {
         if (anCheckinOrderItem == null) {
             return this;
         }
-        this.items.remove(anCheckinOrderItem);
+        final int index = this.items.indexOf(anCheckinOrderItem);
         this.updatedAt = InstantUtils.now();
+        if (index >= 0) {
+            final var removed = this.items.remove(index);
+            this.total.subtract(removed.priceAsMoney(), removed.quantity());
+            this.itemChanges.removed(removed);
+            raise(() -> new CheckinOrderEvent.ItemRemoved(removed.id(), this.updatedAt));
+        }
         return this;
     }
+
+    // items are equal by id, a change keeps the id and differs here
+    private static boolean sameValues(final CheckinOrderItem anItem, final CheckinOrderItem other) {
+        return Objects.equals(anItem.name(), other.name())
+                && anItem.priceAsMoney().equals(other.priceAsMoney())
+                && Objects.equals(anItem.quantity(), other.quantity())
+                && Objects.equals(anItem.productId(), other.productId());
+    }
+
+    // replayed events were validated when they were raised
+    private void apply(final CheckinOrderEvent anEvent) {
+        switch (anEvent) {
+            case CheckinOrderEvent.ItemsAdded e -> {
+                this.items.addAll(e.items());
+                e.items().forEach(this::addToTotal);
+            }
+            case CheckinOrderEvent.ItemRemoved e -> {
+                for (int i = 0; i < this.items.size(); i++) {
+                    if (this.items.get(i).id().equals(e.itemId())) {
+                        final var removed = this.items.remove(i);
+                        this.total.subtract(removed.priceAsMoney(), removed.quantity());
+                        break;
+                    }
+                }
+            }
+            case CheckinOrderEvent.Canceled e -> {
+                if (this.deletedAt == null) {
+                    this.deletedAt = e.occurredOn();
+                }
+                this.canceled = true;
+            }
+            case CheckinOrderEvent.Uncanceled e -> {
+                this.deletedAt = null;
+                this.canceled = false;
+            }
+            case CheckinOrderEvent.Updated e -> {
+                this.items = new ArrayList<>(e.items());
+                recomputeTotal();
+            }
+            case CheckinOrderEvent.Created e -> throw new IllegalArgumentException("'events' should have one creation");
+            case CheckinOrderEvent.Snapshot e -> throw new IllegalArgumentException("'events' should have one snapshot");
+        }
+        this.updatedAt = anEvent.occurredOn();
+    }
+
+    private void recomputeTotal() {
+        this.total.clear();
+        if (this.items != null) {
+            this.items.forEach(this::addToTotal);
+        }
+    }
+
+    private void addToTotal(final CheckinOrderItem anItem) {
+        if (anItem != null) {
+            this.total.add(anItem.priceAsMoney(), anItem.quantity());
+        }
+    }
+
+    private void subtractFromTotal(final CheckinOrderItem anItem) {
+        if (anItem != null) {
+            this.total.subtract(anItem.priceAsMoney(), anItem.quantity());
+        }
+    }
+
+    public static final class Builder {
+
+        private static final int DEFAULT_EXPECTED_SIZE = 10;
+
+        private CheckinOrderID id;
+        private boolean canceled;
+        private boolean parallelValidation;
+        private int maxValidationErrors = Notification.UNBOUNDED;
+        private boolean recordEvents;
+        private int expectedSize = DEFAULT_EXPECTED_SIZE;
+        private ArrayList<CheckinOrderItem> items;
+
+        private Builder() {
+        }
+
+        public Builder id(final CheckinOrderID anId) {
+            this.id = anId;
+            return this;
+        }
+
+        public Builder canceled(final boolean isCanceled) {
+            this.canceled = isCanceled;
+            return this;
+        }
+
+        // validates large orders in chunks on the common fork-join pool
+        public Builder parallelValidation(final boolean isParallel) {
+            this.parallelValidation = isParallel;
+            return this;
+        }
+
+        // reports at most that many invalid items, every one of them by default
+        public Builder maxValidationErrors(final int aMaxValidationErrors) {
+            if (aMaxValidationErrors < 1) {
+                throw new IllegalArgumentException("'maxValidationErrors' should be greater than zero");
+            }
+            this.maxValidationErrors = aMaxValidationErrors;
+            return this;
+        }
+
+        // keeps the events of the order, from its creation on, for an event-sourced repository
+        public Builder recordEvents(final boolean isRecording) {
+            this.recordEvents = isRecording;
+            return this;
+        }
+
+        public Builder expectedSize(final int anExpectedSize) {
+            this.expectedSize = Math.max(anExpectedSize, 0);
+            if (this.items != null) {
+                this.items.ensureCapacity(this.expectedSize);
+            }
+            return this;
+        }
+
+        public Builder item(final CheckinOrderItem anItem) {
+            items().add(anItem);
+            return this;
+        }
+
+        public Builder items(final Iterable<? extends CheckinOrderItem> someItems) {
+            if (someItems instanceof Collection<? extends CheckinOrderItem> aCollection) {
+                final var target = items();
+                target.ensureCapacity(target.size() + aCollection.size());
+                target.addAll(aCollection);
+                return this;
+            }
+            return items(someItems.iterator());
+        }
+
+        public Builder items(final Iterator<? extends CheckinOrderItem> anIterator) {
+            final var target = items();
+            anIterator.forEachRemaining(target::add);
+            return this;
+        }
+
+        public Builder items(final Stream<? extends CheckinOrderItem> aStream) {
+            final var spliterator = aStream.spliterator();
+            final var target = items();
+            final long size = spliterator.getExactSizeIfKnown();
+            if (size > 0 && size < Integer.MAX_VALUE) {
+                target.ensureCapacity(target.size() + (int) size);
+            }
+            spliterator.forEachRemaining(target::add);
+            return this;
+        }
+
+        public CheckinOrder build() {
+            final var anId = this.id != null ? this.id : CheckinOrderID.unique();
+            final var now = InstantUtils.now();
+            final var deletedAt = this.canceled ? now : null;
+            final var someItems = items();
+            this.items = null;
+            final var anOrder = new CheckinOrder(
+                    anId, someItems, this.canceled, now, now, deletedAt, this.parallelValidation, this.maxValidationErrors
+            );
+            if (this.recordEvents) {
+                anOrder.recordEvents();
+                anOrder.raise(() -> new CheckinOrderEvent.Created(anId, someItems, this.canceled, now));
+            }
+            return anOrder;
+        }
+
+        private ArrayList<CheckinOrderItem> items() {
+            if (this.items == null) {
+                this.items = new ArrayList<>(this.expectedSize);
+            }
+            return this.items;
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package io.maju.frosty.checkin;
+
+import io.maju.frosty.events.DomainEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Changes made to a {@link CheckinOrder}. Each event carries only what changed, except
+ * {@link Created} and {@link Snapshot} which hold the whole order.
+ */
+public sealed interface CheckinOrderEvent extends DomainEvent {
+
+    record Created(
+            CheckinOrderID id,
+            List<CheckinOrderItem> items,
+            boolean canceled,
+            Instant occurredOn
+    ) implements CheckinOrderEvent {
+
+        public Created {
+            Objects.requireNonNull(id);
+            items = List.copyOf(items);
+        }
+    }
+
+    record ItemsAdded(List<CheckinOrderItem> items, Instant occurredOn) implements CheckinOrderEvent {
+
+        public ItemsAdded {
+            items = List.copyOf(items);
+        }
+    }
+
+    record ItemRemoved(String itemId, Instant occurredOn) implements CheckinOrderEvent {
+    }
+
+    record Canceled(Instant occurredOn) implements CheckinOrderEvent {
+    }
+
+    record Uncanceled(Instant occurredOn) implements CheckinOrderEvent {
+    }
+
+    // the items were replaced as a whole
+    record Updated(List<CheckinOrderItem> items, Instant occurredOn) implements CheckinOrderEvent {
+
+        public Updated {
+            items = List.copyOf(items);
+        }
+    }
+
+    record Snapshot(
+            CheckinOrderID id,
+            List<CheckinOrderItem> items,
+            boolean canceled,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant deletedAt
+    ) implements CheckinOrderEvent {
+
+        public Snapshot {
+            Objects.requireNonNull(id);
+            items = List.copyOf(items);
+        }
+
+        @Override
+        public Instant occurredOn() {
+            return updatedAt;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package io.maju.frosty.checkin;
 
+import io.maju.frosty.pagination.CursorPagination;
+import io.maju.frosty.pagination.CursorQuery;
 import io.maju.frosty.pagination.Pagination;
 import io.maju.frosty.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CheckinOrderGateway {
 
@@ -14,9 +17,15 @@ public interface CheckinOrderGateway {
 
     Optional<CheckinOrder> findById(CheckinOrderID anId);
 
+    // writes only the items in itemChanges(), then calls markItemsPersisted() on the order
     CheckinOrder update(CheckinOrder anCheckinOrder);
 
     Pagination<CheckinOrder> findAll(SearchQuery aQuery);
 
+    CursorPagination<CheckinOrder> findAll(CursorQuery aQuery);
+
+    // every match of the query terms in sort order, ignoring page and perPage; close it when done
+    Stream<CheckinOrder> streamAll(SearchQuery aQuery);
+
     List<CheckinOrderID> existsByIds(Iterable<CheckinOrderID> ids);
 }
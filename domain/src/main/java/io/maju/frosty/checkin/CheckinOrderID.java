@@ -1,46 +1,43 @@
 package io.maju.frosty.checkin;
 
-import io.maju.frosty.Identifier;
+import io.maju.frosty.BinaryIdentifier;
+import io.maju.frosty.utils.IdStrategy;
 
 import java.util.Objects;
-import java.util.UUID;
 
-public class CheckinOrderID extends Identifier {
+public class CheckinOrderID extends BinaryIdentifier {
 
-    private final String value;
+    private static volatile IdStrategy strategy = IdStrategy.TIME_ORDERED;
 
     public CheckinOrderID(final String aValue) {
-        Objects.requireNonNull(aValue);
-        this.value = aValue;
+        super(aValue);
+    }
+
+    private CheckinOrderID(final long mostSigBits, final long leastSigBits) {
+        super(mostSigBits, leastSigBits);
     }
 
     public static CheckinOrderID unique() {
-        return new CheckinOrderID(UUID.randomUUID().toString());
+        return unique(strategy);
     }
 
-    public static CheckinOrderID from(final String anId) {
-        return new CheckinOrderID(anId);
+    public static CheckinOrderID unique(final IdStrategy aStrategy) {
+        return new CheckinOrderID(aStrategy.mostSignificantBits(), aStrategy.leastSignificantBits());
     }
 
-    public static CheckinOrderID from() {
-        return new CheckinOrderID(UUID.randomUUID().toString());
+    public static void useStrategy(final IdStrategy aStrategy) {
+        strategy = Objects.requireNonNull(aStrategy);
     }
 
-    @Override
-    public String getValue() {
-        return value;
+    public static CheckinOrderID from(final String anId) {
+        return new CheckinOrderID(anId);
     }
 
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final var that = (CheckinOrderID) o;
-        return Objects.equals(getValue(), that.getValue());
+    public static CheckinOrderID from() {
+        return unique();
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hashCode(getValue());
+    public static CheckinOrderID from(final long mostSigBits, final long leastSigBits) {
+        return new CheckinOrderID(mostSigBits, leastSigBits);
     }
 }
@@ -1,5 +1,6 @@
 package io.maju.frosty.checkin;
 
+import io.maju.frosty.Money;
 import io.maju.frosty.ValueObject;
 import io.maju.frosty.utils.IdUtils;
 
@@ -10,7 +11,7 @@ public class CheckinOrderItem extends ValueObject {
 
     private final String id;
     private final String name;
-    private final BigDecimal price;
+    private final Money price;
     private final Integer quantity;
     private final String productId;
 
@@ -23,7 +24,7 @@ public class CheckinOrderItem extends ValueObject {
     ) {
         this.id = Objects.requireNonNull(anId, "'id' should not be null");
         this.name = Objects.requireNonNull(aName, "'name' should not be null");
-        this.price = Objects.requireNonNull(aPrice, "'price' should not be null");
+        this.price = Money.of(Objects.requireNonNull(aPrice, "'price' should not be null"));
         this.quantity = Objects.requireNonNull(aQuantity, "'quantity' should not be null");
         this.productId = Objects.requireNonNull(aProductId, "'productId' should not be null");
     }
@@ -48,7 +49,11 @@ public class CheckinOrderItem extends ValueObject {
     }
 
     public BigDecimal total() {
-        return this.price.multiply(BigDecimal.valueOf(this.quantity));
+        return totalAsMoney().toBigDecimal();
+    }
+
+    public Money totalAsMoney() {
+        return this.price.times(this.quantity);
     }
 
     public String id() {
@@ -60,6 +65,10 @@ public class CheckinOrderItem extends ValueObject {
     }
 
     public BigDecimal price() {
+        return price.toBigDecimal();
+    }
+
+    public Money priceAsMoney() {
         return price;
     }
 
@@ -0,0 +1,54 @@
+package io.maju.frosty.checkin;
+
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.product.ProductGateway;
+import io.maju.frosty.product.ProductID;
+import io.maju.frosty.product.ProductStockGateway;
+import io.maju.frosty.validation.Error;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Adds the items of a received {@link CheckinOrder} to the stock of their products. Quantities
+ * are summed per product and handed to the stock gateway as one batch keyed by the order id, so
+ * receiving the same order twice changes nothing the second time.
+ */
+public class CheckinOrderStockReceipt {
+
+    private final ProductGateway productGateway;
+    private final ProductStockGateway stockGateway;
+
+    public CheckinOrderStockReceipt(final ProductGateway aProductGateway, final ProductStockGateway aStockGateway) {
+        this.productGateway = Objects.requireNonNull(aProductGateway);
+        this.stockGateway = Objects.requireNonNull(aStockGateway);
+    }
+
+    // false when the order had already been received
+    public boolean receive(final CheckinOrder anOrder) {
+        if (anOrder.isCanceled()) {
+            throw DomainException.with(Error.of("'checkinOrder' %s is canceled", anOrder.getId().getValue()));
+        }
+
+        final var quantities = quantitiesByProduct(anOrder);
+        final var anExistence = this.productGateway.existenceOf(new ArrayList<>(quantities.keySet()));
+        if (!anExistence.allExist()) {
+            throw DomainException.with(anExistence.missing().stream()
+                    .map(anId -> Error.of("'product' %s was not found", anId.getValue()))
+                    .toList());
+        }
+
+        return this.stockGateway.receive(anOrder.getId(), quantities);
+    }
+
+    private static Map<ProductID, Integer> quantitiesByProduct(final CheckinOrder anOrder) {
+        final var quantities = new TreeMap<ProductID, Integer>(Comparator.comparing(ProductID::getValue));
+        for (final var anItem : anOrder.items()) {
+            quantities.merge(ProductID.from(anItem.productId()), anItem.quantity(), Math::addExact);
+        }
+        return quantities;
+    }
+}
@@ -4,18 +4,38 @@ import io.maju.frosty.validation.Error;
 import io.maju.frosty.validation.ValidationHandler;
 import io.maju.frosty.validation.Validator;
 
-import java.math.BigDecimal;
-
 public class CheckinOrderValidator extends Validator {
 
     public static final int NAME_MIN_LENGTH = 3;
     public static final int NAME_MAX_LENGTH = 255;
 
     private final CheckinOrder checkinOrder;
+    private final int fromIndex;
+    private final int toIndex;
 
     protected CheckinOrderValidator(final CheckinOrder anCheckinOrder, final ValidationHandler aHandler) {
+        this(anCheckinOrder, aHandler, 0);
+    }
+
+    // validates the order-level constraints and only the items from 'fromIndex' onwards
+    protected CheckinOrderValidator(
+            final CheckinOrder anCheckinOrder,
+            final ValidationHandler aHandler,
+            final int fromIndex
+    ) {
+        this(anCheckinOrder, aHandler, fromIndex, Integer.MAX_VALUE);
+    }
+
+    protected CheckinOrderValidator(
+            final CheckinOrder anCheckinOrder,
+            final ValidationHandler aHandler,
+            final int fromIndex,
+            final int toIndex
+    ) {
         super(aHandler);
         this.checkinOrder = anCheckinOrder;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
     }
 
     @Override
@@ -36,46 +56,46 @@ public class CheckinOrderValidator extends Validator {
             return;
         }
 
-        var index = 0;
-        for (final var item : items) {
-            checkItemConstraints(item, index);
-            index++;
+        final var iterator = items.listIterator(Math.min(this.fromIndex, items.size()));
+        while (iterator.hasNext() && iterator.nextIndex() < this.toIndex && !this.validationHandler().isFull()) {
+            final int index = iterator.nextIndex();
+            checkItemConstraints(iterator.next(), index);
         }
     }
 
     private void checkItemConstraints(final CheckinOrderItem item, final int index) {
 
         if (item == null) {
-            this.validationHandler().append(new Error("'item[%d]' should not be null".formatted(index)));
+            this.validationHandler().append(Error.of("'item[%d]' should not be null", index));
             return;
         }
 
         if (item.name().isBlank()) {
-            this.validationHandler().append(new Error("'item[%d].name' should not be empty".formatted(index)));
+            this.validationHandler().append(Error.of("'item[%d].name' should not be empty", index));
             return;
         }
 
         final int length = item.name().trim().length();
         if (length > NAME_MAX_LENGTH || length < NAME_MIN_LENGTH) {
             this.validationHandler()
-                    .append(new Error("'item[%d].name' must be between 3 and 255 characters".formatted(index)));
+                    .append(Error.of("'item[%d].name' must be between 3 and 255 characters", index));
             return;
         }
 
-        if (item.price().compareTo(BigDecimal.ZERO) <= 0) {
+        if (!item.priceAsMoney().isPositive()) {
             this.validationHandler()
-                    .append(new Error("'item[%d].price' should be greater than zero".formatted(index)));
+                    .append(Error.of("'item[%d].price' should be greater than zero", index));
             return;
         }
 
         if (item.quantity() <= 0) {
             this.validationHandler()
-                    .append(new Error("'item[%d].quantity' should be greater than or equal to zero".formatted(index)));
+                    .append(Error.of("'item[%d].quantity' should be greater than or equal to zero", index));
             return;
         }
 
         if (item.productId().isBlank()) {
-            this.validationHandler().append(new Error("'item[%d].productId' should not be empty".formatted(index)));
+            this.validationHandler().append(Error.of("'item[%d].productId' should not be empty", index));
         }
     }
 }
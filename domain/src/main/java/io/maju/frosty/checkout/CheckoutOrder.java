@@ -1,22 +1,35 @@
 package io.maju.frosty.checkout;
 
 import io.maju.frosty.AggregateRoot;
+import io.maju.frosty.ChangeSet;
+import io.maju.frosty.Money;
+import io.maju.frosty.events.EventStream;
 import io.maju.frosty.exceptions.NotificationException;
 import io.maju.frosty.utils.InstantUtils;
+import io.maju.frosty.utils.ItemChangeTracker;
+import io.maju.frosty.utils.RunningTotal;
 import io.maju.frosty.validation.ValidationHandler;
 import io.maju.frosty.validation.handler.Notification;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
 
-    private BigDecimal amount;
+    public static final int PARALLEL_TOTAL_CHUNK = 4_096;
+
     private List<CheckoutOrderItem> items;
+    private final RunningTotal total = new RunningTotal();
+    private final ItemChangeTracker<CheckoutOrderItem> itemChanges =
+            new ItemChangeTracker<>(CheckoutOrderItem::id, CheckoutOrder::sameValues);
     private boolean open;
     private CheckoutOrderStatus status;
     private String customerName;
@@ -36,7 +49,6 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
             final Instant aDeletedAt
     ) {
         super(anId);
-        this.amount = anAmount;
         this.items = items;
         this.open = isOpen;
         this.status = aStatus;
@@ -45,7 +57,8 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
         this.updatedAt = Objects.requireNonNull(aUpdatedAt, "'updatedAt' should not be null");
         this.deletedAt = aDeletedAt;
 
-        selfValidate();
+        recomputeTotal();
+        selfValidate(anAmount != null ? Money.of(anAmount) : null);
     }
 
     public static CheckoutOrder newOrder(
@@ -61,6 +74,10 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
         return new CheckoutOrder(anId, anAmount, items, isOpen, aStatus, aCustomerName, now, now, deletedAt);
     }
 
+    public static Builder builder() {
+        return new Builder();
+    }
+
     public static CheckoutOrder with(
             final CheckoutOrderID anId,
             final BigDecimal anAmount,
@@ -78,8 +95,8 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
     public static CheckoutOrder with(final CheckoutOrder anCheckoutOrder) {
         return new CheckoutOrder(
                 anCheckoutOrder.id,
-                anCheckoutOrder.amount,
-                anCheckoutOrder.items,
+                anCheckoutOrder.amount(),
+                new ArrayList<>(anCheckoutOrder.items),
                 anCheckoutOrder.open,
                 anCheckoutOrder.status,
                 anCheckoutOrder.customerName,
@@ -89,6 +106,35 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
         );
     }
 
+    // rebuilds the order from its last snapshot, or its creation, and the events stored after it
+    public static CheckoutOrder replay(final EventStream<CheckoutOrderEvent> aStream) {
+        final var events = aStream.events();
+        final var anOrder = switch (events.getFirst()) {
+            case CheckoutOrderEvent.Created e -> with(
+                    e.id(), e.amount().toBigDecimal(), new ArrayList<>(e.items()), e.open(), e.status(),
+                    e.customerName(), e.occurredOn(), e.occurredOn(), e.open() ? null : e.occurredOn()
+            );
+            case CheckoutOrderEvent.Snapshot e -> with(
+                    e.id(), e.amount().toBigDecimal(), new ArrayList<>(e.items()), e.open(), e.status(),
+                    e.customerName(), e.createdAt(), e.updatedAt(), e.deletedAt()
+            );
+            default -> throw new IllegalArgumentException("'events' should start with a creation or a snapshot");
+        };
+        for (int i = 1; i < events.size(); i++) {
+            anOrder.apply(events.get(i));
+        }
+        anOrder.recordEvents();
+        anOrder.markEventsCommitted(aStream.version());
+        return anOrder;
+    }
+
+    public CheckoutOrderEvent.Snapshot snapshot() {
+        return new CheckoutOrderEvent.Snapshot(
+                this.id, amountAsMoney(), this.items, this.open, this.status, this.customerName,
+                this.createdAt, this.updatedAt, this.deletedAt
+        );
+    }
+
     @Override
     public void validate(final ValidationHandler handler) {
         new CheckoutOrderValidator(this, handler).validate();
@@ -105,39 +151,70 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
         } else {
             close(aStatus);
         }
-        this.amount = anAmount;
+        final var previousItems = this.items;
         this.items = new ArrayList<>(items != null ? items : Collections.emptyList());
         this.updatedAt = InstantUtils.now();
-        selfValidate();
+        recomputeTotal();
+        selfValidate(anAmount != null ? Money.of(anAmount) : null);
+        this.itemChanges.replaced(previousItems != null ? previousItems : List.of(), this.items);
+        raise(() -> new CheckoutOrderEvent.Updated(amountAsMoney(), this.items, this.updatedAt));
         return this;
     }
 
     public CheckoutOrder open() {
+        final var now = InstantUtils.now();
         this.deletedAt = null;
         this.open = true;
         this.status = CheckoutOrderStatus.PENDING;
-        this.updatedAt = InstantUtils.now();
+        this.updatedAt = now;
+        raise(() -> new CheckoutOrderEvent.Opened(now));
         return this;
     }
 
     public CheckoutOrder close(final CheckoutOrderStatus newStatus) {
+        final var now = InstantUtils.now();
         if (deletedAt() == null) {
-            this.deletedAt = InstantUtils.now();
+            this.deletedAt = now;
         }
         this.open = false;
         this.status = newStatus;
-        this.updatedAt = InstantUtils.now();
+        this.updatedAt = now;
 
         selfValidate();
+        raise(() -> new CheckoutOrderEvent.Closed(newStatus, now));
         return this;
     }
 
+    // the amount the caller states on creation and update is checked against the items, from then
+    // on it is the items total
     public BigDecimal amount() {
-        return amount;
+        return this.total.value().toBigDecimal();
+    }
+
+    public Money amountAsMoney() {
+        return this.total.value();
+    }
+
+    public BigDecimal total() {
+        return this.total.value().toBigDecimal();
+    }
+
+    public Money totalAsMoney() {
+        return this.total.value();
+    }
+
+    // items added, changed and removed since the order was created or loaded
+    public ChangeSet<CheckoutOrderItem> itemChanges() {
+        return this.itemChanges.changes();
+    }
+
+    // the gateway wrote the current items, later changes are tracked from here
+    public void markItemsPersisted() {
+        this.itemChanges.clear();
     }
 
     public List<CheckoutOrderItem> items() {
-        return items;
+        return items != null ? Collections.unmodifiableList(items) : null;
     }
 
     public CheckoutOrderStatus status() {
@@ -165,8 +242,12 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
     }
 
     private void selfValidate() {
+        selfValidate(amountAsMoney());
+    }
+
+    private void selfValidate(final Money aStatedAmount) {
         final var notification = Notification.create();
-        validate(notification);
+        new CheckoutOrderValidator(this, aStatedAmount, notification).validate();
 
         if (notification.hasError()) {
             throw new NotificationException("Failed to create a Aggregate Order", notification);
@@ -178,7 +259,10 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
             return this;
         }
         this.items.add(anCheckoutOrderItem);
+        addToTotal(anCheckoutOrderItem);
         this.updatedAt = InstantUtils.now();
+        this.itemChanges.added(anCheckoutOrderItem);
+        raise(() -> new CheckoutOrderEvent.ItemsAdded(List.of(anCheckoutOrderItem), this.updatedAt));
         return this;
     }
 
@@ -187,7 +271,10 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
             return this;
         }
         this.items.addAll(checkoutOrderItems);
+        checkoutOrderItems.forEach(this::addToTotal);
         this.updatedAt = InstantUtils.now();
+        checkoutOrderItems.forEach(this.itemChanges::added);
+        raise(() -> new CheckoutOrderEvent.ItemsAdded(checkoutOrderItems, this.updatedAt));
         return this;
     }
 
@@ -195,8 +282,211 @@ public class CheckoutOrder extends AggregateRoot<CheckoutOrderID> {
         if (anCheckoutOrderItem == null) {
             return this;
         }
-        this.items.remove(anCheckoutOrderItem);
+        final int index = this.items.indexOf(anCheckoutOrderItem);
         this.updatedAt = InstantUtils.now();
+        if (index >= 0) {
+            final var removed = this.items.remove(index);
+            this.total.subtract(removed.priceAsMoney(), removed.quantity());
+                this.itemChanges.removed(removed);
+            raise(() -> new CheckoutOrderEvent.ItemRemoved(removed.id(), this.updatedAt));
+        }
         return this;
     }
+
+    // items are equal by id, a change keeps the id and differs here
+    private static boolean sameValues(final CheckoutOrderItem anItem, final CheckoutOrderItem other) {
+        return anItem.priceAsMoney().equals(other.priceAsMoney())
+                && Objects.equals(anItem.quantity(), other.quantity())
+                && Objects.equals(anItem.productId(), other.productId());
+    }
+
+    // replayed events were validated when they were raised
+    private void apply(final CheckoutOrderEvent anEvent) {
+        switch (anEvent) {
+            case CheckoutOrderEvent.ItemsAdded e -> {
+                this.items.addAll(e.items());
+                e.items().forEach(this::addToTotal);
+                    }
+            case CheckoutOrderEvent.ItemRemoved e -> {
+                for (int i = 0; i < this.items.size(); i++) {
+                    if (this.items.get(i).id().equals(e.itemId())) {
+                        final var removed = this.items.remove(i);
+                        this.total.subtract(removed.priceAsMoney(), removed.quantity());
+                                        break;
+                    }
+                }
+            }
+            case CheckoutOrderEvent.Opened e -> {
+                this.deletedAt = null;
+                this.open = true;
+                this.status = CheckoutOrderStatus.PENDING;
+            }
+            case CheckoutOrderEvent.Closed e -> {
+                if (this.deletedAt == null) {
+                    this.deletedAt = e.occurredOn();
+                }
+                this.open = false;
+                this.status = e.status();
+            }
+            case CheckoutOrderEvent.Updated e -> {
+                this.items = new ArrayList<>(e.items());
+                recomputeTotal();
+            }
+            case CheckoutOrderEvent.Created e -> throw new IllegalArgumentException("'events' should have one creation");
+            case CheckoutOrderEvent.Snapshot e -> throw new IllegalArgumentException("'events' should have one snapshot");
+        }
+        this.updatedAt = anEvent.occurredOn();
+    }
+
+    // wholesale orders have tens of thousands of lines, those are summed in chunks on the common pool
+    private void recomputeTotal() {
+        this.total.clear();
+        if (this.items == null) {
+            return;
+        }
+        if (this.items.size() <= PARALLEL_TOTAL_CHUNK) {
+            this.items.forEach(this::addToTotal);
+            return;
+        }
+
+        final var someItems = this.items;
+        final int size = someItems.size();
+        final int chunks = (size + PARALLEL_TOTAL_CHUNK - 1) / PARALLEL_TOTAL_CHUNK;
+        IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    final var aTotal = new RunningTotal();
+                    final int from = chunk * PARALLEL_TOTAL_CHUNK;
+                    final int to = Math.min(size, from + PARALLEL_TOTAL_CHUNK);
+                    for (int i = from; i < to; i++) {
+                        addTo(aTotal, someItems.get(i));
+                    }
+                    return aTotal;
+                })
+                .toList()
+                .forEach(this.total::addAll);
+    }
+
+    private void addToTotal(final CheckoutOrderItem anItem) {
+        addTo(this.total, anItem);
+    }
+
+    private static void addTo(final RunningTotal aTotal, final CheckoutOrderItem anItem) {
+        if (anItem != null) {
+            aTotal.add(anItem.priceAsMoney(), anItem.quantity());
+        }
+    }
+
+    public static final class Builder {
+
+        private static final int DEFAULT_EXPECTED_SIZE = 10;
+
+        private CheckoutOrderID id;
+        private BigDecimal amount;
+        private boolean open = true;
+        private CheckoutOrderStatus status = CheckoutOrderStatus.PENDING;
+        private String customerName;
+        private boolean recordEvents;
+        private int expectedSize = DEFAULT_EXPECTED_SIZE;
+        private ArrayList<CheckoutOrderItem> items;
+
+        private Builder() {
+        }
+
+        public Builder id(final CheckoutOrderID anId) {
+            this.id = anId;
+            return this;
+        }
+
+        public Builder amount(final BigDecimal anAmount) {
+            this.amount = anAmount;
+            return this;
+        }
+
+        public Builder open(final boolean isOpen) {
+            this.open = isOpen;
+            return this;
+        }
+
+        public Builder status(final CheckoutOrderStatus aStatus) {
+            this.status = aStatus;
+            return this;
+        }
+
+        public Builder customerName(final String aCustomerName) {
+            this.customerName = aCustomerName;
+            return this;
+        }
+
+        // keeps the events of the order, from its creation on, for an event-sourced repository
+        public Builder recordEvents(final boolean isRecording) {
+            this.recordEvents = isRecording;
+            return this;
+        }
+
+        public Builder expectedSize(final int anExpectedSize) {
+            this.expectedSize = Math.max(anExpectedSize, 0);
+            if (this.items != null) {
+                this.items.ensureCapacity(this.expectedSize);
+            }
+            return this;
+        }
+
+        public Builder item(final CheckoutOrderItem anItem) {
+            items().add(anItem);
+            return this;
+        }
+
+        public Builder items(final Iterable<? extends CheckoutOrderItem> someItems) {
+            if (someItems instanceof Collection<? extends CheckoutOrderItem> aCollection) {
+                final var target = items();
+                target.ensureCapacity(target.size() + aCollection.size());
+                target.addAll(aCollection);
+                return this;
+            }
+            return items(someItems.iterator());
+        }
+
+        public Builder items(final Iterator<? extends CheckoutOrderItem> anIterator) {
+            final var target = items();
+            anIterator.forEachRemaining(target::add);
+            return this;
+        }
+
+        public Builder items(final Stream<? extends CheckoutOrderItem> aStream) {
+            final var spliterator = aStream.spliterator();
+            final var target = items();
+            final long size = spliterator.getExactSizeIfKnown();
+            if (size > 0 && size < Integer.MAX_VALUE) {
+                target.ensureCapacity(target.size() + (int) size);
+            }
+            spliterator.forEachRemaining(target::add);
+            return this;
+        }
+
+        public CheckoutOrder build() {
+            final var anId = this.id != null ? this.id : CheckoutOrderID.unique();
+            final var now = InstantUtils.now();
+            final var deletedAt = this.open ? null : now;
+            final var someItems = items();
+            this.items = null;
+            final var anOrder = new CheckoutOrder(
+                    anId, this.amount, someItems, this.open, this.status, this.customerName, now, now, deletedAt
+            );
+            if (this.recordEvents) {
+                anOrder.recordEvents();
+                anOrder.raise(() -> new CheckoutOrderEvent.Created(
+                        anId, anOrder.amountAsMoney(), someItems, this.open, this.status, this.customerName, now
+                ));
+            }
+            return anOrder;
+        }
+
+        private ArrayList<CheckoutOrderItem> items() {
+            if (this.items == null) {
+                this.items = new ArrayList<>(this.expectedSize);
+            }
+            return this.items;
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package io.maju.frosty.checkout;
+
+import io.maju.frosty.Money;
+import io.maju.frosty.events.DomainEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Changes made to a {@link CheckoutOrder}. Each event carries only what changed, except
+ * {@link Created} and {@link Snapshot} which hold the whole order.
+ */
+public sealed interface CheckoutOrderEvent extends DomainEvent {
+
+    record Created(
+            CheckoutOrderID id,
+            Money amount,
+            List<CheckoutOrderItem> items,
+            boolean open,
+            CheckoutOrderStatus status,
+            String customerName,
+            Instant occurredOn
+    ) implements CheckoutOrderEvent {
+
+        public Created {
+            Objects.requireNonNull(id);
+            items = List.copyOf(items);
+        }
+    }
+
+    // the amount follows the items total
+    record ItemsAdded(List<CheckoutOrderItem> items, Instant occurredOn) implements CheckoutOrderEvent {
+
+        public ItemsAdded {
+            items = List.copyOf(items);
+        }
+    }
+
+    record ItemRemoved(String itemId, Instant occurredOn) implements CheckoutOrderEvent {
+    }
+
+    record Opened(Instant occurredOn) implements CheckoutOrderEvent {
+    }
+
+    record Closed(CheckoutOrderStatus status, Instant occurredOn) implements CheckoutOrderEvent {
+    }
+
+    // the amount and the items were replaced as a whole
+    record Updated(Money amount, List<CheckoutOrderItem> items, Instant occurredOn) implements CheckoutOrderEvent {
+
+        public Updated {
+            items = List.copyOf(items);
+        }
+    }
+
+    record Snapshot(
+            CheckoutOrderID id,
+            Money amount,
+            List<CheckoutOrderItem> items,
+            boolean open,
+            CheckoutOrderStatus status,
+            String customerName,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant deletedAt
+    ) implements CheckoutOrderEvent {
+
+        public Snapshot {
+            Objects.requireNonNull(id);
+            items = List.copyOf(items);
+        }
+
+        @Override
+        public Instant occurredOn() {
+            return updatedAt;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package io.maju.frosty.checkout;
 
+import io.maju.frosty.pagination.CursorPagination;
+import io.maju.frosty.pagination.CursorQuery;
 import io.maju.frosty.pagination.Pagination;
 import io.maju.frosty.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CheckoutOrderGateway {
 
@@ -14,9 +17,15 @@ public interface CheckoutOrderGateway {
 
     Optional<CheckoutOrder> findById(CheckoutOrderID anId);
 
+    // writes only the items in itemChanges(), then calls markItemsPersisted() on the order
     CheckoutOrder update(CheckoutOrder anCheckinOrder);
 
     Pagination<CheckoutOrder> findAll(SearchQuery aQuery);
 
+    CursorPagination<CheckoutOrder> findAll(CursorQuery aQuery);
+
+    // every match of the query terms in sort order, ignoring page and perPage; close it when done
+    Stream<CheckoutOrder> streamAll(SearchQuery aQuery);
+
     List<CheckoutOrderID> existsByIds(Iterable<CheckoutOrderID> ids);
 }
@@ -1,46 +1,43 @@
 package io.maju.frosty.checkout;
 
-import io.maju.frosty.Identifier;
+import io.maju.frosty.BinaryIdentifier;
+import io.maju.frosty.utils.IdStrategy;
 
 import java.util.Objects;
-import java.util.UUID;
 
-public class CheckoutOrderID extends Identifier {
+public class CheckoutOrderID extends BinaryIdentifier {
 
-    private final String value;
+    private static volatile IdStrategy strategy = IdStrategy.TIME_ORDERED;
 
     public CheckoutOrderID(final String aValue) {
-        Objects.requireNonNull(aValue);
-        this.value = aValue;
+        super(aValue);
+    }
+
+    private CheckoutOrderID(final long mostSigBits, final long leastSigBits) {
+        super(mostSigBits, leastSigBits);
     }
 
     public static CheckoutOrderID unique() {
-        return new CheckoutOrderID(UUID.randomUUID().toString());
+        return unique(strategy);
     }
 
-    public static CheckoutOrderID from(final String anId) {
-        return new CheckoutOrderID(anId);
+    public static CheckoutOrderID unique(final IdStrategy aStrategy) {
+        return new CheckoutOrderID(aStrategy.mostSignificantBits(), aStrategy.leastSignificantBits());
     }
 
-    public static CheckoutOrderID from() {
-        return new CheckoutOrderID(UUID.randomUUID().toString());
+    public static void useStrategy(final IdStrategy aStrategy) {
+        strategy = Objects.requireNonNull(aStrategy);
     }
 
-    @Override
-    public String getValue() {
-        return value;
+    public static CheckoutOrderID from(final String anId) {
+        return new CheckoutOrderID(anId);
     }
 
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final var that = (CheckoutOrderID) o;
-        return Objects.equals(getValue(), that.getValue());
+    public static CheckoutOrderID from() {
+        return unique();
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hashCode(getValue());
+    public static CheckoutOrderID from(final long mostSigBits, final long leastSigBits) {
+        return new CheckoutOrderID(mostSigBits, leastSigBits);
     }
 }
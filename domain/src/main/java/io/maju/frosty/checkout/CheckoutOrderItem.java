@@ -1,5 +1,6 @@
 package io.maju.frosty.checkout;
 
+import io.maju.frosty.Money;
 import io.maju.frosty.ValueObject;
 import io.maju.frosty.utils.IdUtils;
 
@@ -9,7 +10,7 @@ import java.util.Objects;
 public class CheckoutOrderItem extends ValueObject {
 
     private final String id;
-    private final BigDecimal price;
+    private final Money price;
     private final Integer quantity;
     private final String productId;
 
@@ -20,7 +21,7 @@ public class CheckoutOrderItem extends ValueObject {
             final String aProductId
     ) {
         this.id = Objects.requireNonNull(anId);
-        this.price = Objects.requireNonNull(aPrice);
+        this.price = Money.of(Objects.requireNonNull(aPrice));
         this.quantity = Objects.requireNonNull(aQuantity);
         this.productId = Objects.requireNonNull(aProductId);
     }
@@ -42,11 +43,23 @@ public class CheckoutOrderItem extends ValueObject {
         return new CheckoutOrderItem(anId, aPrice, aQuantity, aProductId);
     }
 
+    public BigDecimal total() {
+        return totalAsMoney().toBigDecimal();
+    }
+
+    public Money totalAsMoney() {
+        return this.price.times(this.quantity);
+    }
+
     public String id() {
         return id;
     }
 
     public BigDecimal price() {
+        return price.toBigDecimal();
+    }
+
+    public Money priceAsMoney() {
         return price;
     }
 
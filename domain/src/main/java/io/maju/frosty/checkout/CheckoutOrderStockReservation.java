@@ -0,0 +1,85 @@
+package io.maju.frosty.checkout;
+
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.product.ProductID;
+import io.maju.frosty.product.ProductStockGateway;
+import io.maju.frosty.validation.Error;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Reserves, commits and releases the stock of every product in a {@link CheckoutOrder}.
+ * Quantities are summed per product and products are always visited in id order, so two orders
+ * sharing products never wait on each other's row locks in opposite order.
+ */
+public class CheckoutOrderStockReservation {
+
+    private final ProductStockGateway stockGateway;
+
+    public CheckoutOrderStockReservation(final ProductStockGateway aStockGateway) {
+        this.stockGateway = Objects.requireNonNull(aStockGateway);
+    }
+
+    // all or nothing: on a shortage the products already reserved are released again
+    public void reserve(final CheckoutOrder anOrder) {
+        final var reserved = new ArrayList<Map.Entry<ProductID, Integer>>();
+        final var errors = new ArrayList<Error>();
+
+        for (final var anEntry : quantitiesByProduct(anOrder).entrySet()) {
+            if (this.stockGateway.reserve(anEntry.getKey(), anEntry.getValue())) {
+                reserved.add(anEntry);
+            } else {
+                errors.add(Error.of(
+                        "'product' %s has not enough stock for %d units",
+                        anEntry.getKey().getValue(),
+                        anEntry.getValue()
+                ));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            reserved.forEach(anEntry -> this.stockGateway.release(anEntry.getKey(), anEntry.getValue()));
+            throw DomainException.with(errors);
+        }
+    }
+
+    public void commit(final CheckoutOrder anOrder) {
+        final var errors = new ArrayList<Error>();
+        quantitiesByProduct(anOrder).forEach((anId, aQuantity) -> {
+            if (!this.stockGateway.commit(anId, aQuantity)) {
+                errors.add(Error.of("'product' %s has not %d reserved units to commit", anId.getValue(), aQuantity));
+            }
+        });
+        throwIfAny(errors);
+    }
+
+    public void release(final CheckoutOrder anOrder) {
+        final var errors = new ArrayList<Error>();
+        quantitiesByProduct(anOrder).forEach((anId, aQuantity) -> {
+            if (!this.stockGateway.release(anId, aQuantity)) {
+                errors.add(Error.of("'product' %s has not %d reserved units to release", anId.getValue(), aQuantity));
+            }
+        });
+        throwIfAny(errors);
+    }
+
+    // the other products were still moved, only the ones listed were not reserved
+    private static void throwIfAny(final List<Error> errors) {
+        if (!errors.isEmpty()) {
+            throw DomainException.with(errors);
+        }
+    }
+
+    private static Map<ProductID, Integer> quantitiesByProduct(final CheckoutOrder anOrder) {
+        final var quantities = new TreeMap<ProductID, Integer>(Comparator.comparing(ProductID::getValue));
+        for (final var anItem : anOrder.items()) {
+            quantities.merge(ProductID.from(anItem.productId()), anItem.quantity(), Math::addExact);
+        }
+        return quantities;
+    }
+}
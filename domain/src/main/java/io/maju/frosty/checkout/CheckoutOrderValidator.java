@@ -1,21 +1,31 @@
 package io.maju.frosty.checkout;
 
+import io.maju.frosty.Money;
 import io.maju.frosty.validation.Error;
 import io.maju.frosty.validation.ValidationHandler;
 import io.maju.frosty.validation.Validator;
 
-import java.math.BigDecimal;
-
 public class CheckoutOrderValidator extends Validator {
 
     public static final int NAME_MIN_LENGTH = 3;
     public static final int NAME_MAX_LENGTH = 255;
 
     private final CheckoutOrder checkoutOrder;
+    private final Money amount;
 
     protected CheckoutOrderValidator(final CheckoutOrder anCheckoutOrder, final ValidationHandler aHandler) {
+        this(anCheckoutOrder, anCheckoutOrder.amountAsMoney(), aHandler);
+    }
+
+    // checks the amount stated by the caller against the items total
+    protected CheckoutOrderValidator(
+            final CheckoutOrder anCheckoutOrder,
+            final Money anAmount,
+            final ValidationHandler aHandler
+    ) {
         super(aHandler);
         this.checkoutOrder = anCheckoutOrder;
+        this.amount = anAmount;
     }
 
     @Override
@@ -40,15 +50,22 @@ public class CheckoutOrderValidator extends Validator {
     }
 
     private void checkAmountConstraints() {
-        final var amount = this.checkoutOrder.amount();
+        final var amount = this.amount;
 
         if (amount == null) {
             this.validationHandler().append(new Error("'amount' should not be null"));
             return;
         }
 
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (!amount.isPositive()) {
             this.validationHandler().append(new Error("'amount' should be greater than zero"));
+            return;
+        }
+
+        if (this.checkoutOrder.items() != null && !amount.equals(this.checkoutOrder.totalAsMoney())) {
+            this.validationHandler().append(
+                    Error.of("'amount' should be equal to the items total %s", this.checkoutOrder.totalAsMoney())
+            );
         }
     }
 
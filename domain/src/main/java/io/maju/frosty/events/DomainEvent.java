@@ -0,0 +1,8 @@
+package io.maju.frosty.events;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+
+    Instant occurredOn();
+}
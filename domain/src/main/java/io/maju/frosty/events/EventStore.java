@@ -0,0 +1,19 @@
+package io.maju.frosty.events;
+
+import io.maju.frosty.Identifier;
+
+import java.util.List;
+
+/**
+ * Append-only log of the events of each aggregate. {@link #snapshot} stores a single event holding
+ * the whole state at a version, so {@link #load} only has to return the events appended after it.
+ */
+public interface EventStore<ID extends Identifier, E extends DomainEvent> {
+
+    // returns the new version; fails with a DomainException when 'anExpectedVersion' is not the current one
+    long append(ID anId, long anExpectedVersion, List<? extends E> events);
+
+    void snapshot(ID anId, long aVersion, E aSnapshot);
+
+    EventStream<E> load(ID anId);
+}
@@ -0,0 +1,18 @@
+package io.maju.frosty.events;
+
+import java.util.List;
+
+/**
+ * What an {@link EventStore} holds for one aggregate: its latest snapshot, if any, followed by the
+ * events appended after it. {@code version} counts every event ever appended, snapshotted or not.
+ */
+public record EventStream<E extends DomainEvent>(long version, List<E> events) {
+
+    public EventStream {
+        events = List.copyOf(events);
+    }
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+}
@@ -17,14 +17,24 @@ public class DomainException extends NoStacktraceException {
         this.errors = anErrors;
     }
 
+    // the message is rendered from the error only if someone asks for it
     public static DomainException with(final Error anErrors) {
-        return new DomainException(anErrors.message(), List.of(anErrors));
+        return new DomainException(null, List.of(anErrors));
     }
 
     public static DomainException with(final List<Error> anErrors) {
         return new DomainException("", anErrors);
     }
 
+    @Override
+    public String getMessage() {
+        final var aMessage = super.getMessage();
+        if (aMessage == null && errors != null && !errors.isEmpty()) {
+            return errors.getFirst().message();
+        }
+        return aMessage;
+    }
+
     public List<Error> getErrors() {
         return errors;
     }
@@ -0,0 +1,80 @@
+package io.maju.frosty.pagination;
+
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.validation.Error;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the last item of a page: the sort it was read with, its sort key and its id.
+ * Travels to clients as an opaque base64url token.
+ */
+public record Cursor(
+        String sort,
+        String direction,
+        String key,
+        String id
+) {
+
+    private static final int VERSION = 1;
+
+    public Cursor {
+        Objects.requireNonNull(sort, "'sort' should not be null");
+        Objects.requireNonNull(direction, "'direction' should not be null");
+        Objects.requireNonNull(id, "'id' should not be null");
+    }
+
+    public String encode() {
+        final var aBuffer = new ByteArrayOutputStream(64);
+        try (final var anOutput = new DataOutputStream(aBuffer)) {
+            anOutput.writeByte(VERSION);
+            anOutput.writeUTF(sort);
+            anOutput.writeUTF(direction);
+            anOutput.writeBoolean(key != null);
+            if (key != null) {
+                anOutput.writeUTF(key);
+            }
+            anOutput.writeUTF(id);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(aBuffer.toByteArray());
+    }
+
+    public static Cursor decode(final String aToken) {
+        try (final var anInput = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(aToken)))) {
+            if (anInput.readByte() != VERSION) {
+                throw invalid();
+            }
+            final var aSort = anInput.readUTF();
+            final var aDirection = anInput.readUTF();
+            final var aKey = anInput.readBoolean() ? anInput.readUTF() : null;
+            final var anId = anInput.readUTF();
+            if (anInput.available() > 0) {
+                throw invalid();
+            }
+            return new Cursor(aSort, aDirection, aKey, anId);
+        } catch (final IOException | IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    // a cursor only continues the listing it was created for
+    public Cursor requireSort(final String aSort, final String aDirection) {
+        if (!sort.equals(aSort) || !direction.equals(aDirection)) {
+            throw DomainException.with(Error.of("'cursor' was created for sort %s %s", sort, direction));
+        }
+        return this;
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
@@ -0,0 +1,62 @@
+package io.maju.frosty.pagination;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A page read after a {@link Cursor}. The total is only counted when {@link #total()} is
+ * called, and then at most once.
+ */
+public final class CursorPagination<T> {
+
+    private final int perPage;
+    private final String next;
+    private final List<T> items;
+    private final LongSupplier totalSupplier;
+    private volatile Long total;
+
+    public CursorPagination(
+            final int perPage,
+            final String next,
+            final List<T> items,
+            final LongSupplier aTotalSupplier
+    ) {
+        this.perPage = perPage;
+        this.next = next;
+        this.items = items;
+        this.totalSupplier = aTotalSupplier;
+    }
+
+    public int perPage() {
+        return perPage;
+    }
+
+    public Optional<String> next() {
+        return Optional.ofNullable(next);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    public List<T> items() {
+        return items;
+    }
+
+    public long total() {
+        var aTotal = this.total;
+        if (aTotal == null) {
+            aTotal = this.totalSupplier.getAsLong();
+            this.total = aTotal;
+        }
+        return aTotal;
+    }
+
+    public <R> CursorPagination<R> map(final Function<T, R> mapper) {
+        final List<R> aNewList = MappedList.of(this.items, mapper);
+
+        return new CursorPagination<>(perPage, next, aNewList, this::total);
+    }
+}
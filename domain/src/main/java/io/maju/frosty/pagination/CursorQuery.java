@@ -0,0 +1,29 @@
+package io.maju.frosty.pagination;
+
+import java.util.Optional;
+
+public record CursorQuery(
+        String cursor,
+        int perPage,
+        String terms,
+        String sort,
+        String direction
+) {
+
+    public static CursorQuery first(
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        return new CursorQuery(null, perPage, terms, sort, direction);
+    }
+
+    public CursorQuery next(final String aCursor) {
+        return new CursorQuery(aCursor, perPage, terms, sort, direction);
+    }
+
+    public Optional<Cursor> after() {
+        return cursor == null || cursor.isBlank() ? Optional.empty() : Optional.of(Cursor.decode(cursor));
+    }
+}
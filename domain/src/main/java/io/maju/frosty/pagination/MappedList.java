@@ -0,0 +1,102 @@
+package io.maju.frosty.pagination;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Read-only view of a list with a mapper applied on first access. Mapping a mapped list composes
+ * the mappers over the original list, so a page mapped through several layers is still backed by
+ * a single list. Each element is mapped once and kept, so gets, iterations, equals and hashCode
+ * reuse it; the source is expected not to change. Elements are published safely, so the view can be
+ * read from several threads. Mappers should be side-effect free, two threads reading an element for
+ * the first time at once may both map it, and both get the one kept.
+ */
+class MappedList<S, T> extends AbstractList<T> {
+
+    private static final Object NULL = new Object();
+
+    private final List<S> source;
+    private final Function<? super S, ? extends T> mapper;
+    // mapped elements by index, null until mapped, NULL for a mapped null
+    private final AtomicReferenceArray<Object> mapped;
+
+    private MappedList(final List<S> aSource, final Function<? super S, ? extends T> aMapper) {
+        this.source = Objects.requireNonNull(aSource);
+        this.mapper = Objects.requireNonNull(aMapper);
+        this.mapped = new AtomicReferenceArray<>(aSource.size());
+    }
+
+    static <S, T> List<T> of(final List<S> aSource, final Function<? super S, ? extends T> aMapper) {
+        if (aSource instanceof MappedList<?, S> aMappedList) {
+            return aMappedList.andThen(aMapper);
+        }
+        return aSource instanceof RandomAccess
+                ? new RandomAccessMappedList<>(aSource, aMapper)
+                : new MappedList<>(aSource, aMapper);
+    }
+
+    private <R> List<R> andThen(final Function<? super T, ? extends R> aMapper) {
+        return of(this.source, this.mapper.andThen(aMapper));
+    }
+
+    @Override
+    public T get(final int index) {
+        Objects.checkIndex(index, this.mapped.length());
+        final var aValue = this.mapped.get(index);
+        return aValue != null ? unmask(aValue) : map(index, this.source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return this.source.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final var anIterator = this.source.iterator();
+        return new Iterator<>() {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return anIterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                final var aSource = anIterator.next();
+                final int anIndex = this.index++;
+                final var aValue = mapped.get(anIndex);
+                return aValue != null ? unmask(aValue) : map(anIndex, aSource);
+            }
+        };
+    }
+
+    // the first element mapped at the index wins
+    private T map(final int index, final S aSource) {
+        final T aValue = this.mapper.apply(aSource);
+        final Object aMasked = aValue != null ? aValue : NULL;
+        if (this.mapped.compareAndSet(index, null, aMasked)) {
+            return aValue;
+        }
+        return unmask(this.mapped.get(index));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(final Object aValue) {
+        return aValue == NULL ? null : (T) aValue;
+    }
+
+    private static final class RandomAccessMappedList<S, T> extends MappedList<S, T> implements RandomAccess {
+
+        private RandomAccessMappedList(final List<S> aSource, final Function<? super S, ? extends T> aMapper) {
+            super(aSource, aMapper);
+        }
+    }
+}
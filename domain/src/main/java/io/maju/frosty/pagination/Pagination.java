@@ -11,11 +11,7 @@ public record Pagination<T>(
 ) {
 
     public <R> Pagination<R> map(final Function<T, R> mapper) {
-        final List<R> aNewList =
-                this.items
-                        .stream()
-                        .map(mapper)
-                        .toList();
+        final List<R> aNewList = MappedList.of(this.items, mapper);
 
         return new Pagination<>(currentPage(), perPage(), total(), aNewList);
     }
@@ -1,6 +1,7 @@
 package io.maju.frosty.product;
 
 import io.maju.frosty.AggregateRoot;
+import io.maju.frosty.Money;
 import io.maju.frosty.utils.InstantUtils;
 import io.maju.frosty.validation.ValidationHandler;
 
@@ -14,7 +15,7 @@ public class Product extends AggregateRoot<ProductID> {
     private String name;
     private String description;
     private boolean active;
-    private BigDecimal price;
+    private Money price;
     private LocalDate expirationDate;
     private Integer stock;
     private Instant createdAt;
@@ -37,7 +38,7 @@ public class Product extends AggregateRoot<ProductID> {
         this.name = aName;
         this.description = aDescription;
         this.active = isActive;
-        this.price = aPrice;
+        this.price = aPrice != null ? Money.of(aPrice) : null;
         this.expirationDate = anExpirationDate;
         this.stock = aStock;
         this.createdAt = Objects.requireNonNull(aCreatedAt, "'createdAt' should not be null");
@@ -54,7 +55,7 @@ public class Product extends AggregateRoot<ProductID> {
             final Integer aStock
     ) {
         final var anId = ProductID.unique();
-        final var now = Instant.now();
+        final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
         return new Product(anId, aName, aDescription, isActive, aPrice, anExpirationDate, aStock, now, now, deletedAt);
     }
@@ -90,7 +91,7 @@ public class Product extends AggregateRoot<ProductID> {
                 aProduct.name,
                 aProduct.description,
                 aProduct.active,
-                aProduct.price,
+                aProduct.price(),
                 aProduct.expirationDate,
                 aProduct.stock,
                 aProduct.createdAt,
@@ -137,7 +138,7 @@ public class Product extends AggregateRoot<ProductID> {
 
         this.name = aName;
         this.description = aDescription;
-        this.price = aPrice;
+        this.price = aPrice != null ? Money.of(aPrice) : null;
         this.expirationDate = anExpirationDate;
         this.updatedAt = InstantUtils.now();
 
@@ -157,6 +158,10 @@ public class Product extends AggregateRoot<ProductID> {
     }
 
     public BigDecimal price() {
+        return price != null ? price.toBigDecimal() : null;
+    }
+
+    public Money priceAsMoney() {
         return price;
     }
 
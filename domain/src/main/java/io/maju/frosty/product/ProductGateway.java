@@ -1,15 +1,22 @@
 package io.maju.frosty.product;
 
+import io.maju.frosty.ExistenceSet;
+import io.maju.frosty.pagination.CursorPagination;
+import io.maju.frosty.pagination.CursorQuery;
 import io.maju.frosty.pagination.Pagination;
 import io.maju.frosty.pagination.SearchQuery;
 
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductGateway {
 
     Product create(Product aProduct);
 
+    // the stock stays as stored, it only changes through a ProductStockGateway
     Product update(Product aProduct);
 
     Optional<Product> findById(ProductID anId);
@@ -18,5 +25,21 @@ public interface ProductGateway {
 
     Pagination<Product> findAll(SearchQuery aQuery);
 
+    CursorPagination<Product> findAll(CursorQuery aQuery);
+
+    // every match of the query terms in sort order, ignoring page and perPage; close it when done
+    Stream<Product> streamAll(SearchQuery aQuery);
+
     List<ProductID> existsByIds(Iterable<ProductID> ids);
+
+    default ExistenceSet<ProductID> existenceOf(final List<ProductID> ids) {
+        final var existing = new HashSet<>(existsByIds(ids));
+        final var present = new BitSet(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (existing.contains(ids.get(i))) {
+                present.set(i);
+            }
+        }
+        return ExistenceSet.of(ids, present);
+    }
 }
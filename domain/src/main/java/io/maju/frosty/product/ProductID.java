@@ -1,42 +1,39 @@
 package io.maju.frosty.product;
 
-import io.maju.frosty.Identifier;
-import io.maju.frosty.utils.IdUtils;
+import io.maju.frosty.BinaryIdentifier;
+import io.maju.frosty.utils.IdStrategy;
 
 import java.util.Objects;
 
-public class ProductID extends Identifier {
+public class ProductID extends BinaryIdentifier {
 
-    private final String value;
+    private static volatile IdStrategy strategy = IdStrategy.TIME_ORDERED;
 
     private ProductID(final String value) {
-        this.value = Objects.requireNonNull(value);
+        super(value);
     }
 
-    public static ProductID unique() {
-        return ProductID.from(IdUtils.uuid());
+    private ProductID(final long mostSigBits, final long leastSigBits) {
+        super(mostSigBits, leastSigBits);
     }
 
-    public static ProductID from(final String anId) {
-        return new ProductID(anId);
+    public static ProductID unique() {
+        return unique(strategy);
     }
 
-    @Override
-    public String getValue() {
-        return value;
+    public static ProductID unique(final IdStrategy aStrategy) {
+        return new ProductID(aStrategy.mostSignificantBits(), aStrategy.leastSignificantBits());
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        final ProductID that = (ProductID) o;
-        return getValue().equals(that.getValue());
+    public static void useStrategy(final IdStrategy aStrategy) {
+        strategy = Objects.requireNonNull(aStrategy);
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(getValue());
+    public static ProductID from(final String anId) {
+        return new ProductID(anId);
     }
 
+    public static ProductID from(final long mostSigBits, final long leastSigBits) {
+        return new ProductID(mostSigBits, leastSigBits);
+    }
 }
@@ -0,0 +1,27 @@
+package io.maju.frosty.product;
+
+import io.maju.frosty.checkin.CheckinOrderID;
+
+import java.util.Map;
+
+/**
+ * Atomic stock moves for a single product. A reservation takes units out of the available stock
+ * and holds them until it is committed (sold) or released (given back). Each call returns
+ * {@code false} and changes nothing when there is not enough stock, or reserved stock, for it.
+ * Products without stock can not be reserved.
+ * <p>
+ * {@link #receive(CheckinOrderID, Map)} adds received units to the available stock once per
+ * checkin order, a product without stock starts counting from zero.
+ */
+public interface ProductStockGateway {
+
+    boolean reserve(ProductID anId, int aQuantity);
+
+    boolean release(ProductID anId, int aQuantity);
+
+    boolean commit(ProductID anId, int aQuantity);
+
+    // false, and nothing changes, when the checkin order was already received; a missing product
+    // throws a DomainException and changes nothing either
+    boolean receive(CheckinOrderID aCheckinOrderId, Map<ProductID, Integer> quantities);
+}
@@ -4,8 +4,6 @@ import io.maju.frosty.validation.Error;
 import io.maju.frosty.validation.ValidationHandler;
 import io.maju.frosty.validation.Validator;
 
-import java.math.BigDecimal;
-
 public class ProductValidator extends Validator {
 
     public static final int NAME_MIN_LENGTH = 3;
@@ -43,13 +41,13 @@ public class ProductValidator extends Validator {
     }
 
     private void checkPriceConstraints() {
-        final var price = this.product.price();
+        final var price = this.product.priceAsMoney();
         if (price == null) {
             this.validationHandler().append(new Error("'price' should not be null"));
             return;
         }
 
-        if (price.compareTo(BigDecimal.ZERO) <= 0) {
+        if (!price.isPositive()) {
             this.validationHandler().append(new Error("'price' should be greater than zero"));
         }
     }
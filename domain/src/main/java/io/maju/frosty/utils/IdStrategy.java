@@ -0,0 +1,25 @@
+package io.maju.frosty.utils;
+
+public enum IdStrategy {
+
+    RANDOM {
+        @Override
+        public long mostSignificantBits() {
+            return IdUtils.randomMostSignificantBits();
+        }
+    },
+
+    // UUIDv7 layout: sorts by creation time so inserts land at the end of the primary key index
+    TIME_ORDERED {
+        @Override
+        public long mostSignificantBits() {
+            return IdUtils.timeOrderedMostSignificantBits();
+        }
+    };
+
+    public abstract long mostSignificantBits();
+
+    public long leastSignificantBits() {
+        return IdUtils.randomLeastSignificantBits();
+    }
+}
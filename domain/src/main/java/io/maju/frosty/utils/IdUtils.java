@@ -1,13 +1,148 @@
 package io.maju.frosty.utils;
 
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 
 public final class IdUtils {
 
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<TimeOrderedSequence> SEQUENCES =
+            ThreadLocal.withInitial(TimeOrderedSequence::new);
+
     private IdUtils() {
     }
 
     public static String uuid() {
-        return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        return hex(randomMostSignificantBits(), randomLeastSignificantBits());
+    }
+
+    // random (version 4) UUID halves; ThreadLocalRandom keeps generation off SecureRandom's lock
+    public static long randomMostSignificantBits() {
+        return (ThreadLocalRandom.current().nextLong() & ~0xF000L) | 0x4000L;
+    }
+
+    public static long randomLeastSignificantBits() {
+        return (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+
+    // 48 bit unix millis, version 7, then a 12 bit per-thread counter that keeps ids monotonic
+    public static long timeOrderedMostSignificantBits() {
+        return SEQUENCES.get().next();
+    }
+
+    public static long timestampOf(final long timeOrderedMostSigBits) {
+        return timeOrderedMostSigBits >>> 16;
+    }
+
+    public static int versionOf(final long mostSigBits) {
+        return (int) (mostSigBits >> 12) & 0xF;
+    }
+
+    public static String hex(final long mostSigBits, final long leastSigBits) {
+        final var buffer = new byte[32];
+        writeHex(buffer, 0, mostSigBits);
+        writeHex(buffer, 16, leastSigBits);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    // accepts the compact 32 digit form and the canonical dashed form
+    public static boolean isUuid(final String aValue) {
+        if (aValue == null) {
+            return false;
+        }
+
+        final int length = aValue.length();
+        if (length != 32 && length != 36) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            final char c = aValue.charAt(i);
+            if (length == 36 && (i == 8 || i == 13 || i == 18 || i == 23)) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (hexDigit(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static long mostSignificantBits(final String anUuid) {
+        return parseHex(anUuid, 0);
+    }
+
+    public static long leastSignificantBits(final String anUuid) {
+        return parseHex(anUuid, 16);
+    }
+
+    private static long parseHex(final String aValue, final int fromDigit) {
+        long bits = 0;
+        int digit = 0;
+        for (int i = 0; i < aValue.length() && digit < fromDigit + 16; i++) {
+            final char c = aValue.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (digit++ >= fromDigit) {
+                bits = (bits << 4) | hexDigit(c);
+            }
+        }
+        return bits;
+    }
+
+    // ASCII only, Character.digit would also take full width and other Unicode digits
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static void writeHex(final byte[] buffer, final int offset, final long bits) {
+        for (int i = 15; i >= 0; i--) {
+            buffer[offset + 15 - i] = HEX_DIGITS[(int) (bits >>> (i * 4)) & 0xF];
+        }
+    }
+
+    /**
+     * Never stamps a millisecond the clock has not reached: once the counter of a millisecond is
+     * exhausted, after at least 2048 ids, it spins until the clock ticks. When the clock steps back
+     * the sequence keeps counting in its last millisecond to stay monotonic and, once that counter
+     * runs out, moves on to the next millisecond of its own rather than wait out the step. Ids then
+     * run ahead of the clock by the step plus a millisecond per 2048 ids at most, until it catches up.
+     */
+    private static final class TimeOrderedSequence {
+
+        private static final int MAX_COUNTER = 0xFFF;
+
+        private long lastMillis = -1L;
+        private int counter;
+
+        private long next() {
+            long now = System.currentTimeMillis();
+            if (now <= lastMillis && ++this.counter > MAX_COUNTER) {
+                while ((now = System.currentTimeMillis()) == lastMillis) {
+                    Thread.onSpinWait();
+                }
+                if (now < lastMillis) {
+                    now = lastMillis + 1;
+                }
+            }
+            if (now > lastMillis) {
+                this.lastMillis = now;
+                // random start leaves headroom and makes ids from different threads less predictable
+                this.counter = ThreadLocalRandom.current().nextInt(MAX_COUNTER / 2);
+            }
+            return (lastMillis << 16) | 0x7000L | counter;
+        }
     }
 }
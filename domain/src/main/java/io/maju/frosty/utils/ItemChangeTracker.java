@@ -0,0 +1,100 @@
+package io.maju.frosty.utils;
+
+import io.maju.frosty.ChangeSet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Folds item additions and removals into a {@link ChangeSet}: an item added and then removed is no
+ * change at all, and an item removed and added back with other values is a single change. Not
+ * thread-safe: it is owned by the aggregate that holds the items.
+ */
+public final class ItemChangeTracker<T> {
+
+    private final Function<T, String> key;
+    private final BiPredicate<T, T> sameValues;
+    private final LinkedHashMap<String, T> added = new LinkedHashMap<>();
+    private final LinkedHashMap<String, T> changed = new LinkedHashMap<>();
+    private final LinkedHashMap<String, T> removed = new LinkedHashMap<>();
+    // last persisted values of the changed items, removals keep them and additions compare with them
+    private final HashMap<String, T> persisted = new HashMap<>();
+
+    public ItemChangeTracker(final Function<T, String> aKey, final BiPredicate<T, T> aSameValues) {
+        this.key = Objects.requireNonNull(aKey);
+        this.sameValues = Objects.requireNonNull(aSameValues);
+    }
+
+    public void added(final T anItem) {
+        final var aKey = this.key.apply(anItem);
+        final var aRemoved = this.removed.remove(aKey);
+        if (aRemoved == null) {
+            this.added.put(aKey, anItem);
+        } else if (!this.sameValues.test(aRemoved, anItem)) {
+            this.persisted.put(aKey, aRemoved);
+            this.changed.put(aKey, anItem);
+        }
+    }
+
+    public void removed(final T anItem) {
+        final var aKey = this.key.apply(anItem);
+        if (this.added.remove(aKey) != null) {
+            return;
+        }
+        this.changed.remove(aKey);
+        final var aPersisted = this.persisted.remove(aKey);
+        this.removed.putIfAbsent(aKey, aPersisted != null ? aPersisted : anItem);
+    }
+
+    // the whole list was replaced, only the items that differ are tracked
+    public void replaced(final List<T> before, final List<T> after) {
+        final var previous = new LinkedHashMap<String, T>(before.size() * 2);
+        before.forEach(anItem -> previous.put(this.key.apply(anItem), anItem));
+
+        for (final var anItem : after) {
+            final var aKey = this.key.apply(anItem);
+            final var aPrevious = previous.remove(aKey);
+            if (aPrevious == null) {
+                added(anItem);
+            } else if (!this.sameValues.test(aPrevious, anItem)) {
+                if (this.added.containsKey(aKey)) {
+                    this.added.put(aKey, anItem);
+                } else {
+                    changed(aKey, aPrevious, anItem);
+                }
+            }
+        }
+        previous.values().forEach(this::removed);
+    }
+
+    // a change back to the persisted values is no change at all
+    private void changed(final String aKey, final T aPrevious, final T anItem) {
+        final var aPersisted = this.persisted.computeIfAbsent(aKey, k -> aPrevious);
+        if (this.sameValues.test(aPersisted, anItem)) {
+            this.persisted.remove(aKey);
+            this.changed.remove(aKey);
+        } else {
+            this.changed.put(aKey, anItem);
+        }
+    }
+
+    public ChangeSet<T> changes() {
+        return new ChangeSet<>(
+                new ArrayList<>(this.added.values()),
+                new ArrayList<>(this.changed.values()),
+                new ArrayList<>(this.removed.values())
+        );
+    }
+
+    public void clear() {
+        this.added.clear();
+        this.changed.clear();
+        this.removed.clear();
+        this.persisted.clear();
+    }
+}
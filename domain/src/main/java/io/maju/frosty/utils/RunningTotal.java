@@ -0,0 +1,148 @@
+package io.maju.frosty.utils;
+
+import io.maju.frosty.Money;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * Incrementally maintained sum of {@code price * quantity} lines. The result is identical, value and scale,
+ * to reducing every line with {@code BigDecimal.add}. Prices with up to {@link #FIXED_SCALE} decimals are
+ * accumulated as a scaled long; anything else, or an overflow, spills into a {@link Money} that may widen
+ * to a BigDecimal. Not thread-safe: it is owned by the aggregate that holds the lines.
+ */
+public final class RunningTotal {
+
+    public static final int FIXED_SCALE = 2;
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L};
+
+    private long units;
+    private Money spill;
+    private final int[] fixedScaleLines = new int[FIXED_SCALE + 1];
+    private TreeMap<Integer, Integer> otherScaleLines;
+    private int lines;
+    private Money value = Money.ZERO;
+
+    public RunningTotal add(final Money aPrice, final long aQuantity) {
+        apply(aPrice, aQuantity, 1);
+        return this;
+    }
+
+    public RunningTotal subtract(final Money aPrice, final long aQuantity) {
+        apply(aPrice, aQuantity, -1);
+        return this;
+    }
+
+    // folds another total in, as if its lines had been added to this one
+    public RunningTotal addAll(final RunningTotal other) {
+        for (int i = 0; i <= FIXED_SCALE; i++) {
+            this.fixedScaleLines[i] += other.fixedScaleLines[i];
+        }
+        if (other.otherScaleLines != null) {
+            other.otherScaleLines.forEach(this::trackScale);
+        }
+        this.lines += other.lines;
+        this.value = null;
+
+        try {
+            this.units = Math.addExact(this.units, other.units);
+        } catch (final ArithmeticException overflow) {
+            flushUnits();
+            this.units = other.units;
+        }
+        if (other.spill != null) {
+            spill(other.spill);
+        }
+        return this;
+    }
+
+    public RunningTotal clear() {
+        this.units = 0L;
+        this.spill = null;
+        Arrays.fill(this.fixedScaleLines, 0);
+        this.otherScaleLines = null;
+        this.lines = 0;
+        this.value = Money.ZERO;
+        return this;
+    }
+
+    public int lines() {
+        return lines;
+    }
+
+    public Money value() {
+        var aValue = this.value;
+        if (aValue == null) {
+            aValue = this.lines == 0 ? Money.ZERO : compute();
+            this.value = aValue;
+        }
+        return aValue;
+    }
+
+    private Money compute() {
+        var sum = Money.of(this.units, FIXED_SCALE);
+        if (this.spill != null) {
+            sum = sum.plus(this.spill);
+        }
+        return sum.withScale(resultScale());
+    }
+
+    // BigDecimal.add keeps the largest scale of its operands, starting from ZERO's scale of 0
+    private int resultScale() {
+        var scale = 0;
+        for (int i = FIXED_SCALE; i > 0; i--) {
+            if (this.fixedScaleLines[i] > 0) {
+                scale = i;
+                break;
+            }
+        }
+        if (this.otherScaleLines != null && !this.otherScaleLines.isEmpty()) {
+            scale = Math.max(scale, this.otherScaleLines.lastKey());
+        }
+        return scale;
+    }
+
+    private void apply(final Money aPrice, final long aQuantity, final int aSign) {
+        final int scale = aPrice.scale();
+        trackScale(scale, aSign);
+        this.lines += aSign;
+        this.value = null;
+
+        if (aPrice.isCompact() && scale >= 0 && scale <= FIXED_SCALE) {
+            try {
+                final long lineUnits = Math.multiplyExact(
+                        Math.multiplyExact(aPrice.units(), POWERS_OF_TEN[FIXED_SCALE - scale]),
+                        aQuantity
+                );
+                this.units = Math.addExact(this.units, aSign > 0 ? lineUnits : Math.negateExact(lineUnits));
+                return;
+            } catch (final ArithmeticException overflow) {
+                flushUnits();
+            }
+        }
+
+        final var line = aPrice.times(aQuantity);
+        spill(aSign > 0 ? line : line.negate());
+    }
+
+    private void flushUnits() {
+        spill(Money.of(this.units, FIXED_SCALE));
+        this.units = 0L;
+    }
+
+    private void spill(final Money anAmount) {
+        this.spill = this.spill == null ? anAmount : this.spill.plus(anAmount);
+    }
+
+    private void trackScale(final int aScale, final int aCount) {
+        if (aScale >= 0 && aScale <= FIXED_SCALE) {
+            this.fixedScaleLines[aScale] += aCount;
+            return;
+        }
+        if (this.otherScaleLines == null) {
+            this.otherScaleLines = new TreeMap<>();
+        }
+        this.otherScaleLines.merge(aScale, aCount, (a, b) -> a + b == 0 ? null : a + b);
+    }
+}
@@ -1,5 +1,74 @@
 package io.maju.frosty.validation;
 
-public record Error(String message) {
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 
+/**
+ * Validation error. Errors created with {@link #of(String, Object...)} keep the template and its
+ * arguments and only format the message the first time {@link #message()} is called.
+ */
+public final class Error {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final String code;
+    private final Object[] arguments;
+    private String message;
+
+    public Error(final String message) {
+        this.code = message;
+        this.arguments = NO_ARGUMENTS;
+        this.message = message;
+    }
+
+    private Error(final String aTemplate, final Object[] someArguments) {
+        this.code = Objects.requireNonNull(aTemplate);
+        this.arguments = someArguments;
+    }
+
+    public static Error of(final String aTemplate, final Object... someArguments) {
+        if (someArguments == null || someArguments.length == 0) {
+            return new Error(aTemplate);
+        }
+        return new Error(aTemplate, someArguments);
+    }
+
+    public String message() {
+        var aMessage = this.message;
+        // exceptions without a message give a null one, as the record did
+        if (aMessage == null && this.code != null) {
+            aMessage = this.code.formatted(this.arguments);
+            this.message = aMessage;
+        }
+        return aMessage;
+    }
+
+    // the unformatted template, stable across arguments and usable as an error code
+    public String code() {
+        return code;
+    }
+
+    public List<Object> arguments() {
+        return Collections.unmodifiableList(Arrays.asList(arguments));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final var that = (Error) o;
+        return Objects.equals(message(), that.message());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(message());
+    }
+
+    @Override
+    public String toString() {
+        return "Error[message=" + message() + "]";
+    }
 }
@@ -10,6 +10,11 @@ public interface ValidationHandler {
 
     <T> T validate(final Validation<T> t);
 
+    // true when the handler will not record further errors, so validators may stop early
+    default boolean isFull() {
+        return false;
+    }
+
     default boolean hasError() {
         return getErrors() != null && !getErrors().isEmpty();
     }
@@ -9,10 +9,18 @@ import java.util.List;
 
 public class Notification implements ValidationHandler {
 
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
     private final List<Error> errors;
+    private final int maxErrors;
 
     public Notification(final List<Error> errors) {
+        this(errors, UNBOUNDED);
+    }
+
+    private Notification(final List<Error> errors, final int maxErrors) {
         this.errors = errors;
+        this.maxErrors = maxErrors;
     }
 
     public static Notification create() {
@@ -27,32 +35,68 @@ public class Notification implements ValidationHandler {
         return create(new Error(t.getMessage()));
     }
 
+    // keeps the first error only; validators stop as soon as it is recorded
+    public static Notification failFast() {
+        return bounded(1);
+    }
+
+    // keeps at most 'maxErrors' errors and silently drops the rest
+    public static Notification bounded(final int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("'maxErrors' should be greater than zero");
+        }
+        return new Notification(new ArrayList<>(Math.min(maxErrors, 10)), maxErrors);
+    }
+
     @Override
     public Notification append(final Error anError) {
-        this.errors.add(anError);
+        if (!isFull()) {
+            this.errors.add(anError);
+        }
         return this;
     }
 
     @Override
     public Notification append(ValidationHandler handler) {
-        this.errors.addAll(handler.getErrors());
+        appendAll(handler.getErrors());
         return this;
     }
 
     @Override
     public <T> T validate(Validation<T> aValidation) {
+        if (isFull()) {
+            return null;
+        }
         try {
             return aValidation.validate();
         } catch (final DomainException ex) {
-            this.errors.addAll(ex.getErrors());
-        } catch (final Throwable t) {
-            this.errors.add(new Error(t.getMessage()));
+            appendAll(ex.getErrors());
+        } catch (final Exception e) {
+            append(new Error(e.getMessage()));
         }
         return null;
     }
 
+    @Override
+    public boolean isFull() {
+        return this.errors.size() >= this.maxErrors;
+    }
+
     @Override
     public List<Error> getErrors() {
         return this.errors;
     }
+
+    private void appendAll(final List<Error> someErrors) {
+        if (this.maxErrors == UNBOUNDED) {
+            this.errors.addAll(someErrors);
+            return;
+        }
+        for (final var anError : someErrors) {
+            if (isFull()) {
+                return;
+            }
+            this.errors.add(anError);
+        }
+    }
 }
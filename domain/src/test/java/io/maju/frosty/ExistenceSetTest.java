@@ -0,0 +1,49 @@
+package io.maju.frosty;
+
+import io.maju.frosty.product.ProductID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+class ExistenceSetTest extends UnitTest {
+
+    @Test
+    void givenAnExistenceBitSet_whenCallViews_shouldFollowTheRequestedOrder() {
+        final var ids = List.of(ProductID.unique(), ProductID.unique(), ProductID.unique(), ProductID.unique());
+        final var present = new BitSet();
+        present.set(1);
+        present.set(3);
+
+        final var actualExistence = ExistenceSet.of(ids, present);
+
+        Assertions.assertEquals(4, actualExistence.size());
+        Assertions.assertFalse(actualExistence.exists(0));
+        Assertions.assertTrue(actualExistence.exists(1));
+        Assertions.assertFalse(actualExistence.allExist());
+        Assertions.assertEquals(2, actualExistence.missingCount());
+        Assertions.assertEquals(List.of(ids.get(0), ids.get(2)), actualExistence.missing());
+        Assertions.assertEquals(List.of(ids.get(1), ids.get(3)), actualExistence.present());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> actualExistence.missing().get(2));
+    }
+
+    @Test
+    void givenBitsBeyondTheIds_whenCallOf_shouldThrowError() {
+        final var present = new BitSet();
+        present.set(1);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ExistenceSet.of(List.of(ProductID.unique()), present));
+    }
+
+    @Test
+    void givenAllIdsPresent_whenCallAllExist_shouldReturnTrue() {
+        final var present = new BitSet();
+        present.set(0, 2);
+
+        final var actualExistence = ExistenceSet.of(List.of(ProductID.unique(), ProductID.unique()), present);
+
+        Assertions.assertTrue(actualExistence.allExist());
+        Assertions.assertTrue(actualExistence.missing().isEmpty());
+    }
+}
@@ -0,0 +1,78 @@
+package io.maju.frosty;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+class MoneyTest extends UnitTest {
+
+    @Test
+    void givenABigDecimal_whenCallOf_shouldKeepUnitsScaleAndInstance() {
+        final var expectedValue = new BigDecimal("10.75");
+
+        final var actualMoney = Money.of(expectedValue);
+
+        Assertions.assertTrue(actualMoney.isCompact());
+        Assertions.assertEquals(1075L, actualMoney.units());
+        Assertions.assertEquals(2, actualMoney.scale());
+        Assertions.assertSame(expectedValue, actualMoney.toBigDecimal());
+    }
+
+    @Test
+    void givenTwoAmounts_whenCallPlus_shouldFollowBigDecimalScaleRules() {
+        final var actualMoney = Money.of("10").plus(Money.of("10.75"));
+
+        Assertions.assertEquals(new BigDecimal("20.75"), actualMoney.toBigDecimal());
+        Assertions.assertEquals(new BigDecimal("10").add(new BigDecimal("10.75")), actualMoney.toBigDecimal());
+    }
+
+    @Test
+    void givenAnAmount_whenCallTimes_shouldKeepTheScale() {
+        final var actualMoney = Money.of("10.70").times(3);
+
+        Assertions.assertEquals(new BigDecimal("32.10"), actualMoney.toBigDecimal());
+    }
+
+    @Test
+    void givenAnOverflowingOperation_whenCallTimesOrPlus_shouldFallBackToBigDecimal() {
+        final var aMoney = Money.of(Long.MAX_VALUE, 2);
+
+        final var actualProduct = aMoney.times(10);
+        final var actualSum = aMoney.plus(Money.of("0.01"));
+
+        Assertions.assertFalse(actualProduct.isCompact());
+        Assertions.assertEquals(new BigDecimal("922337203685477580.70"), actualProduct.toBigDecimal());
+        Assertions.assertFalse(actualSum.isCompact());
+        Assertions.assertEquals(new BigDecimal("92233720368547758.08"), actualSum.toBigDecimal());
+        Assertions.assertThrows(ArithmeticException.class, actualSum::units);
+    }
+
+    @Test
+    void givenAnAmount_whenCallWithScale_shouldRescaleExactly() {
+        Assertions.assertEquals(new BigDecimal("10.00"), Money.of("10").withScale(2).toBigDecimal());
+        Assertions.assertEquals(new BigDecimal("10"), Money.of("10.00").withScale(0).toBigDecimal());
+        Assertions.assertThrows(ArithmeticException.class, () -> Money.of("10.75").withScale(1));
+    }
+
+    @Test
+    void givenAmountsWithDifferentScales_whenCompare_shouldBeNumericallyEqual() {
+        final var aMoney = Money.of("10.0");
+        final var anotherMoney = Money.of("10.00");
+
+        Assertions.assertEquals(aMoney, anotherMoney);
+        Assertions.assertEquals(aMoney.hashCode(), anotherMoney.hashCode());
+        Assertions.assertEquals(Money.of("1E+1"), aMoney);
+        Assertions.assertEquals(Money.of("1E+1").hashCode(), aMoney.hashCode());
+        Assertions.assertTrue(Money.of("10.01").compareTo(aMoney) > 0);
+        Assertions.assertNotEquals(Money.of("10.01"), aMoney);
+    }
+
+    @Test
+    void givenAmounts_whenCallSignum_shouldReflectTheSign() {
+        Assertions.assertFalse(Money.ZERO.isPositive());
+        Assertions.assertTrue(Money.of("0.01").isPositive());
+        Assertions.assertEquals(-1, Money.of("-0.01").signum());
+        Assertions.assertEquals(Money.of("-10.75"), Money.of("10.75").negate());
+    }
+}
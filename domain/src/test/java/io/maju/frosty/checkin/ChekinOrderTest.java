@@ -1,6 +1,7 @@
 package io.maju.frosty.checkin;
 
 import io.maju.frosty.UnitTest;
+import io.maju.frosty.events.EventStream;
 import io.maju.frosty.exceptions.NotificationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 class ChekinOrderTest extends UnitTest {
 
@@ -818,6 +820,26 @@ class ChekinOrderTest extends UnitTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().getFirst().message());
     }
 
+    @Test
+    void givenAFailedAddOrderItem_whenAddAValidItem_shouldKeepOnlyTheValidOnes() {
+        final var picole =
+                CheckinOrderItem.with("Picolé", new BigDecimal("10"), 1, "123");
+        final var actualOrder = CheckinOrder.builder().recordEvents(true).item(picole).build();
+
+        final var invalid =
+                CheckinOrderItem.with("Pipoca", new BigDecimal("-5.00"), 1, "456");
+        Assertions.assertThrows(NotificationException.class, () -> actualOrder.addOrderItem(invalid));
+
+        final var casquinha =
+                CheckinOrderItem.with("Casquinha", new BigDecimal("3.00"), 1, "789");
+        actualOrder.addOrderItem(casquinha);
+
+        Assertions.assertEquals(List.of(picole, casquinha), actualOrder.items());
+        Assertions.assertEquals(new BigDecimal("13.00"), actualOrder.total());
+        Assertions.assertEquals(1, actualOrder.itemChanges().added().size());
+        Assertions.assertEquals(2, actualOrder.pendingEvents().size());
+    }
+
     @Test
     void givenAValidOrderItems_whenCallAddNullOrderItem_shouldReceiveOK() {
         final var picole =
@@ -984,4 +1006,249 @@ class ChekinOrderTest extends UnitTest {
         Assertions.assertEquals(actualUpdatedAt, actualOrder.updatedAt());
         Assertions.assertNull(actualOrder.deletedAt());
     }
+
+    @Test
+    void givenAnOrderWithMixedScalePrices_whenCallRemoveOrderItem_shouldRecomputeTheTotalScale() {
+        final var picole =
+                CheckinOrderItem.with("Picolé", new BigDecimal("10"), 2, "123");
+        final var sorvete =
+                CheckinOrderItem.with("Sorvete", new BigDecimal("10.75"), 1, "456");
+
+        final var actualOrder = CheckinOrder.newOrder(
+                new ArrayList<>(List.of(picole, sorvete)),
+                false
+        );
+
+        Assertions.assertEquals(new BigDecimal("30.75"), actualOrder.total());
+
+        actualOrder.removeOrderItem(sorvete);
+
+        Assertions.assertEquals(new BigDecimal("20"), actualOrder.total());
+
+        actualOrder.addOrderItem(sorvete);
+
+        Assertions.assertEquals(new BigDecimal("30.75"), actualOrder.total());
+    }
+
+    @Test
+    void givenAnOrder_whenCallWith_shouldNotShareItemsWithTheCopy() {
+        final var picole =
+                CheckinOrderItem.with("Picolé", new BigDecimal("10"), 1, "123");
+        final var sorvete =
+                CheckinOrderItem.with("Sorvete", new BigDecimal("10.75"), 1, "456");
+
+        final var anOrder = CheckinOrder.newOrder(new ArrayList<>(List.of(picole)), false);
+        final var actualCopy = CheckinOrder.with(anOrder);
+
+        actualCopy.addOrderItem(sorvete);
+
+        Assertions.assertEquals(1, anOrder.items().size());
+        Assertions.assertEquals(new BigDecimal("10"), anOrder.total());
+        Assertions.assertEquals(2, actualCopy.items().size());
+        Assertions.assertEquals(new BigDecimal("20.75"), actualCopy.total());
+    }
+
+    @Test
+    void givenAValidOrder_whenCallAddOrderItemWithInvalidItem_shouldReportTheAppendedIndex() {
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'item[3].price' should be greater than zero";
+
+        final var actualOrder = CheckinOrder.newOrder(new ArrayList<>(List.of(
+                CheckinOrderItem.with("Picolé", new BigDecimal("10"), 1, "123")
+        )), false);
+
+        actualOrder.addOrderItem(CheckinOrderItem.with("Sorvete", new BigDecimal("10"), 1, "456"));
+        actualOrder.addOrderItem(CheckinOrderItem.with("Casquinha", new BigDecimal("10"), 1, "789"));
+
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
+            actualOrder.addOrderItem(CheckinOrderItem.with("Pipoca", BigDecimal.ZERO, 1, "999"));
+        });
+
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().getFirst().message());
+    }
+
+    @Test
+    void givenAValidOrder_whenCallAddOrderItemManyTimes_shouldKeepAllItemsAndTotal() {
+        final var expectedItemCount = 20_000;
+        final var actualOrder = CheckinOrder.newOrder(new ArrayList<>(List.of(
+                CheckinOrderItem.with("Item 0", new BigDecimal("1.50"), 1, "0")
+        )), false);
+
+        for (int i = 1; i < expectedItemCount; i++) {
+            actualOrder.addOrderItem(CheckinOrderItem.with("Item " + i, new BigDecimal("1.50"), 1, "" + i));
+        }
+
+        Assertions.assertEquals(expectedItemCount, actualOrder.items().size());
+        Assertions.assertEquals(new BigDecimal("30000.00"), actualOrder.total());
+    }
+
+    @Test
+    void givenAStreamOfItems_whenCallBuilderBuild_shouldInstantiateAnOrder() {
+        final var expectedItemCount = 500;
+        final var expectedTotal = new BigDecimal("5375.00");
+
+        final var actualOrder = CheckinOrder.builder()
+                .expectedSize(expectedItemCount)
+                .items(IntStream.range(0, expectedItemCount)
+                        .mapToObj(i -> CheckinOrderItem.with("Item " + i, new BigDecimal("10.75"), 1, "" + i)))
+                .build();
+
+        Assertions.assertNotNull(actualOrder.getId());
+        Assertions.assertEquals(expectedItemCount, actualOrder.items().size());
+        Assertions.assertEquals(expectedTotal, actualOrder.total());
+        Assertions.assertFalse(actualOrder.isCanceled());
+        Assertions.assertNotNull(actualOrder.createdAt());
+        Assertions.assertNull(actualOrder.deletedAt());
+    }
+
+    @Test
+    void givenAnIteratorAndACanceledFlag_whenCallBuilderBuild_shouldInstantiateACanceledOrder() {
+        final var expectedId = CheckinOrderID.unique();
+        final var expectedItems = List.of(
+                CheckinOrderItem.with("Item 1", new BigDecimal("10.75"), 1, "123"),
+                CheckinOrderItem.with("Item 2", new BigDecimal("10.75"), 1, "456")
+        );
+
+        final var actualOrder = CheckinOrder.builder()
+                .id(expectedId)
+                .canceled(true)
+                .items(expectedItems.iterator())
+                .build();
+
+        Assertions.assertEquals(expectedId, actualOrder.getId());
+        Assertions.assertEquals(expectedItems, actualOrder.items());
+        Assertions.assertTrue(actualOrder.isCanceled());
+        Assertions.assertNotNull(actualOrder.deletedAt());
+    }
+
+    @Test
+    void givenAnEmptyBuilder_whenCallBuild_shouldReceiveAnError() {
+        final var expectedErrorMessage = "'items' should not be empty";
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class, () -> CheckinOrder.builder().build()
+        );
+
+        Assertions.assertEquals(1, actualException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().getFirst().message());
+    }
+
+    @Test
+    void givenALargeOrderWithInvalidItems_whenCallBuilderWithParallelValidation_shouldReportErrorsInOrder() {
+        final var expectedItemCount = CheckinOrder.PARALLEL_VALIDATION_CHUNK * 4 + 7;
+        final var expectedInvalidIndexes = List.of(3, CheckinOrder.PARALLEL_VALIDATION_CHUNK + 1, expectedItemCount - 1);
+
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> CheckinOrder.builder()
+                .parallelValidation(true)
+                .items(IntStream.range(0, expectedItemCount).mapToObj(i -> CheckinOrderItem.with(
+                        "Item " + i,
+                        expectedInvalidIndexes.contains(i) ? BigDecimal.ZERO : BigDecimal.ONE,
+                        1,
+                        "" + i
+                )))
+                .build());
+
+        Assertions.assertEquals(expectedInvalidIndexes.size(), actualException.getErrors().size());
+        for (int i = 0; i < expectedInvalidIndexes.size(); i++) {
+            Assertions.assertEquals(
+                    "'item[%d].price' should be greater than zero".formatted(expectedInvalidIndexes.get(i)),
+                    actualException.getErrors().get(i).message()
+            );
+        }
+    }
+
+    @Test
+    void givenAnOrderWithManyInvalidItems_whenCallNewOrder_shouldReportEveryError() {
+        final var expectedErrorCount = 1_000;
+        final var someItems = IntStream.range(0, expectedErrorCount)
+                .mapToObj(i -> CheckinOrderItem.with("Item " + i, BigDecimal.ZERO, 1, "" + i))
+                .toList();
+
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
+            CheckinOrder.newOrder(someItems, false);
+        });
+
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals("'item[999].price' should be greater than zero", actualException.getErrors().getLast().message());
+    }
+
+    @Test
+    void givenAMaxValidationErrors_whenBuildAnOrderWithManyInvalidItems_shouldCapTheReportedErrors() {
+        final var expectedErrorCount = 100;
+        final var someItems = IntStream.range(0, 100_000)
+                .mapToObj(i -> CheckinOrderItem.with("Item " + i, BigDecimal.ZERO, 1, "" + i))
+                .toList();
+
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
+            CheckinOrder.builder().maxValidationErrors(expectedErrorCount).items(someItems).build();
+        });
+
+        Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+        Assertions.assertEquals("'item[0].price' should be greater than zero", actualException.getErrors().getFirst().message());
+        Assertions.assertEquals("'item[99].price' should be greater than zero", actualException.getErrors().getLast().message());
+    }
+
+    @Test
+    void givenAnOrderNotBuiltToRecordEvents_whenChangeIt_shouldKeepNoEvents() {
+        final var anItem = CheckinOrderItem.with("Item 1", new BigDecimal("10.75"), 1, "123");
+        final var anOrder = CheckinOrder.newOrder(new ArrayList<>(List.of(anItem)), false);
+        anOrder.addOrderItem(CheckinOrderItem.with("Item 2", new BigDecimal("3.10"), 2, "456"));
+        anOrder.cancel();
+
+        Assertions.assertFalse(anOrder.isRecordingEvents());
+        Assertions.assertTrue(anOrder.pendingEvents().isEmpty());
+    }
+
+    @Test
+    void givenAnInvalidUpdate_whenCallUpdate_shouldLeaveTheOrderAsItWas() {
+        final var anItem = CheckinOrderItem.with("Item 1", new BigDecimal("10.75"), 1, "123");
+        final var anOrder = CheckinOrder.builder().recordEvents(true).item(anItem).build();
+        final var anInvalidItem = CheckinOrderItem.with("Item 2", new BigDecimal("-3.10"), 2, "456");
+
+        Assertions.assertThrows(
+                NotificationException.class,
+                () -> anOrder.update(List.of(anItem, anInvalidItem), true)
+        );
+
+        Assertions.assertEquals(List.of(anItem), anOrder.items());
+        Assertions.assertEquals(new BigDecimal("10.75"), anOrder.total());
+        Assertions.assertFalse(anOrder.isCanceled());
+        Assertions.assertNull(anOrder.deletedAt());
+        Assertions.assertTrue(anOrder.itemChanges().isEmpty());
+        Assertions.assertEquals(1, anOrder.pendingEvents().size());
+    }
+
+    @Test
+    void givenAnUnchangedCanceledFlag_whenCallUpdate_shouldRaiseOnlyTheUpdate() {
+        final var anItem = CheckinOrderItem.with("Item 1", new BigDecimal("10.75"), 1, "123");
+        final var anOrder = CheckinOrder.builder().recordEvents(true).item(anItem).build();
+
+        anOrder.update(List.of(anItem), false);
+
+        Assertions.assertEquals(2, anOrder.pendingEvents().size());
+        Assertions.assertTrue(anOrder.pendingEvents().getLast() instanceof CheckinOrderEvent.Updated);
+    }
+
+    @Test
+    void givenAnOrderWithChanges_whenReplayItsEvents_shouldRebuildTheSameOrder() {
+        final var aFirstItem = CheckinOrderItem.with("Item 1", new BigDecimal("10.75"), 1, "123");
+        final var anOrder = CheckinOrder.builder().recordEvents(true).item(aFirstItem).build();
+        anOrder.addOrderItem(CheckinOrderItem.with("Item 2", new BigDecimal("3.10"), 2, "456"));
+        anOrder.removeOrderItem(aFirstItem);
+        anOrder.cancel();
+
+        final var events = anOrder.pendingEvents().stream().map(CheckinOrderEvent.class::cast).toList();
+        final var actualOrder = CheckinOrder.replay(new EventStream<>(events.size(), events));
+
+        Assertions.assertEquals(4, events.size());
+        Assertions.assertEquals(anOrder.items(), actualOrder.items());
+        Assertions.assertEquals(new BigDecimal("6.20"), actualOrder.total());
+        Assertions.assertTrue(actualOrder.isCanceled());
+        Assertions.assertEquals(anOrder.createdAt(), actualOrder.createdAt());
+        Assertions.assertEquals(anOrder.updatedAt(), actualOrder.updatedAt());
+        Assertions.assertEquals(anOrder.deletedAt(), actualOrder.deletedAt());
+        Assertions.assertEquals(4, actualOrder.version());
+        Assertions.assertTrue(actualOrder.pendingEvents().isEmpty());
+    }
 }
@@ -0,0 +1,163 @@
+package io.maju.frosty.checkout;
+
+import io.maju.frosty.UnitTest;
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.product.ProductID;
+import io.maju.frosty.product.ProductStockGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class CheckoutOrderStockReservationTest extends UnitTest {
+
+    private static final String CHOCOLATE = ProductID.unique().getValue();
+    private static final String STRAWBERRY = ProductID.unique().getValue();
+
+    @Test
+    void givenAnOrder_whenCallReserve_shouldReserveTheQuantityPerProduct() {
+        final var aStock = new FakeStock(Map.of(CHOCOLATE, 10, STRAWBERRY, 10));
+        final var aReservation = new CheckoutOrderStockReservation(aStock);
+
+        aReservation.reserve(newOrder(
+                CheckoutOrderItem.with(BigDecimal.TEN, 2, CHOCOLATE),
+                CheckoutOrderItem.with(BigDecimal.TEN, 1, STRAWBERRY),
+                CheckoutOrderItem.with(BigDecimal.TEN, 3, CHOCOLATE)
+        ));
+
+        Assertions.assertEquals(5, aStock.available.get(CHOCOLATE));
+        Assertions.assertEquals(5, aStock.reserved.get(CHOCOLATE));
+        Assertions.assertEquals(9, aStock.available.get(STRAWBERRY));
+        Assertions.assertEquals(2, aStock.calls.size());
+    }
+
+    @Test
+    void givenAShortage_whenCallReserve_shouldReleaseEverythingAndThrowDomainException() {
+        final var aStock = new FakeStock(Map.of(CHOCOLATE, 10, STRAWBERRY, 1));
+        final var aReservation = new CheckoutOrderStockReservation(aStock);
+        final var anOrder = newOrder(
+                CheckoutOrderItem.with(BigDecimal.TEN, 2, CHOCOLATE),
+                CheckoutOrderItem.with(BigDecimal.TEN, 2, STRAWBERRY)
+        );
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> aReservation.reserve(anOrder));
+
+        Assertions.assertEquals(1, actualException.getErrors().size());
+        Assertions.assertEquals(
+                "'product' %s has not enough stock for 2 units".formatted(STRAWBERRY),
+                actualException.getErrors().getFirst().message()
+        );
+        Assertions.assertEquals(10, aStock.available.get(CHOCOLATE));
+        Assertions.assertEquals(0, aStock.reserved.get(CHOCOLATE));
+        Assertions.assertEquals(1, aStock.available.get(STRAWBERRY));
+    }
+
+    @Test
+    void givenAReservedOrder_whenCallCommitOrRelease_shouldSettleTheReservation() {
+        final var aStock = new FakeStock(Map.of(CHOCOLATE, 10));
+        final var aReservation = new CheckoutOrderStockReservation(aStock);
+        final var aSoldOrder = newOrder(CheckoutOrderItem.with(BigDecimal.TEN, 2, CHOCOLATE));
+        final var aCanceledOrder = newOrder(CheckoutOrderItem.with(BigDecimal.TEN, 3, CHOCOLATE));
+
+        aReservation.reserve(aSoldOrder);
+        aReservation.reserve(aCanceledOrder);
+        aReservation.commit(aSoldOrder);
+        aReservation.release(aCanceledOrder);
+
+        Assertions.assertEquals(8, aStock.available.get(CHOCOLATE));
+        Assertions.assertEquals(0, aStock.reserved.get(CHOCOLATE));
+    }
+
+    @Test
+    void givenAnOrderThatWasNotReserved_whenCallCommitOrRelease_shouldThrowDomainException() {
+        final var aStock = new FakeStock(Map.of(CHOCOLATE, 10));
+        final var aReservation = new CheckoutOrderStockReservation(aStock);
+        final var anOrder = newOrder(CheckoutOrderItem.with(BigDecimal.TEN, 2, CHOCOLATE));
+
+        final var aCommitException = Assertions.assertThrows(DomainException.class, () -> aReservation.commit(anOrder));
+        final var aReleaseException = Assertions.assertThrows(DomainException.class, () -> aReservation.release(anOrder));
+
+        Assertions.assertEquals(
+                "'product' %s has not 2 reserved units to commit".formatted(CHOCOLATE),
+                aCommitException.getErrors().getFirst().message()
+        );
+        Assertions.assertEquals(
+                "'product' %s has not 2 reserved units to release".formatted(CHOCOLATE),
+                aReleaseException.getErrors().getFirst().message()
+        );
+        Assertions.assertEquals(10, aStock.available.get(CHOCOLATE));
+    }
+
+    @Test
+    void givenQuantitiesOverflowingAnInt_whenCallReserve_shouldNotReserveAnything() {
+        final var aStock = new FakeStock(Map.of(CHOCOLATE, 10));
+        final var aReservation = new CheckoutOrderStockReservation(aStock);
+        final var anOrder = newOrder(
+                CheckoutOrderItem.with(BigDecimal.TEN, Integer.MAX_VALUE, CHOCOLATE),
+                CheckoutOrderItem.with(BigDecimal.TEN, Integer.MAX_VALUE, CHOCOLATE)
+        );
+
+        Assertions.assertThrows(ArithmeticException.class, () -> aReservation.reserve(anOrder));
+
+        Assertions.assertTrue(aStock.calls.isEmpty());
+        Assertions.assertEquals(10, aStock.available.get(CHOCOLATE));
+    }
+
+    private static CheckoutOrder newOrder(final CheckoutOrderItem... items) {
+        return CheckoutOrder.builder()
+                .amount(Stream.of(items).map(CheckoutOrderItem::total).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .customerName("Maria")
+                .items(List.of(items))
+                .build();
+    }
+
+    private static class FakeStock implements ProductStockGateway {
+
+        private final Map<String, Integer> available;
+        private final Map<String, Integer> reserved = new HashMap<>();
+        private final List<String> calls = new ArrayList<>();
+
+        private FakeStock(final Map<String, Integer> anAvailable) {
+            this.available = new HashMap<>(anAvailable);
+            anAvailable.keySet().forEach(anId -> reserved.put(anId, 0));
+        }
+
+        @Override
+        public boolean reserve(final ProductID anId, final int aQuantity) {
+            calls.add(anId.getValue());
+            return move(anId.getValue(), -aQuantity, aQuantity);
+        }
+
+        @Override
+        public boolean release(final ProductID anId, final int aQuantity) {
+            return move(anId.getValue(), aQuantity, -aQuantity);
+        }
+
+        @Override
+        public boolean commit(final ProductID anId, final int aQuantity) {
+            return move(anId.getValue(), 0, -aQuantity);
+        }
+
+        @Override
+        public boolean receive(final CheckinOrderID aCheckinOrderId, final Map<ProductID, Integer> quantities) {
+            throw new UnsupportedOperationException();
+        }
+
+        private boolean move(final String anId, final int availableDelta, final int reservedDelta) {
+            final var anAvailable = available.get(anId) + availableDelta;
+            final var aReserved = reserved.get(anId) + reservedDelta;
+            if (anAvailable < 0 || aReserved < 0) {
+                return false;
+            }
+            available.put(anId, anAvailable);
+            reserved.put(anId, aReserved);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.maju.frosty.checkout;
+
+import io.maju.frosty.UnitTest;
+import io.maju.frosty.exceptions.NotificationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class CheckoutOrderTest extends UnitTest {
+
+    @Test
+    void givenAStreamOfItems_whenCallBuilderBuild_shouldInstantiateAnOpenOrder() {
+        final var expectedItemCount = 100;
+        final var expectedAmount = new BigDecimal("1075.00");
+        final var expectedCustomerName = "Maria";
+
+        final var actualOrder = CheckoutOrder.builder()
+                .amount(expectedAmount)
+                .customerName(expectedCustomerName)
+                .expectedSize(expectedItemCount)
+                .items(IntStream.range(0, expectedItemCount)
+                        .mapToObj(i -> CheckoutOrderItem.with(new BigDecimal("10.75"), 1, "" + i)))
+                .build();
+
+        Assertions.assertNotNull(actualOrder.getId());
+        Assertions.assertEquals(expectedAmount, actualOrder.amount());
+        Assertions.assertEquals(expectedItemCount, actualOrder.items().size());
+        Assertions.assertTrue(actualOrder.isOpen());
+        Assertions.assertEquals(CheckoutOrderStatus.PENDING, actualOrder.status());
+        Assertions.assertEquals(expectedCustomerName, actualOrder.customerName());
+        Assertions.assertNull(actualOrder.deletedAt());
+    }
+
+    @Test
+    void givenAClosedOrder_whenCallBuilderBuild_shouldInstantiateAClosedOrder() {
+        final var expectedItems = List.of(CheckoutOrderItem.with(new BigDecimal("10.75"), 2, "123"));
+
+        final var actualOrder = CheckoutOrder.builder()
+                .amount(new BigDecimal("21.50"))
+                .open(false)
+                .status(CheckoutOrderStatus.COMPLETED)
+                .items(expectedItems)
+                .build();
+
+        Assertions.assertFalse(actualOrder.isOpen());
+        Assertions.assertEquals(CheckoutOrderStatus.COMPLETED, actualOrder.status());
+        Assertions.assertEquals(expectedItems, actualOrder.items());
+        Assertions.assertNotNull(actualOrder.deletedAt());
+    }
+
+    @Test
+    void givenAnInvalidBuilder_whenCallBuild_shouldReceiveAllErrorsOnce() {
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> CheckoutOrder.builder()
+                .open(false)
+                .customerName(" ")
+                .build());
+
+        Assertions.assertEquals(List.of(
+                "'items' should not be empty",
+                "'amount' should not be null",
+                "'status' should be 'COMPLETED or ERROR' when is not open",
+                "'customerName' should not be empty"
+        ), actualException.getErrors().stream().map(error -> error.message()).toList());
+    }
+
+    @Test
+    void givenAnAmountDifferentFromTheItems_whenCallBuild_shouldReceiveAnError() {
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> CheckoutOrder.builder()
+                .amount(new BigDecimal("20.00"))
+                .item(CheckoutOrderItem.with(new BigDecimal("10.75"), 2, "123"))
+                .build());
+
+        Assertions.assertEquals(List.of("'amount' should be equal to the items total 21.50"),
+                actualException.getErrors().stream().map(error -> error.message()).toList());
+    }
+
+    @Test
+    void givenAWholesaleOrder_whenCallTotal_shouldSumEveryItem() {
+        final var expectedItemCount = 50_000;
+        final var someItems = IntStream.range(0, expectedItemCount)
+                .mapToObj(i -> CheckoutOrderItem.with(new BigDecimal("0.05").add(BigDecimal.valueOf(i % 7)), i % 3 + 1, "" + i))
+                .toList();
+        final var expectedTotal = someItems.stream()
+                .map(CheckoutOrderItem::total)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        final var actualOrder = CheckoutOrder.builder()
+                .amount(expectedTotal)
+                .items(someItems)
+                .build();
+
+        Assertions.assertEquals(expectedTotal, actualOrder.total());
+    }
+
+    @Test
+    void givenAnOrder_whenAddAndRemoveItems_shouldKeepAmountEqualToTheTotal() {
+        final var aFirstItem = CheckoutOrderItem.with(new BigDecimal("10.75"), 2, "123");
+        final var aSecondItem = CheckoutOrderItem.with(new BigDecimal("3.10"), 5, "456");
+        final var actualOrder = CheckoutOrder.builder()
+                .amount(new BigDecimal("21.50"))
+                .item(aFirstItem)
+                .build();
+
+        actualOrder.addOrderItem(aSecondItem);
+
+        Assertions.assertEquals(new BigDecimal("37.00"), actualOrder.total());
+        Assertions.assertEquals(actualOrder.total(), actualOrder.amount());
+
+        actualOrder.removeOrderItem(aFirstItem);
+
+        Assertions.assertEquals(new BigDecimal("15.50"), actualOrder.total());
+        Assertions.assertEquals(actualOrder.total(), actualOrder.amount());
+    }
+
+    @Test
+    void givenACopiedOrder_whenAddItems_shouldLeaveTheOriginalAsItWas() {
+        final var anItem = CheckoutOrderItem.with(new BigDecimal("10.75"), 2, "123");
+        final var anOrder = CheckoutOrder.builder()
+                .amount(new BigDecimal("21.50"))
+                .item(anItem)
+                .build();
+        final var aCopy = CheckoutOrder.with(anOrder);
+
+        aCopy.addOrderItem(CheckoutOrderItem.with(new BigDecimal("3.10"), 5, "456"));
+
+        Assertions.assertEquals(1, anOrder.items().size());
+        Assertions.assertEquals(new BigDecimal("21.50"), anOrder.amount());
+        Assertions.assertEquals(2, aCopy.items().size());
+        Assertions.assertEquals(new BigDecimal("37.00"), aCopy.amount());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> anOrder.items().add(anItem));
+    }
+
+    @Test
+    void givenALoadedOrder_whenChangeItems_shouldExposeOnlyTheChangedItems() {
+        final var aKeptItem = CheckoutOrderItem.with("1", new BigDecimal("10.00"), 1, "123");
+        final var anEditedItem = CheckoutOrderItem.with("2", new BigDecimal("5.00"), 1, "456");
+        final var aRemovedItem = CheckoutOrderItem.with("3", new BigDecimal("2.00"), 1, "789");
+        final var anOrder = CheckoutOrder.builder()
+                .amount(new BigDecimal("17.00"))
+                .items(List.of(aKeptItem, anEditedItem, aRemovedItem))
+                .build();
+        final var aNewItem = CheckoutOrderItem.with("4", new BigDecimal("1.00"), 3, "321");
+        final var anEdit = CheckoutOrderItem.with("2", new BigDecimal("5.00"), 2, "456");
+
+        Assertions.assertTrue(anOrder.itemChanges().isEmpty());
+
+        anOrder.update(new BigDecimal("23.00"), List.of(aKeptItem, anEdit, aNewItem), true, CheckoutOrderStatus.PENDING);
+        final var actualChanges = anOrder.itemChanges();
+
+        Assertions.assertEquals(List.of(aNewItem), actualChanges.added());
+        Assertions.assertEquals(2, actualChanges.changed().getFirst().quantity());
+        Assertions.assertEquals(List.of(aRemovedItem), actualChanges.removed());
+
+        anOrder.markItemsPersisted();
+        anOrder.removeOrderItem(aNewItem);
+
+        Assertions.assertEquals(List.of(aNewItem), anOrder.itemChanges().removed());
+        Assertions.assertEquals(1, anOrder.itemChanges().size());
+    }
+}
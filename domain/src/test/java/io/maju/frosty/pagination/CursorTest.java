@@ -0,0 +1,75 @@
+package io.maju.frosty.pagination;
+
+import io.maju.frosty.UnitTest;
+import io.maju.frosty.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CursorTest extends UnitTest {
+
+    @Test
+    void givenACursor_whenEncodeAndDecode_shouldReturnTheSameCursor() {
+        final var expectedCursor = new Cursor("name", "asc", "sorvete de çoco\n", "0190d2c1a6d07a3b8f1e2d3c4b5a6978");
+        final var aCursorWithoutKey = new Cursor("expirationDate", "desc", null, "legacy-id");
+
+        final var aToken = expectedCursor.encode();
+
+        Assertions.assertTrue(aToken.matches("[A-Za-z0-9_-]+"));
+        Assertions.assertEquals(expectedCursor, Cursor.decode(aToken));
+        Assertions.assertEquals(aCursorWithoutKey, Cursor.decode(aCursorWithoutKey.encode()));
+    }
+
+    @Test
+    void givenAnInvalidToken_whenCallDecode_shouldThrowDomainException() {
+        final var aToken = new Cursor("name", "asc", "a", "b").encode();
+
+        Assertions.assertThrows(DomainException.class, () -> Cursor.decode("not a token"));
+        Assertions.assertThrows(DomainException.class, () -> Cursor.decode(aToken.substring(0, aToken.length() - 2)));
+        Assertions.assertThrows(DomainException.class, () -> Cursor.decode(aToken + "AA"));
+    }
+
+    @Test
+    void givenACursorFromAnotherSort_whenCallRequireSort_shouldThrowDomainException() {
+        final var aCursor = new Cursor("name", "asc", "a", "b");
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> aCursor.requireSort("createdAt", "asc")
+        );
+
+        Assertions.assertEquals("'cursor' was created for sort name asc", actualException.getMessage());
+        Assertions.assertSame(aCursor, aCursor.requireSort("name", "asc"));
+    }
+
+    @Test
+    void givenACursorQuery_whenCallNext_shouldKeepTheFilters() {
+        final var aToken = new Cursor("name", "asc", "a", "b").encode();
+
+        final var actualQuery = CursorQuery.first(10, "sorvete", "name", "asc").next(aToken);
+
+        Assertions.assertEquals(new CursorQuery(aToken, 10, "sorvete", "name", "asc"), actualQuery);
+        Assertions.assertTrue(CursorQuery.first(10, null, null, null).after().isEmpty());
+        Assertions.assertEquals("b", actualQuery.after().orElseThrow().id());
+    }
+
+    @Test
+    void givenACursorPagination_whenCallTotal_shouldCountOnlyOnce() {
+        final var calls = new AtomicInteger();
+        final var aPage = new CursorPagination<>(2, "next", List.of(1, 2), () -> {
+            calls.incrementAndGet();
+            return 42;
+        });
+
+        final var aMappedPage = aPage.map(String::valueOf);
+
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals(List.of("1", "2"), aMappedPage.items());
+        Assertions.assertEquals(42, aMappedPage.total());
+        Assertions.assertEquals(42, aPage.total());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertTrue(aMappedPage.hasNext());
+    }
+}
@@ -0,0 +1,76 @@
+package io.maju.frosty.pagination;
+
+import io.maju.frosty.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class PaginationTest extends UnitTest {
+
+    @Test
+    void givenAPagination_whenCallMap_shouldReturnAMappedView() {
+        final var items = new ArrayList<>(List.of(1, 2, 3));
+        final var aPagination = new Pagination<>(0, 10, 3, items);
+
+        final var actualPagination = aPagination.map(i -> i * 10);
+
+        Assertions.assertEquals(new Pagination<>(0, 10, 3, List.of(10, 20, 30)), actualPagination);
+        Assertions.assertTrue(actualPagination.items() instanceof RandomAccess);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> actualPagination.items().add(40));
+    }
+
+    @Test
+    void givenAPagination_whenCallMapSeveralTimes_shouldFuseTheMappers() {
+        final var calls = new AtomicInteger();
+        final var aPagination = new Pagination<>(0, 10, 3, List.of(1, 2, 3));
+
+        final var actualPagination = aPagination
+                .map(i -> {
+                    calls.incrementAndGet();
+                    return i + 1;
+                })
+                .map(i -> i * 10)
+                .map(String::valueOf);
+
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals(List.of("20", "30", "40"), actualPagination.items());
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertTrue(actualPagination.items() instanceof MappedList<?, ?>);
+    }
+
+    @Test
+    void givenALinkedListPage_whenCallMap_shouldIterateTheSource() {
+        final var aPagination = new Pagination<>(0, 10, 3, new LinkedList<>(List.of("a", "b", "c")));
+
+        final var actualItems = aPagination.map(String::toUpperCase).items();
+
+        Assertions.assertFalse(actualItems instanceof RandomAccess);
+        Assertions.assertEquals(List.of("A", "B", "C"), new ArrayList<>(actualItems));
+        Assertions.assertEquals("B", actualItems.get(1));
+    }
+
+    @Test
+    void givenAMappedPagination_whenReadItSeveralTimes_shouldMapEachItemOnce() {
+        final var calls = new AtomicInteger();
+        final var aPagination = new Pagination<>(0, 10, 3, List.of(1, 2, 3));
+
+        final var actualPagination = aPagination.map(i -> {
+            calls.incrementAndGet();
+            return i == 2 ? null : i * 10;
+        });
+        actualPagination.items().get(1);
+        actualPagination.items().forEach(anItem -> {
+        });
+
+        Assertions.assertEquals(actualPagination, aPagination.map(i -> i == 2 ? null : i * 10));
+        Assertions.assertEquals(actualPagination.hashCode(), aPagination.map(i -> i == 2 ? null : i * 10).hashCode());
+        Assertions.assertEquals(10, actualPagination.items().get(0));
+        Assertions.assertNull(actualPagination.items().get(1));
+        Assertions.assertEquals(3, calls.get());
+    }
+}
@@ -0,0 +1,165 @@
+package io.maju.frosty.product;
+
+import io.maju.frosty.UnitTest;
+import io.maju.frosty.utils.IdStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class ProductIDTest extends UnitTest {
+
+    @Test
+    void givenRandomStrategy_whenCallUnique_shouldGenerateARandomUuid() {
+        final var actualId = ProductID.unique(IdStrategy.RANDOM);
+
+        Assertions.assertTrue(actualId.isBinary());
+        Assertions.assertEquals(32, actualId.getValue().length());
+        Assertions.assertEquals(4, UUID.fromString(dashed(actualId.getValue())).version());
+        Assertions.assertEquals(2, UUID.fromString(dashed(actualId.getValue())).variant());
+    }
+
+    @Test
+    void givenManyCalls_whenCallUnique_shouldNotRepeat() {
+        final var expectedCount = 10_000;
+        final var actualIds = new HashSet<ProductID>();
+
+        for (int i = 0; i < expectedCount; i++) {
+            actualIds.add(ProductID.unique());
+        }
+
+        Assertions.assertEquals(expectedCount, actualIds.size());
+    }
+
+    @Test
+    void givenNoParams_whenCallUnique_shouldGenerateATimeOrderedUuid() {
+        final var before = Instant.now().toEpochMilli();
+        final var actualId = ProductID.unique();
+        final var after = Instant.now().toEpochMilli();
+        final var actualTimestamp = actualId.timestamp().orElseThrow().toEpochMilli();
+
+        Assertions.assertEquals(7, UUID.fromString(dashed(actualId.getValue())).version());
+        Assertions.assertEquals(2, UUID.fromString(dashed(actualId.getValue())).variant());
+        Assertions.assertTrue(actualTimestamp >= before && actualTimestamp <= after);
+    }
+
+    @Test
+    void givenSequentialCalls_whenCallUniqueTimeOrdered_shouldBeSortedByValue() {
+        var previous = ProductID.unique(IdStrategy.TIME_ORDERED).getValue();
+
+        for (int i = 0; i < 100_000; i++) {
+            final var actual = ProductID.unique(IdStrategy.TIME_ORDERED).getValue();
+            Assertions.assertTrue(previous.compareTo(actual) < 0, previous + " should sort before " + actual);
+            previous = actual;
+        }
+    }
+
+    @Test
+    void givenABurstOfCalls_whenCallUniqueTimeOrdered_shouldNeverRunAheadOfTheClock() {
+        for (int i = 0; i < 200_000; i++) {
+            final var actualTimestamp = ProductID.unique(IdStrategy.TIME_ORDERED).timestamp().orElseThrow().toEpochMilli();
+            final var now = System.currentTimeMillis();
+            Assertions.assertTrue(actualTimestamp <= now, actualTimestamp + " should not be after " + now);
+        }
+    }
+
+    @Test
+    void givenConcurrentCalls_whenCallUniqueTimeOrdered_shouldNotRepeat() throws Exception {
+        final var expectedThreads = 8;
+        final var expectedPerThread = 20_000;
+        final Set<ProductID> actualIds = ConcurrentHashMap.newKeySet();
+
+        final var executor = Executors.newFixedThreadPool(expectedThreads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < expectedThreads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < expectedPerThread; i++) {
+                        actualIds.add(ProductID.unique(IdStrategy.TIME_ORDERED));
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(expectedThreads * expectedPerThread, actualIds.size());
+    }
+
+    @Test
+    void givenARandomId_whenCallTimestamp_shouldBeEmpty() {
+        Assertions.assertTrue(ProductID.unique(IdStrategy.RANDOM).timestamp().isEmpty());
+        Assertions.assertTrue(ProductID.from("123").timestamp().isEmpty());
+    }
+
+    @Test
+    void givenAnUuidString_whenCallFrom_shouldKeepValueAndParseBits() {
+        final var expectedUuid = UUID.randomUUID();
+        final var expectedValue = expectedUuid.toString().toUpperCase();
+
+        final var actualId = ProductID.from(expectedValue);
+
+        Assertions.assertTrue(actualId.isBinary());
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(expectedUuid.getMostSignificantBits(), actualId.mostSignificantBits());
+        Assertions.assertEquals(expectedUuid.getLeastSignificantBits(), actualId.leastSignificantBits());
+    }
+
+    @Test
+    void givenTheSameUuidInCompactAndDashedForms_whenCompare_shouldBeEqual() {
+        final var anUuid = UUID.randomUUID();
+        final var dashedId = ProductID.from(anUuid.toString());
+        final var compactId = ProductID.from(anUuid.toString().replace("-", ""));
+        final var binaryId = ProductID.from(anUuid.getMostSignificantBits(), anUuid.getLeastSignificantBits());
+
+        Assertions.assertEquals(dashedId, compactId);
+        Assertions.assertEquals(dashedId, binaryId);
+        Assertions.assertEquals(dashedId.hashCode(), compactId.hashCode());
+        Assertions.assertEquals(dashedId.hashCode(), binaryId.hashCode());
+        Assertions.assertEquals(anUuid.toString().replace("-", ""), binaryId.getValue());
+    }
+
+    @Test
+    void givenAnUuidWithNonAsciiDigits_whenCallFrom_shouldKeepItAsOpaqueValue() {
+        // full width digits are hex digits to Character.digit
+        final var expectedValue = "\uFF11".repeat(32);
+
+        final var actualId = ProductID.from(expectedValue);
+
+        Assertions.assertFalse(actualId.isBinary());
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+    }
+
+    @Test
+    void givenANonUuidString_whenCallFrom_shouldKeepItAsOpaqueValue() {
+        final var expectedValue = "123";
+
+        final var actualId = ProductID.from(expectedValue);
+
+        Assertions.assertFalse(actualId.isBinary());
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(ProductID.from("123"), actualId);
+        Assertions.assertNotEquals(ProductID.from("456"), actualId);
+    }
+
+    @Test
+    void givenANullString_whenCallFrom_shouldThrowError() {
+        Assertions.assertThrows(NullPointerException.class, () -> ProductID.from(null));
+    }
+
+    private static String dashed(final String aValue) {
+        return aValue.substring(0, 8) + "-" + aValue.substring(8, 12) + "-" + aValue.substring(12, 16)
+                + "-" + aValue.substring(16, 20) + "-" + aValue.substring(20);
+    }
+}
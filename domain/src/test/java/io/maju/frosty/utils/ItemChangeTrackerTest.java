@@ -0,0 +1,100 @@
+package io.maju.frosty.utils;
+
+import io.maju.frosty.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class ItemChangeTrackerTest extends UnitTest {
+
+    @Test
+    void givenAnItemAddedThenRemoved_whenCallChanges_shouldBeEmpty() {
+        final var aTracker = newTracker();
+
+        aTracker.added(new Line("1", 10));
+        aTracker.removed(new Line("1", 10));
+
+        Assertions.assertTrue(aTracker.changes().isEmpty());
+    }
+
+    @Test
+    void givenAnItemRemovedThenAddedBack_whenCallChanges_shouldTrackOnlyDifferentValues() {
+        final var aTracker = newTracker();
+
+        aTracker.removed(new Line("1", 10));
+        aTracker.added(new Line("1", 10));
+        aTracker.removed(new Line("2", 10));
+        aTracker.added(new Line("2", 20));
+
+        final var actualChanges = aTracker.changes();
+
+        Assertions.assertEquals(List.of(), actualChanges.added());
+        Assertions.assertEquals(List.of(new Line("2", 20)), actualChanges.changed());
+        Assertions.assertEquals(List.of(), actualChanges.removed());
+    }
+
+    @Test
+    void givenALargeListReplaced_whenCallChanges_shouldTrackOnlyTheDifferences() {
+        final var aTracker = newTracker();
+        final var before = IntStream.range(0, 3_000).mapToObj(i -> new Line("" + i, i)).toList();
+        final var after = new ArrayList<>(before);
+        after.set(10, new Line("10", 99));
+        after.remove(20);
+        after.add(new Line("new", 1));
+
+        aTracker.replaced(before, after);
+        final var actualChanges = aTracker.changes();
+
+        Assertions.assertEquals(3, actualChanges.size());
+        Assertions.assertEquals(List.of(new Line("new", 1)), actualChanges.added());
+        Assertions.assertEquals(List.of(new Line("10", 99)), actualChanges.changed());
+        Assertions.assertEquals(List.of(new Line("20", 20)), actualChanges.removed());
+
+        aTracker.clear();
+
+        Assertions.assertTrue(aTracker.changes().isEmpty());
+    }
+
+    @Test
+    void givenAChangedItemRemovedThenAddedBack_whenCallChanges_shouldCompareWithThePersistedValue() {
+        final var aTracker = newTracker();
+
+        aTracker.replaced(List.of(new Line("x", 1)), List.of(new Line("x", 2)));
+        aTracker.removed(new Line("x", 2));
+        aTracker.added(new Line("x", 2));
+
+        Assertions.assertEquals(List.of(new Line("x", 2)), aTracker.changes().changed());
+        Assertions.assertEquals(1, aTracker.changes().size());
+    }
+
+    @Test
+    void givenAChangedItemRemoved_whenCallChanges_shouldRemoveThePersistedValue() {
+        final var aTracker = newTracker();
+
+        aTracker.replaced(List.of(new Line("x", 1)), List.of(new Line("x", 2)));
+        aTracker.removed(new Line("x", 2));
+
+        Assertions.assertEquals(List.of(new Line("x", 1)), aTracker.changes().removed());
+        Assertions.assertEquals(1, aTracker.changes().size());
+    }
+
+    @Test
+    void givenAnItemChangedBackToItsPersistedValue_whenCallChanges_shouldBeEmpty() {
+        final var aTracker = newTracker();
+
+        aTracker.replaced(List.of(new Line("x", 1)), List.of(new Line("x", 2)));
+        aTracker.replaced(List.of(new Line("x", 2)), List.of(new Line("x", 1)));
+
+        Assertions.assertTrue(aTracker.changes().isEmpty());
+    }
+
+    private static ItemChangeTracker<Line> newTracker() {
+        return new ItemChangeTracker<>(Line::id, (a, b) -> a.quantity() == b.quantity());
+    }
+
+    private record Line(String id, int quantity) {
+    }
+}
@@ -0,0 +1,103 @@
+package io.maju.frosty.utils;
+
+import io.maju.frosty.Money;
+import io.maju.frosty.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class RunningTotalTest extends UnitTest {
+
+    @Test
+    void givenNoLines_whenCallValue_shouldReturnZero() {
+        Assertions.assertSame(BigDecimal.ZERO, new RunningTotal().value().toBigDecimal());
+    }
+
+    @Test
+    void givenLinesWithMixedScales_whenSubtractTheWidestScale_shouldMatchARecomputedSum() {
+        final var aTotal = new RunningTotal()
+                .add(Money.of("10"), 1)
+                .add(Money.of("10.75"), 2);
+
+        Assertions.assertEquals(new BigDecimal("31.50"), aTotal.value().toBigDecimal());
+
+        aTotal.subtract(Money.of("10.75"), 2);
+
+        Assertions.assertEquals(new BigDecimal("10"), aTotal.value().toBigDecimal());
+    }
+
+    @Test
+    void givenPricesOutsideTheFixedScale_whenCallValue_shouldKeepTheirScale() {
+        final var aTotal = new RunningTotal()
+                .add(Money.of("0.125"), 3)
+                .add(Money.of("1E+1"), 1);
+
+        Assertions.assertEquals(new BigDecimal("10.375"), aTotal.value().toBigDecimal());
+    }
+
+    @Test
+    void givenLinesThatOverflowALong_whenCallValue_shouldFallBackToBigDecimal() {
+        final var aPrice = new BigDecimal("92233720368547758.07");
+        final var aTotal = new RunningTotal()
+                .add(Money.of(aPrice), 1)
+                .add(Money.of(aPrice), 3)
+                .add(Money.of("0.01"), 1);
+
+        final var expectedTotal = aPrice.multiply(BigDecimal.valueOf(4)).add(new BigDecimal("0.01"));
+        Assertions.assertEquals(expectedTotal, aTotal.value().toBigDecimal());
+
+        aTotal.subtract(Money.of(aPrice), 3);
+
+        Assertions.assertEquals(new BigDecimal("92233720368547758.08"), aTotal.value().toBigDecimal());
+    }
+
+    @Test
+    void givenRandomAddsAndSubtracts_whenCallValue_shouldMatchStreamReduce() {
+        final var random = new Random(42);
+        final var aTotal = new RunningTotal();
+        final List<BigDecimal[]> lines = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            if (!lines.isEmpty() && random.nextInt(3) == 0) {
+                final var line = lines.remove(random.nextInt(lines.size()));
+                aTotal.subtract(Money.of(line[0]), line[1].intValue());
+            } else {
+                final var line = new BigDecimal[]{
+                        BigDecimal.valueOf(random.nextInt(100_000), random.nextInt(5) - 1),
+                        BigDecimal.valueOf(random.nextInt(1_000) + 1)
+                };
+                lines.add(line);
+                aTotal.add(Money.of(line[0]), line[1].intValue());
+            }
+
+            final var expected = lines.stream()
+                    .map(line -> line[0].multiply(line[1]))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            Assertions.assertEquals(expected, aTotal.value().toBigDecimal());
+        }
+    }
+
+    @Test
+    void givenTotalsOverDisjointLines_whenCallAddAll_shouldMatchASingleTotal() {
+        final var random = new Random(7);
+        final var aSingleTotal = new RunningTotal();
+        final var aFirstHalf = new RunningTotal();
+        final var aSecondHalf = new RunningTotal();
+
+        for (int i = 0; i < 2_000; i++) {
+            final var aPrice = Money.of(BigDecimal.valueOf(random.nextLong(Long.MAX_VALUE / 4), random.nextInt(5) - 1));
+            final var aQuantity = random.nextInt(3) + 1;
+            aSingleTotal.add(aPrice, aQuantity);
+            (i % 2 == 0 ? aFirstHalf : aSecondHalf).add(aPrice, aQuantity);
+        }
+
+        final var actualTotal = aFirstHalf.addAll(aSecondHalf);
+
+        Assertions.assertEquals(aSingleTotal.lines(), actualTotal.lines());
+        Assertions.assertEquals(aSingleTotal.value().toBigDecimal(), actualTotal.value().toBigDecimal());
+    }
+}
@@ -0,0 +1,71 @@
+package io.maju.frosty.validation;
+
+import io.maju.frosty.UnitTest;
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.validation.handler.ThrowsValidationHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ErrorTest extends UnitTest {
+
+    @Test
+    void givenATemplateAndArguments_whenCallOf_shouldOnlyFormatOnDemand() {
+        final var renders = new AtomicInteger();
+        final var anArgument = new Object() {
+            @Override
+            public String toString() {
+                renders.incrementAndGet();
+                return "name";
+            }
+        };
+
+        final var actualError = Error.of("'item[%d].%s' should not be empty", 7, anArgument);
+
+        Assertions.assertEquals(0, renders.get());
+        Assertions.assertEquals("'item[%d].%s' should not be empty", actualError.code());
+        Assertions.assertEquals(List.of(7, anArgument), actualError.arguments());
+        Assertions.assertEquals("'item[7].name' should not be empty", actualError.message());
+        Assertions.assertEquals("'item[7].name' should not be empty", actualError.message());
+        Assertions.assertEquals(1, renders.get());
+    }
+
+    @Test
+    void givenAPlainMessage_whenCallConstructor_shouldBehaveAsBefore() {
+        final var actualError = new Error("'name' should not be null");
+
+        Assertions.assertEquals("'name' should not be null", actualError.message());
+        Assertions.assertEquals("'name' should not be null", actualError.code());
+        Assertions.assertTrue(actualError.arguments().isEmpty());
+        Assertions.assertEquals(new Error("'name' should not be null"), actualError);
+        Assertions.assertEquals(Error.of("'item[%d]' should not be null", 1), new Error("'item[1]' should not be null"));
+        Assertions.assertEquals(
+                Error.of("'item[%d]' should not be null", 1).hashCode(),
+                new Error("'item[1]' should not be null").hashCode()
+        );
+    }
+
+    @Test
+    void givenANullMessage_whenCallConstructor_shouldKeepItNull() {
+        final var actualError = new Error((String) null);
+
+        Assertions.assertNull(actualError.message());
+        Assertions.assertNull(actualError.code());
+        Assertions.assertEquals(new Error((String) null), actualError);
+        Assertions.assertEquals(0, actualError.hashCode());
+        Assertions.assertEquals("Error[message=null]", actualError.toString());
+    }
+
+    @Test
+    void givenAThrowsValidationHandler_whenAppendALazyError_shouldExposeTheRenderedMessage() {
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> new ThrowsValidationHandler().append(Error.of("'item[%d]' should not be null", 3))
+        );
+
+        Assertions.assertEquals("'item[3]' should not be null", actualException.getMessage());
+        Assertions.assertEquals("'item[3]' should not be null", actualException.getErrors().getFirst().message());
+    }
+}
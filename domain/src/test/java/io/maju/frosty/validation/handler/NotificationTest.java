@@ -0,0 +1,90 @@
+package io.maju.frosty.validation.handler;
+
+import io.maju.frosty.UnitTest;
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class NotificationTest extends UnitTest {
+
+    @Test
+    void givenADefaultNotification_whenAppendManyErrors_shouldKeepAll() {
+        final var aNotification = Notification.create();
+
+        for (int i = 0; i < 1_000; i++) {
+            aNotification.append(new Error("error " + i));
+        }
+
+        Assertions.assertFalse(aNotification.isFull());
+        Assertions.assertEquals(1_000, aNotification.getErrors().size());
+    }
+
+    @Test
+    void givenAFailFastNotification_whenAppendErrors_shouldKeepOnlyTheFirst() {
+        final var aNotification = Notification.failFast();
+
+        aNotification.append(new Error("first"));
+        aNotification.append(new Error("second"));
+
+        Assertions.assertTrue(aNotification.isFull());
+        Assertions.assertEquals(1, aNotification.getErrors().size());
+        Assertions.assertEquals("first", aNotification.firstError().message());
+    }
+
+    @Test
+    void givenABoundedNotification_whenAppendAHandlerOrDomainException_shouldCapTheErrors() {
+        final var aNotification = Notification.bounded(3);
+        final var anotherNotification = Notification.create()
+                .append(new Error("a"))
+                .append(new Error("b"));
+
+        aNotification.append(anotherNotification);
+        aNotification.validate(() -> {
+            throw DomainException.with(List.of(new Error("c"), new Error("d")));
+        });
+
+        Assertions.assertTrue(aNotification.isFull());
+        Assertions.assertEquals(
+                List.of("a", "b", "c"),
+                aNotification.getErrors().stream().map(Error::message).toList()
+        );
+    }
+
+    @Test
+    void givenAFullNotification_whenCallValidate_shouldNotRunTheValidation() {
+        final var aNotification = Notification.failFast().append(new Error("first"));
+        final var calls = new AtomicInteger();
+
+        final var actualResult = aNotification.validate(calls::incrementAndGet);
+
+        Assertions.assertNull(actualResult);
+        Assertions.assertEquals(0, calls.get());
+    }
+
+    @Test
+    void givenAThrowableWithoutMessage_whenCallCreate_shouldKeepANullMessage() {
+        final var aNotification = Notification.create(new RuntimeException());
+
+        Assertions.assertTrue(aNotification.hasError());
+        Assertions.assertNull(aNotification.getErrors().getFirst().message());
+    }
+
+    @Test
+    void givenAValidationThrowingAnError_whenCallValidate_shouldLetItThrough() {
+        final var aNotification = Notification.create();
+
+        Assertions.assertThrows(StackOverflowError.class, () -> aNotification.validate(() -> {
+            throw new StackOverflowError();
+        }));
+        Assertions.assertFalse(aNotification.hasError());
+    }
+
+    @Test
+    void givenAnInvalidMaxErrors_whenCallBounded_shouldThrowError() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Notification.bounded(0));
+    }
+}
@@ -0,0 +1,75 @@
+package io.maju.frosty.infrastructure.checkin;
+
+import io.maju.frosty.checkin.CheckinOrder;
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.checkin.CheckinOrderItem;
+import io.maju.frosty.infrastructure.codec.BinaryCodec;
+import io.maju.frosty.infrastructure.codec.BinaryReader;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+
+import java.util.ArrayList;
+
+/**
+ * Version byte, id, flags, instants, then the item count and each item's id, name, price,
+ * quantity and product id.
+ */
+public class CheckinOrderBinaryCodec implements BinaryCodec<CheckinOrder> {
+
+    public static final int VERSION = 1;
+
+    private static final int CANCELED = 1;
+    private static final int HAS_DELETED_AT = 1 << 1;
+
+    // a typical item takes well under this, so most orders are encoded without growing the buffer
+    private static final int BYTES_PER_ITEM = 56;
+
+    @Override
+    public byte[] encode(final CheckinOrder anOrder) {
+        final var items = anOrder.items();
+        final var aWriter = new BinaryWriter(64 + items.size() * BYTES_PER_ITEM);
+        aWriter.writeByte(VERSION);
+        aWriter.writeId(anOrder.getId());
+        aWriter.writeByte((anOrder.isCanceled() ? CANCELED : 0) | (anOrder.deletedAt() != null ? HAS_DELETED_AT : 0));
+        aWriter.writeInstant(anOrder.createdAt());
+        aWriter.writeInstant(anOrder.updatedAt());
+        if (anOrder.deletedAt() != null) {
+            aWriter.writeInstant(anOrder.deletedAt());
+        }
+
+        aWriter.writeVarLong(items.size());
+        for (final var anItem : items) {
+            aWriter.writeId(anItem.id());
+            aWriter.writeString(anItem.name());
+            aWriter.writeMoney(anItem.priceAsMoney());
+            aWriter.writeSignedVarLong(anItem.quantity());
+            aWriter.writeId(anItem.productId());
+        }
+        return aWriter.toByteArray();
+    }
+
+    @Override
+    public CheckinOrder decode(final byte[] bytes) {
+        final var aReader = new BinaryReader(bytes);
+        final int aVersion = aReader.readByte();
+        if (aVersion != VERSION) {
+            throw new IllegalArgumentException("Unknown checkin order encoding version " + aVersion);
+        }
+
+        final var anId = aReader.readId(CheckinOrderID::from, CheckinOrderID::from);
+        final int flags = aReader.readByte();
+        final var aCreatedAt = aReader.readInstant();
+        final var anUpdatedAt = aReader.readInstant();
+        final var aDeletedAt = (flags & HAS_DELETED_AT) != 0 ? aReader.readInstant() : null;
+
+        final int size = aReader.readCount();
+        final var items = new ArrayList<CheckinOrderItem>(size);
+        for (int i = 0; i < size; i++) {
+            final var anItemId = aReader.readId();
+            final var aName = aReader.readString();
+            final var aPrice = aReader.readMoney().toBigDecimal();
+            final var aQuantity = aReader.readSignedVarInt();
+            items.add(CheckinOrderItem.with(anItemId, aName, aPrice, aQuantity, aReader.readId()));
+        }
+        return CheckinOrder.with(anId, items, (flags & CANCELED) != 0, aCreatedAt, anUpdatedAt, aDeletedAt);
+    }
+}
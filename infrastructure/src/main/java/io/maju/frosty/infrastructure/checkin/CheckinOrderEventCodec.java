@@ -0,0 +1,119 @@
+package io.maju.frosty.infrastructure.checkin;
+
+import io.maju.frosty.checkin.CheckinOrderEvent;
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.checkin.CheckinOrderItem;
+import io.maju.frosty.infrastructure.codec.BinaryReader;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+import io.maju.frosty.infrastructure.events.EventCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Type byte, the event's fields, then the instant it occurred on. The deletion date of a snapshot
+ * is announced by a flag byte, like in {@link CheckinOrderBinaryCodec}.
+ */
+public class CheckinOrderEventCodec implements EventCodec<CheckinOrderEvent> {
+
+    private static final int CREATED = 1;
+    private static final int ITEMS_ADDED = 2;
+    private static final int ITEM_REMOVED = 3;
+    private static final int CANCELED = 4;
+    private static final int UNCANCELED = 5;
+    private static final int UPDATED = 6;
+    private static final int SNAPSHOT = 7;
+
+    private static final int IS_CANCELED = 1;
+    private static final int HAS_DELETED_AT = 1 << 1;
+
+    @Override
+    public void write(final CheckinOrderEvent anEvent, final BinaryWriter aWriter) {
+        switch (anEvent) {
+            case CheckinOrderEvent.Created e -> {
+                aWriter.writeByte(CREATED);
+                aWriter.writeId(e.id());
+                writeItems(e.items(), aWriter);
+                aWriter.writeBoolean(e.canceled());
+            }
+            case CheckinOrderEvent.ItemsAdded e -> {
+                aWriter.writeByte(ITEMS_ADDED);
+                writeItems(e.items(), aWriter);
+            }
+            case CheckinOrderEvent.ItemRemoved e -> {
+                aWriter.writeByte(ITEM_REMOVED);
+                aWriter.writeId(e.itemId());
+            }
+            case CheckinOrderEvent.Canceled e -> aWriter.writeByte(CANCELED);
+            case CheckinOrderEvent.Uncanceled e -> aWriter.writeByte(UNCANCELED);
+            case CheckinOrderEvent.Updated e -> {
+                aWriter.writeByte(UPDATED);
+                writeItems(e.items(), aWriter);
+            }
+            case CheckinOrderEvent.Snapshot e -> {
+                aWriter.writeByte(SNAPSHOT);
+                aWriter.writeId(e.id());
+                writeItems(e.items(), aWriter);
+                aWriter.writeByte((e.canceled() ? IS_CANCELED : 0) | (e.deletedAt() != null ? HAS_DELETED_AT : 0));
+                aWriter.writeInstant(e.createdAt());
+                if (e.deletedAt() != null) {
+                    aWriter.writeInstant(e.deletedAt());
+                }
+            }
+        }
+        aWriter.writeInstant(anEvent.occurredOn());
+    }
+
+    @Override
+    public CheckinOrderEvent read(final BinaryReader aReader) {
+        final int aType = aReader.readByte();
+        return switch (aType) {
+            case CREATED -> {
+                final var anId = aReader.readId(CheckinOrderID::from, CheckinOrderID::from);
+                final var items = readItems(aReader);
+                final var isCanceled = aReader.readBoolean();
+                yield new CheckinOrderEvent.Created(anId, items, isCanceled, aReader.readInstant());
+            }
+            case ITEMS_ADDED -> new CheckinOrderEvent.ItemsAdded(readItems(aReader), aReader.readInstant());
+            case ITEM_REMOVED -> new CheckinOrderEvent.ItemRemoved(aReader.readId(), aReader.readInstant());
+            case CANCELED -> new CheckinOrderEvent.Canceled(aReader.readInstant());
+            case UNCANCELED -> new CheckinOrderEvent.Uncanceled(aReader.readInstant());
+            case UPDATED -> new CheckinOrderEvent.Updated(readItems(aReader), aReader.readInstant());
+            case SNAPSHOT -> {
+                final var anId = aReader.readId(CheckinOrderID::from, CheckinOrderID::from);
+                final var items = readItems(aReader);
+                final int flags = aReader.readByte();
+                final var aCreatedAt = aReader.readInstant();
+                final var aDeletedAt = (flags & HAS_DELETED_AT) != 0 ? aReader.readInstant() : null;
+                yield new CheckinOrderEvent.Snapshot(
+                        anId, items, (flags & IS_CANCELED) != 0, aCreatedAt, aReader.readInstant(), aDeletedAt
+                );
+            }
+            default -> throw new IllegalArgumentException("Unknown checkin order event type " + aType);
+        };
+    }
+
+    private static void writeItems(final List<CheckinOrderItem> items, final BinaryWriter aWriter) {
+        aWriter.writeVarLong(items.size());
+        for (final var anItem : items) {
+            aWriter.writeId(anItem.id());
+            aWriter.writeString(anItem.name());
+            aWriter.writeMoney(anItem.priceAsMoney());
+            aWriter.writeSignedVarLong(anItem.quantity());
+            aWriter.writeId(anItem.productId());
+        }
+    }
+
+    private static List<CheckinOrderItem> readItems(final BinaryReader aReader) {
+        final int size = aReader.readCount();
+        final var items = new ArrayList<CheckinOrderItem>(size);
+        for (int i = 0; i < size; i++) {
+            final var anId = aReader.readId();
+            final var aName = aReader.readString();
+            final var aPrice = aReader.readMoney().toBigDecimal();
+            final var aQuantity = aReader.readSignedVarInt();
+            items.add(CheckinOrderItem.with(anId, aName, aPrice, aQuantity, aReader.readId()));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,94 @@
+package io.maju.frosty.infrastructure.checkout;
+
+import io.maju.frosty.checkout.CheckoutOrder;
+import io.maju.frosty.checkout.CheckoutOrderID;
+import io.maju.frosty.checkout.CheckoutOrderItem;
+import io.maju.frosty.infrastructure.codec.BinaryCodec;
+import io.maju.frosty.infrastructure.codec.BinaryReader;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+
+import java.util.ArrayList;
+
+/**
+ * Version byte, id, flags, amount, status, customer name, instants, then the item count and each
+ * item's id, price, quantity and product id.
+ */
+public class CheckoutOrderBinaryCodec implements BinaryCodec<CheckoutOrder> {
+
+    public static final int VERSION = 1;
+
+    private static final int OPEN = 1;
+    private static final int HAS_AMOUNT = 1 << 1;
+    private static final int HAS_STATUS = 1 << 2;
+    private static final int HAS_CUSTOMER_NAME = 1 << 3;
+    private static final int HAS_DELETED_AT = 1 << 4;
+
+    // a typical item takes well under this, so most orders are encoded without growing the buffer
+    private static final int BYTES_PER_ITEM = 48;
+
+    @Override
+    public byte[] encode(final CheckoutOrder anOrder) {
+        final var items = anOrder.items();
+        final var aWriter = new BinaryWriter(96 + items.size() * BYTES_PER_ITEM);
+        aWriter.writeByte(VERSION);
+        aWriter.writeId(anOrder.getId());
+        aWriter.writeByte((anOrder.isOpen() ? OPEN : 0)
+                | (anOrder.amountAsMoney() != null ? HAS_AMOUNT : 0)
+                | (anOrder.status() != null ? HAS_STATUS : 0)
+                | (anOrder.customerName() != null ? HAS_CUSTOMER_NAME : 0)
+                | (anOrder.deletedAt() != null ? HAS_DELETED_AT : 0));
+        if (anOrder.amountAsMoney() != null) {
+            aWriter.writeMoney(anOrder.amountAsMoney());
+        }
+        if (anOrder.status() != null) {
+            CheckoutOrderStatusCodes.write(anOrder.status(), aWriter);
+        }
+        if (anOrder.customerName() != null) {
+            aWriter.writeString(anOrder.customerName());
+        }
+        aWriter.writeInstant(anOrder.createdAt());
+        aWriter.writeInstant(anOrder.updatedAt());
+        if (anOrder.deletedAt() != null) {
+            aWriter.writeInstant(anOrder.deletedAt());
+        }
+
+        aWriter.writeVarLong(items.size());
+        for (final var anItem : items) {
+            aWriter.writeId(anItem.id());
+            aWriter.writeMoney(anItem.priceAsMoney());
+            aWriter.writeSignedVarLong(anItem.quantity());
+            aWriter.writeId(anItem.productId());
+        }
+        return aWriter.toByteArray();
+    }
+
+    @Override
+    public CheckoutOrder decode(final byte[] bytes) {
+        final var aReader = new BinaryReader(bytes);
+        final int aVersion = aReader.readByte();
+        if (aVersion != VERSION) {
+            throw new IllegalArgumentException("Unknown checkout order encoding version " + aVersion);
+        }
+
+        final var anId = aReader.readId(CheckoutOrderID::from, CheckoutOrderID::from);
+        final int flags = aReader.readByte();
+        final var anAmount = (flags & HAS_AMOUNT) != 0 ? aReader.readMoney().toBigDecimal() : null;
+        final var aStatus = (flags & HAS_STATUS) != 0 ? CheckoutOrderStatusCodes.read(aReader) : null;
+        final var aCustomerName = (flags & HAS_CUSTOMER_NAME) != 0 ? aReader.readString() : null;
+        final var aCreatedAt = aReader.readInstant();
+        final var anUpdatedAt = aReader.readInstant();
+        final var aDeletedAt = (flags & HAS_DELETED_AT) != 0 ? aReader.readInstant() : null;
+
+        final int size = aReader.readCount();
+        final var items = new ArrayList<CheckoutOrderItem>(size);
+        for (int i = 0; i < size; i++) {
+            final var anItemId = aReader.readId();
+            final var aPrice = aReader.readMoney().toBigDecimal();
+            final var aQuantity = aReader.readSignedVarInt();
+            items.add(CheckoutOrderItem.with(anItemId, aPrice, aQuantity, aReader.readId()));
+        }
+        return CheckoutOrder.with(
+                anId, anAmount, items, (flags & OPEN) != 0, aStatus, aCustomerName, aCreatedAt, anUpdatedAt, aDeletedAt
+        );
+    }
+}
@@ -0,0 +1,158 @@
+package io.maju.frosty.infrastructure.checkout;
+
+import io.maju.frosty.checkout.CheckoutOrderEvent;
+import io.maju.frosty.checkout.CheckoutOrderID;
+import io.maju.frosty.checkout.CheckoutOrderItem;
+import io.maju.frosty.checkout.CheckoutOrderStatus;
+import io.maju.frosty.infrastructure.codec.BinaryReader;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+import io.maju.frosty.infrastructure.events.EventCodec;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Type byte, the event's fields, then the instant it occurred on. Optional fields of creations and
+ * snapshots are announced by a flag byte, like in {@link CheckoutOrderBinaryCodec}.
+ */
+public class CheckoutOrderEventCodec implements EventCodec<CheckoutOrderEvent> {
+
+    private static final int CREATED = 1;
+    private static final int ITEMS_ADDED = 2;
+    private static final int ITEM_REMOVED = 3;
+    private static final int OPENED = 4;
+    private static final int CLOSED = 5;
+    private static final int UPDATED = 6;
+    private static final int SNAPSHOT = 7;
+
+    private static final int OPEN = 1;
+    private static final int HAS_STATUS = 1 << 1;
+    private static final int HAS_CUSTOMER_NAME = 1 << 2;
+    private static final int HAS_DELETED_AT = 1 << 3;
+
+    @Override
+    public void write(final CheckoutOrderEvent anEvent, final BinaryWriter aWriter) {
+        switch (anEvent) {
+            case CheckoutOrderEvent.Created e -> {
+                aWriter.writeByte(CREATED);
+                aWriter.writeId(e.id());
+                aWriter.writeMoney(e.amount());
+                writeItems(e.items(), aWriter);
+                writeState(e.open(), e.status(), e.customerName(), null, aWriter);
+            }
+            case CheckoutOrderEvent.ItemsAdded e -> {
+                aWriter.writeByte(ITEMS_ADDED);
+                writeItems(e.items(), aWriter);
+            }
+            case CheckoutOrderEvent.ItemRemoved e -> {
+                aWriter.writeByte(ITEM_REMOVED);
+                aWriter.writeId(e.itemId());
+            }
+            case CheckoutOrderEvent.Opened e -> aWriter.writeByte(OPENED);
+            case CheckoutOrderEvent.Closed e -> {
+                aWriter.writeByte(CLOSED);
+                CheckoutOrderStatusCodes.write(e.status(), aWriter);
+            }
+            case CheckoutOrderEvent.Updated e -> {
+                aWriter.writeByte(UPDATED);
+                aWriter.writeMoney(e.amount());
+                writeItems(e.items(), aWriter);
+            }
+            case CheckoutOrderEvent.Snapshot e -> {
+                aWriter.writeByte(SNAPSHOT);
+                aWriter.writeId(e.id());
+                aWriter.writeMoney(e.amount());
+                writeItems(e.items(), aWriter);
+                writeState(e.open(), e.status(), e.customerName(), e.deletedAt(), aWriter);
+                aWriter.writeInstant(e.createdAt());
+            }
+        }
+        aWriter.writeInstant(anEvent.occurredOn());
+    }
+
+    @Override
+    public CheckoutOrderEvent read(final BinaryReader aReader) {
+        final int aType = aReader.readByte();
+        return switch (aType) {
+            case CREATED -> {
+                final var anId = aReader.readId(CheckoutOrderID::from, CheckoutOrderID::from);
+                final var anAmount = aReader.readMoney();
+                final var items = readItems(aReader);
+                final int flags = aReader.readByte();
+                final var aStatus = (flags & HAS_STATUS) != 0 ? CheckoutOrderStatusCodes.read(aReader) : null;
+                final var aCustomerName = (flags & HAS_CUSTOMER_NAME) != 0 ? aReader.readString() : null;
+                yield new CheckoutOrderEvent.Created(
+                        anId, anAmount, items, (flags & OPEN) != 0, aStatus, aCustomerName, aReader.readInstant()
+                );
+            }
+            case ITEMS_ADDED -> new CheckoutOrderEvent.ItemsAdded(readItems(aReader), aReader.readInstant());
+            case ITEM_REMOVED -> new CheckoutOrderEvent.ItemRemoved(aReader.readId(), aReader.readInstant());
+            case OPENED -> new CheckoutOrderEvent.Opened(aReader.readInstant());
+            case CLOSED -> new CheckoutOrderEvent.Closed(CheckoutOrderStatusCodes.read(aReader), aReader.readInstant());
+            case UPDATED -> {
+                final var anAmount = aReader.readMoney();
+                yield new CheckoutOrderEvent.Updated(anAmount, readItems(aReader), aReader.readInstant());
+            }
+            case SNAPSHOT -> {
+                final var anId = aReader.readId(CheckoutOrderID::from, CheckoutOrderID::from);
+                final var anAmount = aReader.readMoney();
+                final var items = readItems(aReader);
+                final int flags = aReader.readByte();
+                final var aStatus = (flags & HAS_STATUS) != 0 ? CheckoutOrderStatusCodes.read(aReader) : null;
+                final var aCustomerName = (flags & HAS_CUSTOMER_NAME) != 0 ? aReader.readString() : null;
+                final var aDeletedAt = (flags & HAS_DELETED_AT) != 0 ? aReader.readInstant() : null;
+                final var aCreatedAt = aReader.readInstant();
+                yield new CheckoutOrderEvent.Snapshot(
+                        anId, anAmount, items, (flags & OPEN) != 0, aStatus, aCustomerName,
+                        aCreatedAt, aReader.readInstant(), aDeletedAt
+                );
+            }
+            default -> throw new IllegalArgumentException("Unknown checkout order event type " + aType);
+        };
+    }
+
+    private static void writeState(
+            final boolean isOpen,
+            final CheckoutOrderStatus aStatus,
+            final String aCustomerName,
+            final Instant aDeletedAt,
+            final BinaryWriter aWriter
+    ) {
+        aWriter.writeByte((isOpen ? OPEN : 0)
+                | (aStatus != null ? HAS_STATUS : 0)
+                | (aCustomerName != null ? HAS_CUSTOMER_NAME : 0)
+                | (aDeletedAt != null ? HAS_DELETED_AT : 0));
+        if (aStatus != null) {
+            CheckoutOrderStatusCodes.write(aStatus, aWriter);
+        }
+        if (aCustomerName != null) {
+            aWriter.writeString(aCustomerName);
+        }
+        if (aDeletedAt != null) {
+            aWriter.writeInstant(aDeletedAt);
+        }
+    }
+
+    private static void writeItems(final List<CheckoutOrderItem> items, final BinaryWriter aWriter) {
+        aWriter.writeVarLong(items.size());
+        for (final var anItem : items) {
+            aWriter.writeId(anItem.id());
+            aWriter.writeMoney(anItem.priceAsMoney());
+            aWriter.writeSignedVarLong(anItem.quantity());
+            aWriter.writeId(anItem.productId());
+        }
+    }
+
+    private static List<CheckoutOrderItem> readItems(final BinaryReader aReader) {
+        final int size = aReader.readCount();
+        final var items = new ArrayList<CheckoutOrderItem>(size);
+        for (int i = 0; i < size; i++) {
+            final var anId = aReader.readId();
+            final var aPrice = aReader.readMoney().toBigDecimal();
+            final var aQuantity = aReader.readSignedVarInt();
+            items.add(CheckoutOrderItem.with(anId, aPrice, aQuantity, aReader.readId()));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,38 @@
+package io.maju.frosty.infrastructure.checkout;
+
+import io.maju.frosty.checkout.CheckoutOrderStatus;
+import io.maju.frosty.infrastructure.codec.BinaryReader;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+
+/**
+ * Stored code of each {@link CheckoutOrderStatus}, fixed here so reordering or adding statuses
+ * never changes what an encoded order or event means. The codes match the declaration order the
+ * first encodings used.
+ */
+final class CheckoutOrderStatusCodes {
+
+    private static final int PENDING = 0;
+    private static final int COMPLETED = 1;
+    private static final int ERROR = 2;
+
+    private CheckoutOrderStatusCodes() {
+    }
+
+    static void write(final CheckoutOrderStatus aStatus, final BinaryWriter aWriter) {
+        aWriter.writeByte(switch (aStatus) {
+            case PENDING -> PENDING;
+            case COMPLETED -> COMPLETED;
+            case ERROR -> ERROR;
+        });
+    }
+
+    static CheckoutOrderStatus read(final BinaryReader aReader) {
+        final int aCode = aReader.readByte();
+        return switch (aCode) {
+            case PENDING -> CheckoutOrderStatus.PENDING;
+            case COMPLETED -> CheckoutOrderStatus.COMPLETED;
+            case ERROR -> CheckoutOrderStatus.ERROR;
+            default -> throw new IllegalArgumentException("Unknown checkout order status " + aCode);
+        };
+    }
+}
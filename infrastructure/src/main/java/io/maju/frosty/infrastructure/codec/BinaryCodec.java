@@ -0,0 +1,9 @@
+package io.maju.frosty.infrastructure.codec;
+
+public interface BinaryCodec<T> {
+
+    byte[] encode(T aValue);
+
+    // fails with an IllegalArgumentException for unknown versions or malformed input
+    T decode(byte[] bytes);
+}
@@ -0,0 +1,160 @@
+package io.maju.frosty.infrastructure.codec;
+
+import io.maju.frosty.Money;
+import io.maju.frosty.utils.IdUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Reads the encodings of {@link BinaryWriter} back, in the same order. Running past the end of the
+ * input or meeting an unknown tag fails with an {@link IllegalArgumentException}.
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public BinaryReader(final byte[] aBuffer) {
+        this(aBuffer, 0, aBuffer.length);
+    }
+
+    public BinaryReader(final byte[] aBuffer, final int anOffset, final int aLength) {
+        this.buffer = aBuffer;
+        this.position = anOffset;
+        this.limit = Math.addExact(anOffset, aLength);
+    }
+
+    public int readByte() {
+        require(1);
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long aValue = 0L;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final int aByte = readByte();
+            aValue |= (long) (aByte & 0x7F) << shift;
+            if ((aByte & 0x80) == 0) {
+                return aValue;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at " + this.position);
+    }
+
+    public long readSignedVarLong() {
+        final long aValue = readVarLong();
+        return (aValue >>> 1) ^ -(aValue & 1);
+    }
+
+    public int readVarInt() {
+        return toInt(readVarLong());
+    }
+
+    public int readSignedVarInt() {
+        return toInt(readSignedVarLong());
+    }
+
+    // every element takes at least one byte, so a larger count can only come from corrupt input
+    public int readCount() {
+        final int aCount = readVarInt();
+        if (aCount < 0 || aCount > this.limit - this.position) {
+            throw new IllegalArgumentException("Count %d exceeds the input left at %d".formatted(aCount, this.position));
+        }
+        return aCount;
+    }
+
+    public boolean readBoolean() {
+        final int aValue = readByte();
+        if (aValue > 1) {
+            throw new IllegalArgumentException("Malformed boolean at " + (this.position - 1));
+        }
+        return aValue == 1;
+    }
+
+    public long readLong() {
+        require(Long.BYTES);
+        long aValue = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            aValue = (aValue << 8) | (this.buffer[this.position++] & 0xFF);
+        }
+        return aValue;
+    }
+
+    public byte[] readBytes() {
+        final int aLength = readVarInt();
+        require(aLength);
+        final var bytes = new byte[aLength];
+        System.arraycopy(this.buffer, this.position, bytes, 0, aLength);
+        this.position += aLength;
+        return bytes;
+    }
+
+    public String readString() {
+        final int aLength = readVarInt();
+        require(aLength);
+        final var aValue = new String(this.buffer, this.position, aLength, StandardCharsets.UTF_8);
+        this.position += aLength;
+        return aValue;
+    }
+
+    public String readId() {
+        return readId(IdUtils::hex, Function.identity());
+    }
+
+    public <ID> ID readId(final FromBits<ID> fromBits, final Function<String, ID> fromText) {
+        final int aTag = readByte();
+        return switch (aTag) {
+            case BinaryWriter.BINARY_ID -> fromBits.apply(readLong(), readLong());
+            case BinaryWriter.TEXT_ID -> fromText.apply(readString());
+            default -> throw new IllegalArgumentException("Unknown id tag " + aTag);
+        };
+    }
+
+    public Money readMoney() {
+        final long aHeader = readVarLong();
+        final long aZigZagScale = aHeader >>> 1;
+        final int aScale = (int) ((aZigZagScale >>> 1) ^ -(aZigZagScale & 1));
+        if ((aHeader & 1) == 0) {
+            return Money.of(readSignedVarLong(), aScale);
+        }
+        return Money.of(new BigDecimal(new BigInteger(readBytes()), aScale));
+    }
+
+    public Instant readInstant() {
+        final long micros = readSignedVarLong();
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    public LocalDate readDate() {
+        return LocalDate.ofEpochDay(readSignedVarLong());
+    }
+
+    public boolean hasRemaining() {
+        return this.position < this.limit;
+    }
+
+    @FunctionalInterface
+    public interface FromBits<ID> {
+
+        ID apply(long mostSigBits, long leastSigBits);
+    }
+
+    private int toInt(final long aValue) {
+        if (aValue < Integer.MIN_VALUE || aValue > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Value %d at %d does not fit an int".formatted(aValue, this.position));
+        }
+        return (int) aValue;
+    }
+
+    private void require(final int aLength) {
+        if (aLength < 0 || this.limit - this.position < aLength) {
+            throw new IllegalArgumentException("Unexpected end of input at " + this.position);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.maju.frosty.infrastructure.codec;
+
+import io.maju.frosty.BinaryIdentifier;
+import io.maju.frosty.Money;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Growable buffer of compact field encodings, read back by {@link BinaryReader}. Integers are
+ * varints, zigzag-encoded when they may be negative; strings are a varint length and UTF-8 bytes;
+ * money is a scale plus unscaled units; instants are microseconds since the epoch.
+ */
+public final class BinaryWriter {
+
+    static final int TEXT_ID = 0;
+    static final int BINARY_ID = 1;
+
+    private byte[] buffer;
+    private int size;
+
+    public BinaryWriter(final int anInitialCapacity) {
+        this.buffer = new byte[Math.max(anInitialCapacity, 16)];
+    }
+
+    public BinaryWriter writeByte(final int aValue) {
+        ensureCapacity(1);
+        this.buffer[this.size++] = (byte) aValue;
+        return this;
+    }
+
+    public BinaryWriter writeBoolean(final boolean aValue) {
+        return writeByte(aValue ? 1 : 0);
+    }
+
+    public BinaryWriter writeVarLong(final long aValue) {
+        ensureCapacity(10);
+        long aRemaining = aValue;
+        while ((aRemaining & ~0x7FL) != 0) {
+            this.buffer[this.size++] = (byte) ((aRemaining & 0x7F) | 0x80);
+            aRemaining >>>= 7;
+        }
+        this.buffer[this.size++] = (byte) aRemaining;
+        return this;
+    }
+
+    public BinaryWriter writeSignedVarLong(final long aValue) {
+        return writeVarLong((aValue << 1) ^ (aValue >> 63));
+    }
+
+    public BinaryWriter writeLong(final long aValue) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            this.buffer[this.size++] = (byte) (aValue >>> shift);
+        }
+        return this;
+    }
+
+    public BinaryWriter writeBytes(final byte[] bytes) {
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+        this.size += bytes.length;
+        return this;
+    }
+
+    public BinaryWriter writeString(final String aValue) {
+        return writeBytes(aValue.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // identifiers in their compact hex form take 16 bytes instead of 32 characters
+    public BinaryWriter writeId(final String aValue) {
+        if (isCompactHex(aValue)) {
+            writeByte(BINARY_ID);
+            writeLong(Long.parseUnsignedLong(aValue, 0, 16, 16));
+            return writeLong(Long.parseUnsignedLong(aValue, 16, 32, 16));
+        }
+        writeByte(TEXT_ID);
+        return writeString(aValue);
+    }
+
+    public BinaryWriter writeId(final BinaryIdentifier anId) {
+        if (anId.isBinary()) {
+            writeByte(BINARY_ID);
+            writeLong(anId.mostSignificantBits());
+            return writeLong(anId.leastSignificantBits());
+        }
+        writeByte(TEXT_ID);
+        return writeString(anId.getValue());
+    }
+
+    // the lowest bit tells whether the units are a long or the bytes of a BigInteger
+    public BinaryWriter writeMoney(final Money aMoney) {
+        final long aScale = ((long) aMoney.scale() << 1) ^ (aMoney.scale() >> 31);
+        if (aMoney.isCompact()) {
+            writeVarLong(aScale << 1);
+            return writeSignedVarLong(aMoney.units());
+        }
+        writeVarLong((aScale << 1) | 1);
+        return writeBytes(aMoney.toBigDecimal().unscaledValue().toByteArray());
+    }
+
+    // instants are expected truncated to micros, like InstantUtils.now()
+    public BinaryWriter writeInstant(final Instant anInstant) {
+        if (anInstant.getNano() % 1_000 != 0) {
+            throw new IllegalArgumentException("'instant' %s has sub-microsecond precision".formatted(anInstant));
+        }
+        return writeSignedVarLong(Math.addExact(
+                Math.multiplyExact(anInstant.getEpochSecond(), 1_000_000L), anInstant.getNano() / 1_000
+        ));
+    }
+
+    public BinaryWriter writeDate(final LocalDate aDate) {
+        return writeSignedVarLong(aDate.toEpochDay());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.size);
+    }
+
+    private void ensureCapacity(final int aLength) {
+        if (this.size + aLength > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.size + aLength));
+        }
+    }
+
+    private static boolean isCompactHex(final String aValue) {
+        if (aValue.length() != 32) {
+            return false;
+        }
+        for (int i = 0; i < 32; i++) {
+            final char c = aValue.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,13 @@
+package io.maju.frosty.infrastructure.events;
+
+import io.maju.frosty.events.DomainEvent;
+import io.maju.frosty.infrastructure.codec.BinaryReader;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+
+public interface EventCodec<E extends DomainEvent> {
+
+    void write(E anEvent, BinaryWriter aWriter);
+
+    // fails with an IllegalArgumentException for unknown event types or malformed input
+    E read(BinaryReader aReader);
+}
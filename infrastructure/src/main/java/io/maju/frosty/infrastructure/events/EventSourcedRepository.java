@@ -0,0 +1,75 @@
+package io.maju.frosty.infrastructure.events;
+
+import io.maju.frosty.AggregateRoot;
+import io.maju.frosty.Identifier;
+import io.maju.frosty.events.DomainEvent;
+import io.maju.frosty.events.EventStore;
+import io.maju.frosty.events.EventStream;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Saves an aggregate by appending only its pending events, and loads it by replaying them. A
+ * snapshot is stored every {@code snapshotEvery} events so a replay never goes through more than
+ * that many events, however long the history of the aggregate is.
+ * <p>
+ * Only aggregates that record their events can be saved, those built for it or replayed by it.
+ */
+public class EventSourcedRepository<ID extends Identifier, A extends AggregateRoot<ID>, E extends DomainEvent> {
+
+    private final EventStore<ID, E> store;
+    private final Class<E> eventType;
+    private final Function<EventStream<E>, A> replay;
+    private final Function<A, ? extends E> snapshot;
+    private final int snapshotEvery;
+
+    public EventSourcedRepository(
+            final EventStore<ID, E> aStore,
+            final Class<E> anEventType,
+            final Function<EventStream<E>, A> aReplay,
+            final Function<A, ? extends E> aSnapshot,
+            final int aSnapshotEvery
+    ) {
+        if (aSnapshotEvery <= 0) {
+            throw new IllegalArgumentException("'snapshotEvery' should be greater than zero");
+        }
+        this.store = Objects.requireNonNull(aStore);
+        this.eventType = Objects.requireNonNull(anEventType);
+        this.replay = Objects.requireNonNull(aReplay);
+        this.snapshot = Objects.requireNonNull(aSnapshot);
+        this.snapshotEvery = aSnapshotEvery;
+    }
+
+    public A save(final A anAggregate) {
+        if (!anAggregate.isRecordingEvents()) {
+            throw new IllegalArgumentException(
+                    "'aggregate' %s does not record its events".formatted(anAggregate.getId().getValue())
+            );
+        }
+        final var events = anAggregate.pendingEvents().stream()
+                .map(this.eventType::cast)
+                .toList();
+        if (events.isEmpty()) {
+            return anAggregate;
+        }
+
+        final long previous = anAggregate.version();
+        final long version = this.store.append(anAggregate.getId(), previous, events);
+        anAggregate.markEventsCommitted(version);
+
+        if (version / this.snapshotEvery > previous / this.snapshotEvery) {
+            this.store.snapshot(anAggregate.getId(), version, this.snapshot.apply(anAggregate));
+        }
+        return anAggregate;
+    }
+
+    public Optional<A> findById(final ID anId) {
+        final var aStream = this.store.load(anId);
+        if (aStream.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(this.replay.apply(aStream));
+    }
+}
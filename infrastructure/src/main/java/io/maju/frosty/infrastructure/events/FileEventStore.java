@@ -0,0 +1,304 @@
+package io.maju.frosty.infrastructure.events;
+
+import io.maju.frosty.Identifier;
+import io.maju.frosty.events.DomainEvent;
+import io.maju.frosty.events.EventStore;
+import io.maju.frosty.events.EventStream;
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.infrastructure.codec.BinaryReader;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+import io.maju.frosty.validation.Error;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * {@link EventStore} keeping one append-only file per aggregate in a directory, for tests and
+ * single-node setups. Each record is {@code [length][crc32][payload]}; a torn record at the end of
+ * a file, left by a crash mid-append, is cut off the first time the file is opened.
+ * <p>
+ * Snapshots live in a second file, replaced atomically, which also remembers the position in the
+ * event file they were taken at, so loading skips every event before it without reading it.
+ */
+public class FileEventStore<ID extends Identifier, E extends DomainEvent> implements EventStore<ID, E> {
+
+    private static final String EVENTS_SUFFIX = ".events";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int SNAPSHOT_HEADER_SIZE = Long.BYTES * 2 + RECORD_HEADER_SIZE;
+
+    private final Path directory;
+    private final EventCodec<E> codec;
+    private final ConcurrentHashMap<String, Head> heads = new ConcurrentHashMap<>();
+
+    public FileEventStore(final Path aDirectory, final EventCodec<E> aCodec) {
+        this.directory = Objects.requireNonNull(aDirectory);
+        this.codec = Objects.requireNonNull(aCodec);
+        try {
+            Files.createDirectories(aDirectory);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long append(final ID anId, final long anExpectedVersion, final List<? extends E> events) {
+        final var records = new ByteArrayOutputStream();
+        for (final var anEvent : events) {
+            writeRecord(encode(anEvent), records);
+        }
+        final var bytes = records.toByteArray();
+
+        final var key = anId.getValue();
+        final var aHead = head(key);
+        aHead.lock.lock();
+        try {
+            recoverIfNeeded(key, aHead);
+            if (aHead.version != anExpectedVersion) {
+                throw DomainException.with(Error.of(
+                        "'version' %d of %s is stale, the current one is %d", anExpectedVersion, key, aHead.version
+                ));
+            }
+            if (bytes.length > 0) {
+                write(eventsFile(key), aHead.size, bytes);
+            }
+            aHead.version += events.size();
+            aHead.size += bytes.length;
+            return aHead.version;
+        } finally {
+            aHead.lock.unlock();
+        }
+    }
+
+    @Override
+    public void snapshot(final ID anId, final long aVersion, final E aSnapshot) {
+        final var payload = encode(aSnapshot);
+        final var key = anId.getValue();
+        final var aHead = head(key);
+        aHead.lock.lock();
+        try {
+            recoverIfNeeded(key, aHead);
+            final long offset = aHead.version == aVersion ? aHead.size : offsetOf(key, aVersion);
+            writeSnapshot(key, aVersion, offset, payload);
+        } finally {
+            aHead.lock.unlock();
+        }
+    }
+
+    @Override
+    public EventStream<E> load(final ID anId) {
+        final var key = anId.getValue();
+        final var aHead = head(key);
+        final long version;
+        final long size;
+        aHead.lock.lock();
+        try {
+            recoverIfNeeded(key, aHead);
+            version = aHead.version;
+            size = aHead.size;
+        } finally {
+            aHead.lock.unlock();
+        }
+        final var events = new ArrayList<E>();
+
+        long from = 0L;
+        final var aSnapshot = readSnapshot(key);
+        if (aSnapshot != null && aSnapshot.offset() <= size) {
+            events.add(aSnapshot.event());
+            from = aSnapshot.offset();
+        }
+
+        final var buffer = read(eventsFile(key), from, size);
+        while (buffer.hasRemaining()) {
+            final int length = buffer.getInt();
+            buffer.getInt();
+            events.add(decode(buffer.array(), buffer.position(), length));
+            buffer.position(buffer.position() + length);
+        }
+        return new EventStream<>(version, events);
+    }
+
+    private Path eventsFile(final String key) {
+        return this.directory.resolve(key + EVENTS_SUFFIX);
+    }
+
+    private Path snapshotFile(final String key) {
+        return this.directory.resolve(key + SNAPSHOT_SUFFIX);
+    }
+
+    // the map only hands out the head, file work happens under its lock so other aggregates go on
+    private Head head(final String key) {
+        return this.heads.computeIfAbsent(key, anyKey -> new Head());
+    }
+
+    // counts the complete records and drops whatever follows the last one, once per aggregate
+    private void recoverIfNeeded(final String key, final Head aHead) {
+        if (aHead.recovered) {
+            return;
+        }
+        final var aFile = eventsFile(key);
+        if (!Files.exists(aFile)) {
+            aHead.recovered = true;
+            return;
+        }
+        try (final var aChannel = FileChannel.open(aFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var buffer = read(aChannel, 0L, aChannel.size());
+            long version = 0L;
+            while (isCompleteRecord(buffer)) {
+                buffer.position(buffer.position() + RECORD_HEADER_SIZE + buffer.getInt(buffer.position()));
+                version++;
+            }
+            if (buffer.position() < aChannel.size()) {
+                aChannel.truncate(buffer.position());
+                aChannel.force(true);
+            }
+            aHead.version = version;
+            aHead.size = buffer.position();
+            aHead.recovered = true;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isCompleteRecord(final ByteBuffer buffer) {
+        if (buffer.remaining() < RECORD_HEADER_SIZE) {
+            return false;
+        }
+        final int start = buffer.position();
+        final int length = buffer.getInt(start);
+        if (length < 0 || length > buffer.remaining() - RECORD_HEADER_SIZE) {
+            return false;
+        }
+        final var crc = new CRC32();
+        crc.update(buffer.array(), start + RECORD_HEADER_SIZE, length);
+        return (int) crc.getValue() == buffer.getInt(start + Integer.BYTES);
+    }
+
+    private long offsetOf(final String key, final long aVersion) {
+        final var buffer = read(eventsFile(key), 0L, Long.MAX_VALUE);
+        for (long version = 0L; version < aVersion; version++) {
+            if (!isCompleteRecord(buffer)) {
+                throw new IllegalArgumentException("'version' %d of %s was not stored".formatted(aVersion, key));
+            }
+            buffer.position(buffer.position() + RECORD_HEADER_SIZE + buffer.getInt(buffer.position()));
+        }
+        return buffer.position();
+    }
+
+    private void writeSnapshot(final String key, final long aVersion, final long anOffset, final byte[] payload) {
+        final var buffer = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE + payload.length)
+                .putLong(aVersion)
+                .putLong(anOffset)
+                .putInt(payload.length)
+                .putInt(crcOf(payload, 0, payload.length))
+                .put(payload);
+        try {
+            final var aTemporary = Files.createTempFile(this.directory, key, ".tmp");
+            write(aTemporary, 0L, buffer.array());
+            Files.move(aTemporary, snapshotFile(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // a damaged snapshot is ignored, the full event file is replayed instead
+    private Snapshot<E> readSnapshot(final String key) {
+        final var aFile = snapshotFile(key);
+        if (!Files.exists(aFile)) {
+            return null;
+        }
+        final var buffer = read(aFile, 0L, Long.MAX_VALUE);
+        if (buffer.remaining() < SNAPSHOT_HEADER_SIZE) {
+            return null;
+        }
+        buffer.getLong();
+        final long offset = buffer.getLong();
+        if (!isCompleteRecord(buffer)) {
+            return null;
+        }
+        final int length = buffer.getInt(buffer.position());
+        return new Snapshot<>(offset, decode(buffer.array(), buffer.position() + RECORD_HEADER_SIZE, length));
+    }
+
+    private static ByteBuffer read(final Path aFile, final long from, final long to) {
+        if (!Files.exists(aFile)) {
+            return ByteBuffer.allocate(0);
+        }
+        try (final var aChannel = FileChannel.open(aFile, StandardOpenOption.READ)) {
+            return read(aChannel, from, Math.min(to, aChannel.size()));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer read(final FileChannel aChannel, final long from, final long to) throws IOException {
+        final var buffer = ByteBuffer.allocate(Math.toIntExact(to - from));
+        while (buffer.hasRemaining()) {
+            if (aChannel.read(buffer, from + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void write(final Path aFile, final long aPosition, final byte[] bytes) {
+        try (final var aChannel = FileChannel.open(aFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            final var buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                aChannel.write(buffer, aPosition + buffer.position());
+            }
+            aChannel.force(false);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRecord(final byte[] payload, final ByteArrayOutputStream anOutput) {
+        final var header = ByteBuffer.allocate(RECORD_HEADER_SIZE)
+                .putInt(payload.length)
+                .putInt(crcOf(payload, 0, payload.length));
+        anOutput.writeBytes(header.array());
+        anOutput.writeBytes(payload);
+    }
+
+    private static int crcOf(final byte[] bytes, final int offset, final int length) {
+        final var crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private byte[] encode(final E anEvent) {
+        final var aWriter = new BinaryWriter(128);
+        this.codec.write(anEvent, aWriter);
+        return aWriter.toByteArray();
+    }
+
+    private E decode(final byte[] bytes, final int offset, final int length) {
+        return this.codec.read(new BinaryReader(bytes, offset, length));
+    }
+
+    // guarded by its lock
+    private static final class Head {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean recovered;
+        private long version;
+        private long size;
+    }
+
+    private record Snapshot<E>(long offset, E event) {
+    }
+}
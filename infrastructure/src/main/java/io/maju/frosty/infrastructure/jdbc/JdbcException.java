@@ -0,0 +1,13 @@
+package io.maju.frosty.infrastructure.jdbc;
+
+import java.io.Serial;
+
+public class JdbcException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = -2785036624532715839L;
+
+    public JdbcException(final String aMessage, final Exception aCause) {
+        super(aMessage, aCause);
+    }
+}
@@ -0,0 +1,64 @@
+package io.maju.frosty.infrastructure.journal;
+
+import io.maju.frosty.checkout.CheckoutOrderEvent;
+import io.maju.frosty.checkout.CheckoutOrderID;
+import io.maju.frosty.infrastructure.checkout.CheckoutOrderEventCodec;
+import io.maju.frosty.infrastructure.codec.BinaryReader;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Local durable log of checkout order events, mostly creations and closes, so a checkout can be
+ * acknowledged as soon as it is on the local disk. A background task calls {@link #drain} to hand
+ * the journaled events to the database in batches; a batch is only checkpointed once the sink
+ * returns, so a crash while draining sends it again.
+ */
+public class CheckoutOrderJournal implements Closeable {
+
+    private final SegmentedJournal journal;
+    private final CheckoutOrderEventCodec codec = new CheckoutOrderEventCodec();
+
+    public CheckoutOrderJournal(final Path aDirectory, final int aSegmentSize) {
+        this(new SegmentedJournal(aDirectory, aSegmentSize));
+    }
+
+    public CheckoutOrderJournal(final SegmentedJournal aJournal) {
+        this.journal = Objects.requireNonNull(aJournal);
+    }
+
+    public long append(final CheckoutOrderID anId, final CheckoutOrderEvent anEvent) {
+        final var aWriter = new BinaryWriter(128).writeId(anId);
+        this.codec.write(anEvent, aWriter);
+        return this.journal.append(aWriter.toByteArray());
+    }
+
+    // hands up to 'aBatchSize' undrained entries to the sink, returns how many
+    public synchronized int drain(final int aBatchSize, final Consumer<List<Entry>> aSink) {
+        final var records = this.journal.read(this.journal.checkpoint(), aBatchSize);
+        if (records.isEmpty()) {
+            return 0;
+        }
+        aSink.accept(records.stream().map(this::decode).toList());
+        this.journal.checkpoint(records.getLast().sequence());
+        return records.size();
+    }
+
+    @Override
+    public void close() {
+        this.journal.close();
+    }
+
+    private Entry decode(final SegmentedJournal.Record aRecord) {
+        final var aReader = new BinaryReader(aRecord.payload());
+        final var anId = aReader.readId(CheckoutOrderID::from, CheckoutOrderID::from);
+        return new Entry(aRecord.sequence(), anId, this.codec.read(aReader));
+    }
+
+    public record Entry(long sequence, CheckoutOrderID orderId, CheckoutOrderEvent event) {
+    }
+}
@@ -0,0 +1,349 @@
+package io.maju.frosty.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Durable append-only log of byte records over memory-mapped segment files of a fixed size. Each
+ * record is {@code [length][crc32][payload]} and gets the next sequence number, starting at 1; a
+ * segment is named after the sequence of its first record and a new one is started when the
+ * current one is full.
+ * <p>
+ * {@link #append(byte[])} returns once its record is forced to disk. Appenders that arrive while a
+ * force is running wait for the next one, which then covers all of them, so the cost of a sync is
+ * shared by every record written in the meantime.
+ * <p>
+ * On open, the last segment is scanned up to the first record that is incomplete or fails its
+ * checksum, which is what a crash in the middle of a write leaves behind, and everything after it
+ * is zeroed. Records up to {@link #checkpoint()} were drained and whole segments below it are deleted.
+ */
+public class SegmentedJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final byte[] ZEROS = new byte[4_096];
+
+    private final Path directory;
+    private final int segmentSize;
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition synced = this.lock.newCondition();
+
+    private Segment current;
+    private long lastSequence;
+    private long durableSequence;
+    private boolean syncing;
+    private long checkpoint;
+
+    public SegmentedJournal(final Path aDirectory, final int aSegmentSize) {
+        if (aSegmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("'segmentSize' should be greater than " + HEADER_SIZE);
+        }
+        this.directory = Objects.requireNonNull(aDirectory);
+        this.segmentSize = aSegmentSize;
+        try {
+            Files.createDirectories(aDirectory);
+            this.checkpoint = readCheckpoint();
+            recover();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // the sequence of the record, durable when this returns
+    public long append(final byte[] aPayload) {
+        final long aSequence;
+        this.lock.lock();
+        try {
+            aSequence = write(aPayload);
+        } finally {
+            this.lock.unlock();
+        }
+        sync(aSequence);
+        return aSequence;
+    }
+
+    // up to 'aLimit' durable records after 'afterSequence', in order
+    public List<Record> read(final long afterSequence, final int aLimit) {
+        final var records = new ArrayList<Record>(Math.min(aLimit, 1_024));
+        this.lock.lock();
+        try {
+            final var aFloor = this.segments.floorKey(afterSequence + 1);
+            final var tail = aFloor != null ? this.segments.tailMap(aFloor) : this.segments;
+            for (final var aSegment : tail.values()) {
+                aSegment.read(afterSequence, this.durableSequence, aLimit, records);
+                if (records.size() >= aLimit || aSegment.firstSequence + aSegment.count > this.durableSequence) {
+                    break;
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        return records;
+    }
+
+    public long lastSequence() {
+        this.lock.lock();
+        try {
+            return this.lastSequence;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public long checkpoint() {
+        this.lock.lock();
+        try {
+            return this.checkpoint;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // records up to 'aSequence' were drained, segments holding only those are deleted
+    public void checkpoint(final long aSequence) {
+        this.lock.lock();
+        try {
+            if (aSequence <= this.checkpoint) {
+                return;
+            }
+            if (aSequence > this.durableSequence) {
+                throw new IllegalArgumentException("'sequence' %d was not written yet".formatted(aSequence));
+            }
+            writeCheckpoint(aSequence);
+            this.checkpoint = aSequence;
+
+            final var drained = this.segments.headMap(this.segments.floorKey(aSequence + 1));
+            for (final var aSegment : drained.values()) {
+                aSegment.delete();
+            }
+            drained.clear();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            this.segments.values().forEach(Segment::close);
+            this.durableSequence = this.lastSequence;
+            this.segments.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private long write(final byte[] aPayload) {
+        // a zero length is where the scan on open stops
+        if (aPayload.length == 0) {
+            throw new IllegalArgumentException("'payload' should not be empty");
+        }
+        final int aSize = HEADER_SIZE + aPayload.length;
+        if (aSize > this.segmentSize) {
+            throw new IllegalArgumentException("Record of %d bytes does not fit a segment".formatted(aSize));
+        }
+        if (this.current.buffer.remaining() < aSize) {
+            roll();
+        }
+        final var aBuffer = this.current.buffer;
+        final int aPosition = aBuffer.position();
+        aBuffer.position(aPosition + HEADER_SIZE);
+        aBuffer.put(aPayload);
+        aBuffer.putInt(aPosition + Integer.BYTES, crcOf(aPayload));
+        aBuffer.putInt(aPosition, aPayload.length);
+        this.current.count++;
+        return ++this.lastSequence;
+    }
+
+    // a single thread forces at a time, covering whatever was written when it started; when the
+    // force fails, the records stay not durable and the next waiter forces again
+    private void sync(final long aSequence) {
+        this.lock.lock();
+        try {
+            while (this.durableSequence < aSequence) {
+                if (this.syncing) {
+                    this.synced.awaitUninterruptibly();
+                    continue;
+                }
+                this.syncing = true;
+                final long aTarget = this.lastSequence;
+                final var aBuffer = this.current.buffer;
+                this.lock.unlock();
+                boolean forced = false;
+                try {
+                    force(aBuffer);
+                    forced = true;
+                } finally {
+                    this.lock.lock();
+                    this.syncing = false;
+                    if (forced) {
+                        this.durableSequence = Math.max(this.durableSequence, aTarget);
+                    }
+                    this.synced.signalAll();
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // the full segment is forced before moving on, so sync only ever has the current one to force
+    private void roll() {
+        force(this.current.buffer);
+        this.durableSequence = this.lastSequence;
+        this.current = openSegment(this.lastSequence + 1);
+        this.segments.put(this.current.firstSequence, this.current);
+    }
+
+    // package-private so tests can make the disk fail
+    void force(final MappedByteBuffer aBuffer) {
+        aBuffer.force();
+    }
+
+    private void recover() throws IOException {
+        try (final Stream<Path> files = Files.list(this.directory)) {
+            files.map(Path::getFileName)
+                    .map(Path::toString)
+                    .filter(aName -> aName.startsWith(SEGMENT_PREFIX) && aName.endsWith(SEGMENT_SUFFIX))
+                    .map(aName -> Long.parseLong(aName.substring(SEGMENT_PREFIX.length(), aName.length() - SEGMENT_SUFFIX.length())))
+                    .forEach(aFirstSequence -> this.segments.put(aFirstSequence, openSegment(aFirstSequence)));
+        }
+
+        if (this.segments.isEmpty()) {
+            this.current = openSegment(this.checkpoint + 1);
+            this.segments.put(this.current.firstSequence, this.current);
+        }
+        this.segments.values().forEach(Segment::scan);
+        this.current = this.segments.lastEntry().getValue();
+        this.current.zeroRemaining();
+        this.lastSequence = this.current.firstSequence + this.current.count - 1;
+        this.durableSequence = this.lastSequence;
+    }
+
+    private Segment openSegment(final long aFirstSequence) {
+        final var aFile = this.directory.resolve("%s%020d%s".formatted(SEGMENT_PREFIX, aFirstSequence, SEGMENT_SUFFIX));
+        try (final var aChannel = FileChannel.open(
+                aFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+        )) {
+            return new Segment(aFile, aFirstSequence, aChannel.map(FileChannel.MapMode.READ_WRITE, 0, this.segmentSize));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        final var aFile = this.directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(aFile)) {
+            return 0L;
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(aFile)).getLong();
+    }
+
+    private void writeCheckpoint(final long aSequence) throws IOException {
+        final var aTemporary = Files.createTempFile(this.directory, CHECKPOINT_FILE, ".tmp");
+        Files.write(aTemporary, ByteBuffer.allocate(Long.BYTES).putLong(aSequence).array(), StandardOpenOption.SYNC);
+        Files.move(aTemporary, this.directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int crcOf(final byte[] aPayload) {
+        final var crc = new CRC32();
+        crc.update(aPayload);
+        return (int) crc.getValue();
+    }
+
+    public record Record(long sequence, byte[] payload) {
+    }
+
+    private static final class Segment {
+
+        private final Path file;
+        private final long firstSequence;
+        private final MappedByteBuffer buffer;
+        private int count;
+
+        private Segment(final Path aFile, final long aFirstSequence, final MappedByteBuffer aBuffer) {
+            this.file = aFile;
+            this.firstSequence = aFirstSequence;
+            this.buffer = aBuffer;
+        }
+
+        // leaves the position right after the last valid record
+        private void scan() {
+            int aPosition = 0;
+            this.count = 0;
+            while (isValidRecord(aPosition)) {
+                aPosition += HEADER_SIZE + this.buffer.getInt(aPosition);
+                this.count++;
+            }
+            this.buffer.position(aPosition);
+        }
+
+        private boolean isValidRecord(final int aPosition) {
+            if (this.buffer.capacity() - aPosition < HEADER_SIZE) {
+                return false;
+            }
+            final int aLength = this.buffer.getInt(aPosition);
+            if (aLength <= 0 || aLength > this.buffer.capacity() - aPosition - HEADER_SIZE) {
+                return false;
+            }
+            final var crc = new CRC32();
+            crc.update(this.buffer.slice(aPosition + HEADER_SIZE, aLength));
+            return (int) crc.getValue() == this.buffer.getInt(aPosition + Integer.BYTES);
+        }
+
+        private void zeroRemaining() {
+            for (int i = this.buffer.position(); i < this.buffer.capacity(); i += ZEROS.length) {
+                this.buffer.put(i, ZEROS, 0, Math.min(ZEROS.length, this.buffer.capacity() - i));
+            }
+            this.buffer.force();
+        }
+
+        // records written but not forced yet are left out, they could still be lost
+        private void read(final long afterSequence, final long upToSequence, final int aLimit, final List<Record> records) {
+            int aPosition = 0;
+            for (int i = 0; i < this.count && records.size() < aLimit; i++) {
+                final int aLength = this.buffer.getInt(aPosition);
+                final long aSequence = this.firstSequence + i;
+                if (aSequence > upToSequence) {
+                    return;
+                }
+                if (aSequence > afterSequence) {
+                    final var aPayload = new byte[aLength];
+                    this.buffer.get(aPosition + HEADER_SIZE, aPayload);
+                    records.add(new Record(aSequence, aPayload));
+                }
+                aPosition += HEADER_SIZE + aLength;
+            }
+        }
+
+        private void close() {
+            this.buffer.force();
+        }
+
+        private void delete() throws IOException {
+            Files.deleteIfExists(this.file);
+        }
+    }
+}
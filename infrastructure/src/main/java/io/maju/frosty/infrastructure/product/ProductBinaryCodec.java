@@ -0,0 +1,91 @@
+package io.maju.frosty.infrastructure.product;
+
+import io.maju.frosty.infrastructure.codec.BinaryCodec;
+import io.maju.frosty.infrastructure.codec.BinaryReader;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductID;
+
+/**
+ * Version byte, id, a flag byte for the boolean and the optional fields, then the fields present.
+ */
+public class ProductBinaryCodec implements BinaryCodec<Product> {
+
+    public static final int VERSION = 1;
+
+    private static final int ACTIVE = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_DESCRIPTION = 1 << 2;
+    private static final int HAS_PRICE = 1 << 3;
+    private static final int HAS_EXPIRATION_DATE = 1 << 4;
+    private static final int HAS_STOCK = 1 << 5;
+    private static final int HAS_DELETED_AT = 1 << 6;
+
+    @Override
+    public byte[] encode(final Product aProduct) {
+        final var aWriter = new BinaryWriter(96);
+        aWriter.writeByte(VERSION);
+        write(aProduct, aWriter);
+        return aWriter.toByteArray();
+    }
+
+    @Override
+    public Product decode(final byte[] bytes) {
+        final var aReader = new BinaryReader(bytes);
+        final int aVersion = aReader.readByte();
+        if (aVersion != VERSION) {
+            throw new IllegalArgumentException("Unknown product encoding version " + aVersion);
+        }
+        return read(aReader);
+    }
+
+    private static void write(final Product aProduct, final BinaryWriter aWriter) {
+        final int flags = (aProduct.isActive() ? ACTIVE : 0)
+                | (aProduct.name() != null ? HAS_NAME : 0)
+                | (aProduct.description() != null ? HAS_DESCRIPTION : 0)
+                | (aProduct.priceAsMoney() != null ? HAS_PRICE : 0)
+                | (aProduct.expirationDate() != null ? HAS_EXPIRATION_DATE : 0)
+                | (aProduct.stock() != null ? HAS_STOCK : 0)
+                | (aProduct.deletedAt() != null ? HAS_DELETED_AT : 0);
+
+        aWriter.writeId(aProduct.getId());
+        aWriter.writeByte(flags);
+        if (aProduct.name() != null) {
+            aWriter.writeString(aProduct.name());
+        }
+        if (aProduct.description() != null) {
+            aWriter.writeString(aProduct.description());
+        }
+        if (aProduct.priceAsMoney() != null) {
+            aWriter.writeMoney(aProduct.priceAsMoney());
+        }
+        if (aProduct.expirationDate() != null) {
+            aWriter.writeDate(aProduct.expirationDate());
+        }
+        if (aProduct.stock() != null) {
+            aWriter.writeSignedVarLong(aProduct.stock());
+        }
+        aWriter.writeInstant(aProduct.createdAt());
+        aWriter.writeInstant(aProduct.updatedAt());
+        if (aProduct.deletedAt() != null) {
+            aWriter.writeInstant(aProduct.deletedAt());
+        }
+    }
+
+    private static Product read(final BinaryReader aReader) {
+        final var anId = aReader.readId(ProductID::from, ProductID::from);
+        final int flags = aReader.readByte();
+        final var aName = (flags & HAS_NAME) != 0 ? aReader.readString() : null;
+        final var aDescription = (flags & HAS_DESCRIPTION) != 0 ? aReader.readString() : null;
+        final var aPrice = (flags & HAS_PRICE) != 0 ? aReader.readMoney().toBigDecimal() : null;
+        final var anExpirationDate = (flags & HAS_EXPIRATION_DATE) != 0 ? aReader.readDate() : null;
+        final var aStock = (flags & HAS_STOCK) != 0 ? aReader.readSignedVarInt() : null;
+        final var aCreatedAt = aReader.readInstant();
+        final var anUpdatedAt = aReader.readInstant();
+        final var aDeletedAt = (flags & HAS_DELETED_AT) != 0 ? aReader.readInstant() : null;
+        return Product.with(
+                anId, aName, aDescription, (flags & ACTIVE) != 0, aPrice, anExpirationDate, aStock,
+                aCreatedAt, anUpdatedAt, aDeletedAt
+        );
+    }
+}
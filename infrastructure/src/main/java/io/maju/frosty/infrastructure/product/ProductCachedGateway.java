@@ -0,0 +1,194 @@
+package io.maju.frosty.infrastructure.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.maju.frosty.ExistenceSet;
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.pagination.CursorPagination;
+import io.maju.frosty.pagination.CursorQuery;
+import io.maju.frosty.pagination.Pagination;
+import io.maju.frosty.pagination.SearchQuery;
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductGateway;
+import io.maju.frosty.product.ProductID;
+import io.maju.frosty.product.ProductStockGateway;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of another {@link ProductGateway} for {@link #findById(ProductID)}
+ * and {@link #existsByIds(Iterable)}. Caffeine bounds the entries and evicts with W-TinyLFU.
+ * <p>
+ * Entries expire {@code maxStaleness} after being loaded, which bounds how old a cached
+ * {@link Product#stock()} can be when stock is changed behind this gateway. Writes going through
+ * it, and {@link #invalidate(ProductID)}, drop the entry right away. Missing products are cached
+ * too, so repeated lookups of unknown ids do not reach the delegate.
+ */
+public class ProductCachedGateway implements ProductGateway {
+
+    private final ProductGateway delegate;
+    private final Cache<ProductID, Optional<Product>> products;
+    private final Cache<ProductID, Boolean> existence;
+
+    public ProductCachedGateway(
+            final ProductGateway aDelegate,
+            final long aMaximumSize,
+            final Duration aMaxStaleness
+    ) {
+        this(aDelegate, aMaximumSize, aMaxStaleness, Ticker.systemTicker());
+    }
+
+    ProductCachedGateway(
+            final ProductGateway aDelegate,
+            final long aMaximumSize,
+            final Duration aMaxStaleness,
+            final Ticker aTicker
+    ) {
+        this.delegate = Objects.requireNonNull(aDelegate);
+        this.products = Caffeine.newBuilder()
+                .maximumSize(aMaximumSize)
+                .expireAfterWrite(aMaxStaleness)
+                .ticker(aTicker)
+                .build();
+        this.existence = Caffeine.newBuilder()
+                .maximumSize(aMaximumSize)
+                .expireAfterWrite(aMaxStaleness)
+                .ticker(aTicker)
+                .build();
+    }
+
+    @Override
+    public Product create(final Product aProduct) {
+        final var aCreated = this.delegate.create(aProduct);
+        invalidate(aProduct.getId());
+        return aCreated;
+    }
+
+    @Override
+    public Product update(final Product aProduct) {
+        final var anUpdated = this.delegate.update(aProduct);
+        invalidate(aProduct.getId());
+        return anUpdated;
+    }
+
+    // cached instances are shared, callers get their own copy
+    @Override
+    public Optional<Product> findById(final ProductID anId) {
+        return this.products.get(anId, this.delegate::findById).map(Product::with);
+    }
+
+    @Override
+    public void deleteById(final ProductID anId) {
+        this.delegate.deleteById(anId);
+        invalidate(anId);
+    }
+
+    @Override
+    public Pagination<Product> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public CursorPagination<Product> findAll(final CursorQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Stream<Product> streamAll(final SearchQuery aQuery) {
+        return this.delegate.streamAll(aQuery);
+    }
+
+    @Override
+    public List<ProductID> existsByIds(final Iterable<ProductID> ids) {
+        final var someIds = new ArrayList<ProductID>();
+        ids.forEach(someIds::add);
+        return existenceOf(someIds).present();
+    }
+
+    // only ids missing from the cache are sent to the delegate, in a single call
+    @Override
+    public ExistenceSet<ProductID> existenceOf(final List<ProductID> ids) {
+        final var found = this.existence.getAll(ids, this::loadExistence);
+        final var present = new BitSet(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (Boolean.TRUE.equals(found.get(ids.get(i)))) {
+                present.set(i);
+            }
+        }
+        return ExistenceSet.of(ids, present);
+    }
+
+    public void invalidate(final ProductID anId) {
+        this.products.invalidate(anId);
+        this.existence.invalidate(anId);
+    }
+
+    // stock moved through the returned gateway is dropped from the cache as soon as it moves
+    public ProductStockGateway invalidating(final ProductStockGateway aStockGateway) {
+        return new InvalidatingStockGateway(Objects.requireNonNull(aStockGateway));
+    }
+
+    public void invalidateAll() {
+        this.products.invalidateAll();
+        this.existence.invalidateAll();
+    }
+
+    private Map<ProductID, Boolean> loadExistence(final Set<? extends ProductID> missing) {
+        final var anExistence = this.delegate.existenceOf(List.copyOf(missing));
+        final var loaded = new HashMap<ProductID, Boolean>(missing.size() * 2);
+        for (int i = 0; i < anExistence.size(); i++) {
+            loaded.put(anExistence.ids().get(i), anExistence.exists(i));
+        }
+        return loaded;
+    }
+
+    private final class InvalidatingStockGateway implements ProductStockGateway {
+
+        private final ProductStockGateway delegate;
+
+        private InvalidatingStockGateway(final ProductStockGateway aDelegate) {
+            this.delegate = aDelegate;
+        }
+
+        @Override
+        public boolean reserve(final ProductID anId, final int aQuantity) {
+            return invalidateIf(this.delegate.reserve(anId, aQuantity), anId);
+        }
+
+        @Override
+        public boolean release(final ProductID anId, final int aQuantity) {
+            return invalidateIf(this.delegate.release(anId, aQuantity), anId);
+        }
+
+        @Override
+        public boolean commit(final ProductID anId, final int aQuantity) {
+            return invalidateIf(this.delegate.commit(anId, aQuantity), anId);
+        }
+
+        @Override
+        public boolean receive(final CheckinOrderID aCheckinOrderId, final Map<ProductID, Integer> quantities) {
+            final var received = this.delegate.receive(aCheckinOrderId, quantities);
+            if (received) {
+                quantities.keySet().forEach(ProductCachedGateway.this::invalidate);
+            }
+            return received;
+        }
+
+        private boolean invalidateIf(final boolean moved, final ProductID anId) {
+            if (moved) {
+                invalidate(anId);
+            }
+            return moved;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.maju.frosty.infrastructure.product;
+
+import io.maju.frosty.pagination.SearchQuery;
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductGateway;
+import io.maju.frosty.product.ProductID;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Read-only view of every product, kept off-heap so millions of SKUs cost neither heap nor GC
+ * time. Products are stored back to back in their {@link ProductBinaryCodec} encoding and found
+ * through an open-addressed table keyed by the two halves of the id. Lookups decode a fresh
+ * {@link Product}.
+ * <p>
+ * {@link #rebuild()} streams the products from the gateway into a new snapshot and swaps it in;
+ * readers keep using the previous one until then and never see a partial catalog. A snapshot is
+ * written to temporary files in the catalog's directory and mapped once complete, so both the
+ * records and the table are mapped at their final size, never grown by copying, and their pages
+ * belong to the page cache rather than to the direct memory of the JVM. The files are deleted as
+ * soon as they are mapped.
+ */
+public class ProductCatalog {
+
+    private static final SearchQuery ALL_PRODUCTS = new SearchQuery(0, 0, "", "name", "asc");
+    private static final int SLOT_SIZE = Long.BYTES * 2 + Integer.BYTES;
+    private static final int FILE_BUFFER_SIZE = 1 << 16;
+    private static final ProductBinaryCodec CODEC = new ProductBinaryCodec();
+
+    private final ProductGateway gateway;
+    private final Path directory;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    public ProductCatalog(final ProductGateway aGateway) {
+        this(aGateway, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    public ProductCatalog(final ProductGateway aGateway, final Path aDirectory) {
+        this.gateway = Objects.requireNonNull(aGateway);
+        this.directory = Objects.requireNonNull(aDirectory);
+    }
+
+    public ProductCatalog rebuild() {
+        try {
+            this.snapshot.set(write());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    public Optional<Product> findById(final ProductID anId) {
+        final var aSnapshot = this.snapshot.get();
+        final int anOffset = aSnapshot.offsetOf(anId);
+        if (anOffset < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(CODEC.decode(aSnapshot.record(anOffset)));
+    }
+
+    public boolean contains(final ProductID anId) {
+        return this.snapshot.get().offsetOf(anId) >= 0;
+    }
+
+    public int size() {
+        return this.snapshot.get().size;
+    }
+
+    // records go to one file and the bits of each id with its offset to another, the table is sized from their count
+    private Snapshot write() throws IOException {
+        Files.createDirectories(this.directory);
+        final var aDataFile = Files.createTempFile(this.directory, "products", ".data");
+        final var aKeysFile = Files.createTempFile(this.directory, "products", ".keys");
+        final var aSlotsFile = Files.createTempFile(this.directory, "products", ".slots");
+        try {
+            final var textIds = new HashMap<String, Integer>();
+            int count = 0;
+            int binaryCount = 0;
+            try (final var data = output(aDataFile);
+                 final var keys = output(aKeysFile);
+                 final var products = this.gateway.streamAll(ALL_PRODUCTS)) {
+                long anOffset = 0L;
+                for (final var it = products.iterator(); it.hasNext(); ) {
+                    final var aProduct = it.next();
+                    final var bytes = CODEC.encode(aProduct);
+                    if (anOffset + Integer.BYTES + bytes.length > Integer.MAX_VALUE) {
+                        throw new IllegalStateException("Product catalog does not fit a single buffer");
+                    }
+                    final var anId = aProduct.getId();
+                    if (anId.isBinary()) {
+                        keys.writeLong(anId.mostSignificantBits());
+                        keys.writeLong(anId.leastSignificantBits());
+                        keys.writeInt((int) anOffset);
+                        binaryCount++;
+                    } else {
+                        // ids that are not UUIDs cannot be keyed by their bits, there are few of them
+                        textIds.put(anId.getValue(), (int) anOffset);
+                    }
+                    data.writeInt(bytes.length);
+                    data.write(bytes);
+                    anOffset += Integer.BYTES + bytes.length;
+                    count++;
+                }
+            }
+
+            // half full at most
+            final int aCapacity = Integer.highestOneBit(Math.max(binaryCount, 1) * 2 - 1) << 1;
+            final var aSnapshot = new Snapshot(
+                    map(aDataFile, FileChannel.MapMode.READ_ONLY, Files.size(aDataFile)),
+                    map(aSlotsFile, FileChannel.MapMode.READ_WRITE, (long) aCapacity * SLOT_SIZE),
+                    aCapacity - 1,
+                    count,
+                    textIds
+            );
+            try (final var keys = new DataInputStream(new BufferedInputStream(Files.newInputStream(aKeysFile), FILE_BUFFER_SIZE))) {
+                for (int i = 0; i < binaryCount; i++) {
+                    aSnapshot.index(keys.readLong(), keys.readLong(), keys.readInt());
+                }
+            } catch (final EOFException e) {
+                throw new IllegalStateException("Product catalog keys were cut short", e);
+            }
+            return aSnapshot;
+        } finally {
+            Files.deleteIfExists(aDataFile);
+            Files.deleteIfExists(aKeysFile);
+            Files.deleteIfExists(aSlotsFile);
+        }
+    }
+
+    private static DataOutputStream output(final Path aFile) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(aFile), FILE_BUFFER_SIZE));
+    }
+
+    // the mapping outlives the channel and the file
+    private static ByteBuffer map(final Path aFile, final FileChannel.MapMode aMode, final long aSize) throws IOException {
+        try (final var aChannel = FileChannel.open(aFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return aChannel.map(aMode, 0L, aSize);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY =
+                new Snapshot(ByteBuffer.allocate(0), ByteBuffer.allocate(SLOT_SIZE), 0, 0, Map.of());
+
+        private final ByteBuffer data;
+        private final ByteBuffer slots;
+        private final int mask;
+        private final int size;
+        private final Map<String, Integer> textIds;
+
+        // an empty slot holds offset 0 and stored offsets are shifted by one
+        private Snapshot(
+                final ByteBuffer aData,
+                final ByteBuffer aSlots,
+                final int aMask,
+                final int aSize,
+                final Map<String, Integer> someTextIds
+        ) {
+            this.data = aData;
+            this.slots = aSlots;
+            this.mask = aMask;
+            this.size = aSize;
+            this.textIds = someTextIds;
+        }
+
+        private void index(final long most, final long least, final int anOffset) {
+            int aSlot = slotOf(most, least);
+            while (this.slots.getInt(aSlot * SLOT_SIZE + Long.BYTES * 2) != 0) {
+                aSlot = (aSlot + 1) & this.mask;
+            }
+            final int aPosition = aSlot * SLOT_SIZE;
+            this.slots.putLong(aPosition, most);
+            this.slots.putLong(aPosition + Long.BYTES, least);
+            this.slots.putInt(aPosition + Long.BYTES * 2, anOffset + 1);
+        }
+
+        private int offsetOf(final ProductID anId) {
+            if (!anId.isBinary()) {
+                return this.textIds.getOrDefault(anId.getValue(), -1);
+            }
+            final long most = anId.mostSignificantBits();
+            final long least = anId.leastSignificantBits();
+            int aSlot = slotOf(most, least);
+            while (true) {
+                final int aPosition = aSlot * SLOT_SIZE;
+                final int anOffset = this.slots.getInt(aPosition + Long.BYTES * 2);
+                if (anOffset == 0) {
+                    return -1;
+                }
+                if (this.slots.getLong(aPosition) == most && this.slots.getLong(aPosition + Long.BYTES) == least) {
+                    return anOffset - 1;
+                }
+                aSlot = (aSlot + 1) & this.mask;
+            }
+        }
+
+        private byte[] record(final int anOffset) {
+            final var bytes = new byte[this.data.getInt(anOffset)];
+            this.data.get(anOffset + Integer.BYTES, bytes);
+            return bytes;
+        }
+
+        // fmix64 of the murmur3 finalizer, time-ordered ids differ mostly in a few bits
+        private int slotOf(final long most, final long least) {
+            long aHash = most ^ Long.rotateLeft(least, 32);
+            aHash ^= aHash >>> 33;
+            aHash *= 0xff51afd7ed558ccdL;
+            aHash ^= aHash >>> 33;
+            aHash *= 0xc4ceb9fe1a85ec53L;
+            aHash ^= aHash >>> 33;
+            return (int) aHash & this.mask;
+        }
+    }
+}
@@ -0,0 +1,559 @@
+package io.maju.frosty.infrastructure.product;
+
+import io.maju.frosty.ExistenceSet;
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.infrastructure.stock.AtomicStockCounter;
+import io.maju.frosty.infrastructure.stock.StockCounter;
+import io.maju.frosty.infrastructure.stock.StripedStockCounter;
+import io.maju.frosty.pagination.Cursor;
+import io.maju.frosty.pagination.CursorPagination;
+import io.maju.frosty.pagination.CursorQuery;
+import io.maju.frosty.pagination.Pagination;
+import io.maju.frosty.pagination.SearchQuery;
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductGateway;
+import io.maju.frosty.product.ProductID;
+import io.maju.frosty.product.ProductStockGateway;
+import io.maju.frosty.validation.Error;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * {@link ProductGateway} kept entirely in memory. Products are stored by id and indexed by
+ * name, name terms, creation date, expiration date and active flag, so searches and paging
+ * walk an ordered index instead of every stored product.
+ * <p>
+ * Writes are serialized; reads are lock free and skip index entries whose product has been
+ * replaced in the meantime. Products are copied on the way in and out, callers never share
+ * instances with the store.
+ * <p>
+ * Stock lives apart from the stored products, in one {@link StockCounter} per product, so
+ * reservations never take the write lock. Products read from the gateway carry the current
+ * available stock. The counter starts from the stock the product was created with and is left
+ * alone by updates. Products matching the striped predicate, the few best sellers every
+ * checkout touches, get a {@link StripedStockCounter}, the others an {@link AtomicStockCounter}.
+ */
+public class ProductInMemoryGateway implements ProductGateway, ProductStockGateway {
+
+    private static final String SORT_NAME = "name";
+    private static final String SORT_EXPIRATION_DATE = "expirationDate";
+    private static final String SORT_CREATED_AT = "createdAt";
+    private static final String DIRECTION_ASC = "asc";
+    private static final String DIRECTION_DESC = "desc";
+    private static final String TERM_UPPER_BOUND = "\uffff";
+
+    private final ConcurrentHashMap<ProductID, Product> products = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<IndexEntry<String>> nameIndex = new ConcurrentSkipListSet<>();
+    private final ConcurrentSkipListSet<IndexEntry<String>> termIndex = new ConcurrentSkipListSet<>();
+    private final ConcurrentSkipListSet<IndexEntry<Instant>> createdAtIndex = new ConcurrentSkipListSet<>();
+    private final ConcurrentSkipListSet<IndexEntry<LocalDate>> expirationDateIndex = new ConcurrentSkipListSet<>();
+    private final Set<ProductID> activeIds = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<ProductID, StockCounter> stocks = new ConcurrentHashMap<>();
+    private final Set<CheckinOrderID> receivedCheckinOrders = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Predicate<ProductID> stripedStock;
+
+    public ProductInMemoryGateway() {
+        this(anId -> false);
+    }
+
+    public ProductInMemoryGateway(final Predicate<ProductID> aStripedStock) {
+        this.stripedStock = Objects.requireNonNull(aStripedStock);
+    }
+
+    @Override
+    public Product create(final Product aProduct) {
+        return save(aProduct, true);
+    }
+
+    @Override
+    public Product update(final Product aProduct) {
+        return save(aProduct, false);
+    }
+
+    @Override
+    public Optional<Product> findById(final ProductID anId) {
+        return Optional.ofNullable(this.products.get(anId)).map(this::copy);
+    }
+
+    @Override
+    public void deleteById(final ProductID anId) {
+        this.writeLock.lock();
+        try {
+            final var aProduct = this.products.remove(anId);
+            if (aProduct != null) {
+                unindex(aProduct);
+                this.stocks.remove(anId);
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Pagination<Product> findAll(final SearchQuery aQuery) {
+        final var offset = Math.max(0L, (long) aQuery.page() * aQuery.perPage());
+        final var limit = Math.max(0, aQuery.perPage());
+        final var descending = DIRECTION_DESC.equalsIgnoreCase(aQuery.direction());
+        final var someTerms = terms(aQuery.terms());
+
+        if (someTerms.isEmpty()) {
+            final var anIndex = sortIndex(aQuery.sort());
+            final var entries = descending ? anIndex.descendingSet() : anIndex;
+            final var items = entries.stream()
+                    .filter(this::isLive)
+                    .skip(offset)
+                    .limit(limit)
+                    .map(entry -> copy(entry.product()))
+                    .toList();
+
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), this.products.size(), items);
+        }
+
+        final var matches = new ArrayList<>(match(someTerms));
+        final var aComparator = comparator(aQuery.sort());
+        matches.sort(descending ? aComparator.reversed() : aComparator);
+
+        final var from = (int) Math.min(offset, matches.size());
+        final var to = (int) Math.min((long) from + limit, matches.size());
+        final var items = matches.subList(from, to).stream()
+                .map(this::copy)
+                .toList();
+
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), matches.size(), items);
+    }
+
+    @Override
+    public CursorPagination<Product> findAll(final CursorQuery aQuery) {
+        final var aSort = sortName(aQuery.sort());
+        final var aDirection = DIRECTION_DESC.equalsIgnoreCase(aQuery.direction()) ? DIRECTION_DESC : DIRECTION_ASC;
+        final var descending = DIRECTION_DESC.equals(aDirection);
+        final var aBound = aQuery.after()
+                .map(aCursor -> bound(aCursor.requireSort(aSort, aDirection)))
+                .orElse(null);
+        final var limit = Math.max(0, aQuery.perPage());
+        final var someTerms = terms(aQuery.terms());
+
+        final List<Product> aPage;
+        final LongSupplier aTotal;
+        if (someTerms.isEmpty()) {
+            aPage = seek(sortIndex(aSort), aBound, descending).stream()
+                    .filter(this::isLive)
+                    .limit(limit + 1L)
+                    .map(IndexEntry::product)
+                    .toList();
+            aTotal = this.products::size;
+        } else {
+            final var matches = new ArrayList<>(match(someTerms));
+            final var aComparator = comparator(aSort);
+            matches.sort(descending ? aComparator.reversed() : aComparator);
+
+            var from = 0;
+            while (aBound != null && from < matches.size() && !isAfter(sortEntry(matches.get(from), aSort), aBound, descending)) {
+                from++;
+            }
+            aPage = matches.subList(from, (int) Math.min(matches.size(), from + limit + 1L));
+            final var aCount = matches.size();
+            aTotal = () -> aCount;
+        }
+
+        final var items = aPage.stream()
+                .limit(limit)
+                .map(this::copy)
+                .toList();
+        final var aNext = aPage.size() > limit && limit > 0
+                ? cursor(aPage.get(limit - 1), aSort, aDirection).encode()
+                : null;
+
+        return new CursorPagination<>(aQuery.perPage(), aNext, items, aTotal);
+    }
+
+    @Override
+    public Stream<Product> streamAll(final SearchQuery aQuery) {
+        final var descending = DIRECTION_DESC.equalsIgnoreCase(aQuery.direction());
+        final var someTerms = terms(aQuery.terms());
+
+        if (someTerms.isEmpty()) {
+            final var anIndex = sortIndex(aQuery.sort());
+            return (descending ? anIndex.descendingSet() : anIndex).stream()
+                    .filter(this::isLive)
+                    .map(entry -> copy(entry.product()));
+        }
+
+        final var matches = new ArrayList<>(match(someTerms));
+        final var aComparator = comparator(aQuery.sort());
+        matches.sort(descending ? aComparator.reversed() : aComparator);
+        return matches.stream().map(this::copy);
+    }
+
+    @Override
+    public List<ProductID> existsByIds(final Iterable<ProductID> ids) {
+        final var found = new ArrayList<ProductID>();
+        for (final var anId : ids) {
+            if (this.products.containsKey(anId)) {
+                found.add(anId);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public ExistenceSet<ProductID> existenceOf(final List<ProductID> ids) {
+        final var present = new BitSet(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (this.products.containsKey(ids.get(i))) {
+                present.set(i);
+            }
+        }
+        return ExistenceSet.of(ids, present);
+    }
+
+    @Override
+    public boolean reserve(final ProductID anId, final int aQuantity) {
+        return moveStock(anId, -requirePositive(aQuantity), aQuantity);
+    }
+
+    @Override
+    public boolean release(final ProductID anId, final int aQuantity) {
+        return moveStock(anId, requirePositive(aQuantity), -aQuantity);
+    }
+
+    @Override
+    public boolean commit(final ProductID anId, final int aQuantity) {
+        return moveStock(anId, 0, -requirePositive(aQuantity));
+    }
+
+    @Override
+    public boolean receive(final CheckinOrderID aCheckinOrderId, final Map<ProductID, Integer> quantities) {
+        quantities.values().forEach(ProductInMemoryGateway::requirePositive);
+        if (!this.receivedCheckinOrders.add(aCheckinOrderId)) {
+            return false;
+        }
+        final var missing = quantities.keySet().stream()
+                .filter(anId -> !this.products.containsKey(anId))
+                .map(anId -> Error.of("'product' %s was not found", anId.getValue()))
+                .toList();
+        if (!missing.isEmpty()) {
+            this.receivedCheckinOrders.remove(aCheckinOrderId);
+            throw DomainException.with(missing);
+        }
+
+        // all or nothing, like the JDBC transaction: a refused move takes back the ones before it
+        final var moved = new ArrayList<Map.Entry<ProductID, Integer>>(quantities.size());
+        for (final var anEntry : quantities.entrySet()) {
+            final var aCounter = this.stocks.computeIfAbsent(anEntry.getKey(), this::newStockCounter);
+            if (!aCounter.move(anEntry.getValue(), 0)) {
+                moved.forEach(aMove -> this.stocks.get(aMove.getKey()).move(-aMove.getValue(), 0));
+                this.receivedCheckinOrders.remove(aCheckinOrderId);
+                throw DomainException.with(Error.of(
+                        "'product' %s cannot take %d more units", anEntry.getKey().getValue(), anEntry.getValue()
+                ));
+            }
+            moved.add(anEntry);
+        }
+        return true;
+    }
+
+    public List<Product> findAllActive() {
+        return this.activeIds.stream()
+                .map(this.products::get)
+                .filter(Objects::nonNull)
+                .map(this::copy)
+                .toList();
+    }
+
+    public List<Product> findAllExpiringUntil(final LocalDate aDate) {
+        return this.expirationDateIndex.headSet(IndexEntry.upperBound(aDate)).stream()
+                .filter(this::isLive)
+                .map(entry -> copy(entry.product()))
+                .toList();
+    }
+
+    private Product save(final Product aProduct, final boolean resetStock) {
+        final var aCopy = Product.with(aProduct);
+
+        this.writeLock.lock();
+        try {
+            final var previous = this.products.put(aCopy.getId(), aCopy);
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(aCopy);
+            if (resetStock) {
+                resetStock(aCopy);
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+
+        return copy(aCopy);
+    }
+
+    // the stored product's stock becomes the available stock, reservations in flight are kept
+    private void resetStock(final Product aProduct) {
+        final var aStock = aProduct.stock();
+        if (aStock == null) {
+            this.stocks.remove(aProduct.getId());
+            return;
+        }
+        this.stocks.computeIfAbsent(aProduct.getId(), this::newStockCounter).reset(aStock);
+    }
+
+    private StockCounter newStockCounter(final ProductID anId) {
+        return this.stripedStock.test(anId) ? new StripedStockCounter() : new AtomicStockCounter();
+    }
+
+    private boolean moveStock(final ProductID anId, final long availableDelta, final long reservedDelta) {
+        final var aCounter = this.stocks.get(anId);
+        return aCounter != null && aCounter.move(availableDelta, reservedDelta);
+    }
+
+    // the counter is the only source of stock, the stored product's value is ignored
+    private Product copy(final Product aProduct) {
+        final var aCounter = this.stocks.get(aProduct.getId());
+        return Product.with(
+                aProduct.getId(),
+                aProduct.name(),
+                aProduct.description(),
+                aProduct.isActive(),
+                aProduct.price(),
+                aProduct.expirationDate(),
+                aCounter != null ? (int) Math.min(Integer.MAX_VALUE, aCounter.available()) : null,
+                aProduct.createdAt(),
+                aProduct.updatedAt(),
+                aProduct.deletedAt()
+        );
+    }
+
+    private void index(final Product aProduct) {
+        final var anId = aProduct.getId();
+        this.nameIndex.add(new IndexEntry<>(nameKey(aProduct), anId, aProduct));
+        this.createdAtIndex.add(new IndexEntry<>(aProduct.createdAt(), anId, aProduct));
+        this.expirationDateIndex.add(new IndexEntry<>(expirationDateKey(aProduct), anId, aProduct));
+        for (final var aTerm : terms(aProduct.name())) {
+            this.termIndex.add(new IndexEntry<>(aTerm, anId, aProduct));
+        }
+        if (aProduct.isActive()) {
+            this.activeIds.add(anId);
+        }
+    }
+
+    private void unindex(final Product aProduct) {
+        final var anId = aProduct.getId();
+        this.nameIndex.remove(new IndexEntry<>(nameKey(aProduct), anId, aProduct));
+        this.createdAtIndex.remove(new IndexEntry<>(aProduct.createdAt(), anId, aProduct));
+        this.expirationDateIndex.remove(new IndexEntry<>(expirationDateKey(aProduct), anId, aProduct));
+        for (final var aTerm : terms(aProduct.name())) {
+            this.termIndex.remove(new IndexEntry<>(aTerm, anId, aProduct));
+        }
+        this.activeIds.remove(anId);
+    }
+
+    // an index entry is stale once its product has been replaced or removed
+    private boolean isLive(final IndexEntry<?> anEntry) {
+        return this.products.get(anEntry.id()) == anEntry.product();
+    }
+
+    // products whose name has, for every search term, a word starting with it
+    private List<Product> match(final List<String> someTerms) {
+        final var aFirstTerm = someTerms.get(0);
+        final var candidates = new LinkedHashMap<ProductID, Product>();
+
+        this.termIndex
+                .subSet(IndexEntry.lowerBound(aFirstTerm), IndexEntry.lowerBound(aFirstTerm + TERM_UPPER_BOUND))
+                .stream()
+                .filter(this::isLive)
+                .forEach(entry -> candidates.putIfAbsent(entry.id(), entry.product()));
+
+        if (someTerms.size() == 1) {
+            return new ArrayList<>(candidates.values());
+        }
+
+        final var otherTerms = someTerms.subList(1, someTerms.size());
+        return candidates.values().stream()
+                .filter(aProduct -> {
+                    final var words = terms(aProduct.name());
+                    return otherTerms.stream().allMatch(aTerm -> words.stream().anyMatch(word -> word.startsWith(aTerm)));
+                })
+                .toList();
+    }
+
+    private NavigableSet<? extends IndexEntry<?>> sortIndex(final String aSort) {
+        if (SORT_NAME.equals(aSort)) {
+            return this.nameIndex;
+        }
+        if (SORT_EXPIRATION_DATE.equals(aSort)) {
+            return this.expirationDateIndex;
+        }
+        return this.createdAtIndex;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static NavigableSet<? extends IndexEntry<?>> seek(
+            final NavigableSet anIndex,
+            final IndexEntry aBound,
+            final boolean descending
+    ) {
+        if (aBound == null) {
+            return descending ? anIndex.descendingSet() : anIndex;
+        }
+        return descending ? anIndex.headSet(aBound, false).descendingSet() : anIndex.tailSet(aBound, false);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean isAfter(final IndexEntry anEntry, final IndexEntry aBound, final boolean descending) {
+        final var result = anEntry.compareTo(aBound);
+        return descending ? result < 0 : result > 0;
+    }
+
+    private static String sortName(final String aSort) {
+        return SORT_NAME.equals(aSort) || SORT_EXPIRATION_DATE.equals(aSort) ? aSort : SORT_CREATED_AT;
+    }
+
+    // the same entry the sort index holds for the product
+    private static IndexEntry<?> sortEntry(final Product aProduct, final String aSort) {
+        return switch (aSort) {
+            case SORT_NAME -> new IndexEntry<>(nameKey(aProduct), aProduct.getId(), aProduct);
+            case SORT_EXPIRATION_DATE -> new IndexEntry<>(expirationDateKey(aProduct), aProduct.getId(), aProduct);
+            default -> new IndexEntry<>(aProduct.createdAt(), aProduct.getId(), aProduct);
+        };
+    }
+
+    private static Cursor cursor(final Product aProduct, final String aSort, final String aDirection) {
+        final var anEntry = sortEntry(aProduct, aSort);
+        return new Cursor(aSort, aDirection, anEntry.key().toString(), anEntry.id().getValue());
+    }
+
+    private static IndexEntry<?> bound(final Cursor aCursor) {
+        if (aCursor.key() == null) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+        final var anId = ProductID.from(aCursor.id());
+        try {
+            return switch (aCursor.sort()) {
+                case SORT_NAME -> new IndexEntry<>(aCursor.key(), anId, null);
+                case SORT_EXPIRATION_DATE -> new IndexEntry<>(LocalDate.parse(aCursor.key()), anId, null);
+                default -> new IndexEntry<>(Instant.parse(aCursor.key()), anId, null);
+            };
+        } catch (final DateTimeParseException e) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+    }
+
+    private static Comparator<Product> comparator(final String aSort) {
+        final Comparator<Product> aComparator;
+        if (SORT_NAME.equals(aSort)) {
+            aComparator = Comparator.comparing(ProductInMemoryGateway::nameKey);
+        } else if (SORT_EXPIRATION_DATE.equals(aSort)) {
+            aComparator = Comparator.comparing(ProductInMemoryGateway::expirationDateKey);
+        } else {
+            aComparator = Comparator.comparing(Product::createdAt);
+        }
+        return aComparator.thenComparing(Product::getId, ProductInMemoryGateway::compareIds);
+    }
+
+    // consistent with equals, which compares the bits of uuid ids whatever their text; uuid ids
+    // sort before the opaque ones
+    private static int compareIds(final ProductID anId, final ProductID other) {
+        if (anId.isBinary() != other.isBinary()) {
+            return anId.isBinary() ? -1 : 1;
+        }
+        if (!anId.isBinary()) {
+            return anId.getValue().compareTo(other.getValue());
+        }
+        final int most = Long.compareUnsigned(anId.mostSignificantBits(), other.mostSignificantBits());
+        return most != 0 ? most : Long.compareUnsigned(anId.leastSignificantBits(), other.leastSignificantBits());
+    }
+
+    private static String nameKey(final Product aProduct) {
+        return aProduct.name() != null ? aProduct.name().toLowerCase(Locale.ROOT) : "";
+    }
+
+    // products without expiration date sort last
+    private static LocalDate expirationDateKey(final Product aProduct) {
+        return aProduct.expirationDate() != null ? aProduct.expirationDate() : LocalDate.MAX;
+    }
+
+    private static int requirePositive(final int aQuantity) {
+        if (aQuantity <= 0) {
+            throw new IllegalArgumentException("'quantity' should be greater than zero");
+        }
+        return aQuantity;
+    }
+
+    private static List<String> terms(final String aText) {
+        if (aText == null || aText.isBlank()) {
+            return List.of();
+        }
+        final var terms = new ArrayList<String>();
+        for (final var aTerm : aText.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!aTerm.isEmpty() && !terms.contains(aTerm)) {
+                terms.add(aTerm);
+            }
+        }
+        return terms;
+    }
+
+    private record IndexEntry<K extends Comparable<? super K>>(
+            K key,
+            ProductID id,
+            Product product
+    ) implements Comparable<IndexEntry<K>> {
+
+        // sorts before every entry with the same key
+        static <K extends Comparable<? super K>> IndexEntry<K> lowerBound(final K aKey) {
+            return new IndexEntry<>(aKey, null, null);
+        }
+
+        static IndexEntry<LocalDate> upperBound(final LocalDate aDate) {
+            return lowerBound(aDate.plusDays(1));
+        }
+
+        @Override
+        public int compareTo(final IndexEntry<K> other) {
+            final var result = this.key.compareTo(other.key);
+            if (result != 0 || this.id == other.id) {
+                return result;
+            }
+            if (this.id == null) {
+                return -1;
+            }
+            if (other.id == null) {
+                return 1;
+            }
+            return compareIds(this.id, other.id);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof IndexEntry<?> other
+                    && Objects.equals(this.key, other.key)
+                    && Objects.equals(this.id, other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.key, this.id);
+        }
+    }
+}
@@ -0,0 +1,775 @@
+package io.maju.frosty.infrastructure.product;
+
+import io.maju.frosty.ExistenceSet;
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.infrastructure.jdbc.JdbcException;
+import io.maju.frosty.pagination.Cursor;
+import io.maju.frosty.pagination.CursorPagination;
+import io.maju.frosty.pagination.CursorQuery;
+import io.maju.frosty.pagination.Pagination;
+import io.maju.frosty.pagination.SearchQuery;
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductGateway;
+import io.maju.frosty.product.ProductID;
+import io.maju.frosty.product.ProductStockGateway;
+import io.maju.frosty.validation.Error;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link ProductGateway} over plain JDBC. Bulk writes go through {@link #createAll(Collection)} and
+ * {@link #updateAll(Collection)}, which reuse one prepared statement per call and flush it every
+ * {@link #BATCH_SIZE} rows inside a single transaction. Rows are mapped by column index.
+ * <p>
+ * With MySQL, {@code rewriteBatchedStatements=true} lets the driver send each batch as one
+ * multi-row statement and {@code cachePrepStmts=true} keeps the statements across connections.
+ * {@link #streamAll(SearchQuery)} reads with a fetch size of {@link #STREAM_FETCH_SIZE}, which
+ * MySQL only honours with {@code useCursorFetch=true}.
+ * <p>
+ * Stock moves are single conditional updates guarded by the available or reserved column, so
+ * concurrent reservations never oversell and only lock the product row for one statement.
+ * Updates leave the stock column alone, so they never overwrite units moved in the meantime.
+ * <p>
+ * Searches match each word of the terms against the start of a word of the name, like the
+ * in-memory gateway. The words of every name are kept in {@code product_name_terms}, written in
+ * the same transaction as the product, so each term is a range scan of that table's primary key
+ * rather than a scan of every name.
+ * <p>
+ * Received checkin orders are recorded in {@code checkin_stock_receipts} in the same transaction
+ * as their batched stock increases, its primary key makes a second receipt of an order fail. A
+ * product row missing from an increase rolls the whole receipt back.
+ */
+public class ProductJdbcGateway implements ProductGateway, ProductStockGateway {
+
+    public static final int BATCH_SIZE = 1_000;
+
+    public static final int STREAM_FETCH_SIZE = 500;
+
+    public static final int IN_CLAUSE_SIZE = 1_000;
+
+    private static final String COLUMNS =
+            "id, name, description, active, price, expiration_date, stock, created_at, updated_at, deleted_at";
+
+    private static final String INSERT =
+            "INSERT INTO products (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE =
+            "UPDATE products SET name = ?, description = ?, active = ?, price = ?, expiration_date = ?, "
+                    + "created_at = ?, updated_at = ?, deleted_at = ? WHERE id = ?";
+
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM products WHERE id = ?";
+
+    private static final String DELETE_BY_ID = "DELETE FROM products WHERE id = ?";
+
+    private static final String RESERVE_STOCK =
+            "UPDATE products SET stock = stock - ?, reserved = reserved + ? WHERE id = ? AND stock >= ?";
+
+    private static final String RELEASE_STOCK =
+            "UPDATE products SET stock = stock + ?, reserved = reserved - ? WHERE id = ? AND reserved >= ?";
+
+    private static final String COMMIT_STOCK =
+            "UPDATE products SET reserved = reserved - ? WHERE id = ? AND reserved >= ?";
+
+    private static final String INSERT_RECEIPT =
+            "INSERT INTO checkin_stock_receipts (checkin_order_id, received_at) VALUES (?, ?)";
+
+    private static final String RECEIVE_STOCK = "UPDATE products SET stock = COALESCE(stock, 0) + ? WHERE id = ?";
+
+    private static final String INSERT_TERM = "INSERT INTO product_name_terms (term, product_id) VALUES (?, ?)";
+
+    private static final String DELETE_TERMS = "DELETE FROM product_name_terms WHERE product_id = ?";
+
+    private static final String TERM_CONDITION = "id IN (SELECT product_id FROM product_name_terms WHERE term LIKE ?)";
+
+    private static final String INTEGRITY_VIOLATION_STATE = "23";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "name", "name",
+            "price", "price",
+            "stock", "stock",
+            "expirationDate", "expiration_date",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"
+    );
+
+    private static final String DEFAULT_SORT_COLUMN = "created_at";
+
+    // keyset paging needs a non null sort column
+    private static final Map<String, String> CURSOR_SORT_COLUMNS = Map.of(
+            "name", "name",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"
+    );
+
+    private static final String DEFAULT_CURSOR_SORT = "createdAt";
+
+    private final DataSource dataSource;
+
+    public ProductJdbcGateway(final DataSource aDataSource) {
+        this.dataSource = aDataSource;
+    }
+
+    @Override
+    public Product create(final Product aProduct) {
+        createAll(List.of(aProduct));
+        return aProduct;
+    }
+
+    @Override
+    public Product update(final Product aProduct) {
+        updateAll(List.of(aProduct));
+        return aProduct;
+    }
+
+    public void createAll(final Collection<Product> products) {
+        executeBatch(INSERT, products, ProductJdbcGateway::bindInsert, false);
+    }
+
+    public void updateAll(final Collection<Product> products) {
+        executeBatch(UPDATE, products, ProductJdbcGateway::bindUpdate, true);
+    }
+
+    @Override
+    public Optional<Product> findById(final ProductID anId) {
+        try (final var aConnection = this.dataSource.getConnection();
+             final var aStatement = aConnection.prepareStatement(SELECT_BY_ID)) {
+            aStatement.setString(1, anId.getValue());
+            try (final var aResultSet = aStatement.executeQuery()) {
+                return aResultSet.next() ? Optional.of(toProduct(aResultSet)) : Optional.empty();
+            }
+        } catch (final SQLException e) {
+            throw new JdbcException("Could not find product %s".formatted(anId.getValue()), e);
+        }
+    }
+
+    @Override
+    public void deleteById(final ProductID anId) {
+        try (final var aConnection = this.dataSource.getConnection();
+             final var aStatement = aConnection.prepareStatement(DELETE_BY_ID)) {
+            aStatement.setString(1, anId.getValue());
+            aStatement.executeUpdate();
+        } catch (final SQLException e) {
+            throw new JdbcException("Could not delete product %s".formatted(anId.getValue()), e);
+        }
+    }
+
+    @Override
+    public boolean reserve(final ProductID anId, final int aQuantity) {
+        return moveStock(RESERVE_STOCK, 2, anId, aQuantity);
+    }
+
+    @Override
+    public boolean release(final ProductID anId, final int aQuantity) {
+        return moveStock(RELEASE_STOCK, 2, anId, aQuantity);
+    }
+
+    @Override
+    public boolean commit(final ProductID anId, final int aQuantity) {
+        return moveStock(COMMIT_STOCK, 1, anId, aQuantity);
+    }
+
+    @Override
+    public boolean receive(final CheckinOrderID aCheckinOrderId, final Map<ProductID, Integer> quantities) {
+        quantities.values().forEach(ProductJdbcGateway::requirePositive);
+
+        try (final var aConnection = this.dataSource.getConnection()) {
+            final var autoCommit = aConnection.getAutoCommit();
+            aConnection.setAutoCommit(false);
+            try (final var aReceipt = aConnection.prepareStatement(INSERT_RECEIPT);
+                 final var anIncrease = aConnection.prepareStatement(RECEIVE_STOCK)) {
+                aReceipt.setString(1, aCheckinOrderId.getValue());
+                aReceipt.setTimestamp(2, Timestamp.from(Instant.now()));
+                try {
+                    aReceipt.executeUpdate();
+                } catch (final SQLException e) {
+                    if (!isIntegrityViolation(e)) {
+                        throw e;
+                    }
+                    aConnection.rollback();
+                    return false;
+                }
+
+                final var batch = new ArrayList<ProductID>(Math.min(quantities.size(), BATCH_SIZE));
+                final var missing = new ArrayList<Error>();
+                for (final var anEntry : quantities.entrySet()) {
+                    anIncrease.setInt(1, anEntry.getValue());
+                    anIncrease.setString(2, anEntry.getKey().getValue());
+                    anIncrease.addBatch();
+                    batch.add(anEntry.getKey());
+                    if (batch.size() == BATCH_SIZE) {
+                        collectMissing(anIncrease.executeBatch(), batch, missing);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    collectMissing(anIncrease.executeBatch(), batch, missing);
+                }
+                if (!missing.isEmpty()) {
+                    aConnection.rollback();
+                    throw DomainException.with(missing);
+                }
+                aConnection.commit();
+                return true;
+            } catch (final SQLException e) {
+                rollback(aConnection, e);
+                throw e;
+            } finally {
+                aConnection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException e) {
+            throw new JdbcException("Could not receive checkin order %s".formatted(aCheckinOrderId.getValue()), e);
+        }
+    }
+
+    @Override
+    public Pagination<Product> findAll(final SearchQuery aQuery) {
+        final var patterns = patterns(aQuery.terms());
+        final var aWhere = where(patterns);
+        final var anOrder = " ORDER BY " + sortColumn(aQuery.sort()) + " " + direction(aQuery.direction()) + ", id";
+
+        try (final var aConnection = this.dataSource.getConnection();
+             final var aCount = aConnection.prepareStatement("SELECT COUNT(*) FROM products" + aWhere);
+             final var aSelect = aConnection.prepareStatement(
+                     "SELECT " + COLUMNS + " FROM products" + aWhere + anOrder + " LIMIT ? OFFSET ?")) {
+            bindPatterns(aCount, 1, patterns);
+            var index = bindPatterns(aSelect, 1, patterns);
+            aSelect.setInt(index++, aQuery.perPage());
+            aSelect.setLong(index, (long) aQuery.page() * aQuery.perPage());
+
+            final long total;
+            try (final var aResultSet = aCount.executeQuery()) {
+                aResultSet.next();
+                total = aResultSet.getLong(1);
+            }
+
+            final var items = new ArrayList<Product>(Math.max(0, aQuery.perPage()));
+            try (final var aResultSet = aSelect.executeQuery()) {
+                while (aResultSet.next()) {
+                    items.add(toProduct(aResultSet));
+                }
+            }
+
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), total, items);
+        } catch (final SQLException e) {
+            throw new JdbcException("Could not search products", e);
+        }
+    }
+
+    @Override
+    public CursorPagination<Product> findAll(final CursorQuery aQuery) {
+        final var aSort = CURSOR_SORT_COLUMNS.containsKey(aQuery.sort()) ? aQuery.sort() : DEFAULT_CURSOR_SORT;
+        final var aColumn = CURSOR_SORT_COLUMNS.get(aSort);
+        final var aDirection = direction(aQuery.direction());
+        final var anAfter = aQuery.after().map(aCursor -> aCursor.requireSort(aSort, aDirection));
+        final var patterns = patterns(aQuery.terms());
+        final var limit = Math.max(0, aQuery.perPage());
+
+        final var conditions = new ArrayList<>(Collections.nCopies(patterns.size(), TERM_CONDITION));
+        if (anAfter.isPresent()) {
+            final var anOperator = "DESC".equals(aDirection) ? "<" : ">";
+            conditions.add("(%1$s %2$s ? OR (%1$s = ? AND id %2$s ?))".formatted(aColumn, anOperator));
+        }
+        final var aSql = "SELECT " + COLUMNS + " FROM products"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY " + aColumn + " " + aDirection + ", id " + aDirection
+                + " LIMIT ?";
+
+        final var items = new ArrayList<Product>(limit + 1);
+        try (final var aConnection = this.dataSource.getConnection();
+             final var aStatement = aConnection.prepareStatement(aSql)) {
+            var index = bindPatterns(aStatement, 1, patterns);
+            if (anAfter.isPresent()) {
+                final var aCursor = anAfter.get();
+                bindSortKey(aStatement, index++, aSort, aCursor);
+                bindSortKey(aStatement, index++, aSort, aCursor);
+                aStatement.setString(index++, aCursor.id());
+            }
+            aStatement.setInt(index, limit + 1);
+
+            try (final var aResultSet = aStatement.executeQuery()) {
+                while (aResultSet.next()) {
+                    items.add(toProduct(aResultSet));
+                }
+            }
+        } catch (final SQLException e) {
+            throw new JdbcException("Could not search products", e);
+        }
+
+        String aNext = null;
+        if (items.size() > limit) {
+            items.remove(limit);
+            if (limit > 0) {
+                aNext = cursor(items.get(limit - 1), aSort, aDirection).encode();
+            }
+        }
+
+        return new CursorPagination<>(aQuery.perPage(), aNext, items, () -> count(patterns));
+    }
+
+    @Override
+    public Stream<Product> streamAll(final SearchQuery aQuery) {
+        final var patterns = patterns(aQuery.terms());
+        final var aSql = "SELECT " + COLUMNS + " FROM products" + where(patterns)
+                + " ORDER BY " + sortColumn(aQuery.sort()) + " " + direction(aQuery.direction()) + ", id";
+
+        Connection aConnection = null;
+        PreparedStatement aStatement = null;
+        try {
+            aConnection = this.dataSource.getConnection();
+            aStatement = aConnection.prepareStatement(aSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            aStatement.setFetchSize(STREAM_FETCH_SIZE);
+            bindPatterns(aStatement, 1, patterns);
+            final var aResultSet = aStatement.executeQuery();
+            return StreamSupport.stream(new ResultSetSpliterator(aResultSet), false)
+                    .onClose(closing(aResultSet, aStatement, aConnection));
+        } catch (final SQLException e) {
+            final var anException = new JdbcException("Could not stream products", e);
+            try {
+                closing(aStatement, aConnection).run();
+            } catch (final JdbcException closeException) {
+                anException.addSuppressed(closeException);
+            }
+            throw anException;
+        }
+    }
+
+    @Override
+    public List<ProductID> existsByIds(final Iterable<ProductID> ids) {
+        final var someIds = new ArrayList<ProductID>();
+        ids.forEach(someIds::add);
+        return existenceOf(someIds).present();
+    }
+
+    // distinct ids are checked IN_CLAUSE_SIZE at a time, full chunks share one statement
+    @Override
+    public ExistenceSet<ProductID> existenceOf(final List<ProductID> ids) {
+        final var present = new BitSet(ids.size());
+        if (ids.isEmpty()) {
+            return ExistenceSet.of(ids, present);
+        }
+
+        final var values = new ArrayList<String>(new LinkedHashSet<>(ids.stream().map(ProductID::getValue).toList()));
+        final var found = new HashSet<String>();
+        final var fullChunks = values.size() / IN_CLAUSE_SIZE;
+        final var rest = values.size() % IN_CLAUSE_SIZE;
+
+        try (final var aConnection = this.dataSource.getConnection()) {
+            if (fullChunks > 0) {
+                try (final var aStatement = aConnection.prepareStatement(selectExisting(IN_CLAUSE_SIZE))) {
+                    for (int chunk = 0; chunk < fullChunks; chunk++) {
+                        final var from = chunk * IN_CLAUSE_SIZE;
+                        collectExisting(aStatement, values.subList(from, from + IN_CLAUSE_SIZE), found);
+                    }
+                }
+            }
+            if (rest > 0) {
+                try (final var aStatement = aConnection.prepareStatement(selectExisting(rest))) {
+                    collectExisting(aStatement, values.subList(values.size() - rest, values.size()), found);
+                }
+            }
+        } catch (final SQLException e) {
+            throw new JdbcException("Could not check products existence", e);
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            if (found.contains(ids.get(i).getValue())) {
+                present.set(i);
+            }
+        }
+        return ExistenceSet.of(ids, present);
+    }
+
+    // the statement starts with the given number of quantity placeholders, then the id and the guard
+    private boolean moveStock(
+            final String aSql,
+            final int quantityParameters,
+            final ProductID anId,
+            final int aQuantity
+    ) {
+        requirePositive(aQuantity);
+
+        try (final var aConnection = this.dataSource.getConnection();
+             final var aStatement = aConnection.prepareStatement(aSql)) {
+            for (int index = 1; index <= quantityParameters; index++) {
+                aStatement.setInt(index, aQuantity);
+            }
+            aStatement.setString(quantityParameters + 1, anId.getValue());
+            aStatement.setInt(quantityParameters + 2, aQuantity);
+            return aStatement.executeUpdate() == 1;
+        } catch (final SQLException e) {
+            throw new JdbcException("Could not move stock of product %s".formatted(anId.getValue()), e);
+        }
+    }
+
+    private long count(final List<String> patterns) {
+        try (final var aConnection = this.dataSource.getConnection();
+             final var aStatement = aConnection.prepareStatement("SELECT COUNT(*) FROM products" + where(patterns))) {
+            bindPatterns(aStatement, 1, patterns);
+            try (final var aResultSet = aStatement.executeQuery()) {
+                aResultSet.next();
+                return aResultSet.getLong(1);
+            }
+        } catch (final SQLException e) {
+            throw new JdbcException("Could not count products", e);
+        }
+    }
+
+    // an update replaces the terms of its products and fails as a whole when one of them is missing
+    private void executeBatch(
+            final String aSql,
+            final Collection<Product> products,
+            final Binder aBinder,
+            final boolean isUpdate
+    ) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        try (final var aConnection = this.dataSource.getConnection()) {
+            final var autoCommit = aConnection.getAutoCommit();
+            aConnection.setAutoCommit(false);
+            try (final var aStatement = aConnection.prepareStatement(aSql)) {
+                final var batch = new ArrayList<ProductID>(Math.min(products.size(), BATCH_SIZE));
+                final var missing = new ArrayList<Error>();
+                for (final var aProduct : products) {
+                    aBinder.bind(aStatement, aProduct);
+                    aStatement.addBatch();
+                    batch.add(aProduct.getId());
+                    if (batch.size() == BATCH_SIZE) {
+                        writeBatch(aStatement, batch, missing, isUpdate);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    writeBatch(aStatement, batch, missing, isUpdate);
+                }
+                if (!missing.isEmpty()) {
+                    aConnection.rollback();
+                    throw DomainException.with(missing);
+                }
+                writeTerms(aConnection, products, isUpdate);
+                aConnection.commit();
+            } catch (final SQLException e) {
+                rollback(aConnection, e);
+                throw e;
+            } finally {
+                aConnection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException e) {
+            throw new JdbcException("Could not write %d products".formatted(products.size()), e);
+        }
+    }
+
+    // the words of each name, searched by prefix through the table's primary key
+    private static void writeTerms(
+            final Connection aConnection,
+            final Collection<Product> products,
+            final boolean replace
+    ) throws SQLException {
+        if (replace) {
+            try (final var aDelete = aConnection.prepareStatement(DELETE_TERMS)) {
+                var pending = 0;
+                for (final var aProduct : products) {
+                    aDelete.setString(1, aProduct.getId().getValue());
+                    aDelete.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        aDelete.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    aDelete.executeBatch();
+                }
+            }
+        }
+        try (final var anInsert = aConnection.prepareStatement(INSERT_TERM)) {
+            var pending = 0;
+            for (final var aProduct : products) {
+                for (final var aTerm : terms(aProduct.name())) {
+                    anInsert.setString(1, aTerm);
+                    anInsert.setString(2, aProduct.getId().getValue());
+                    anInsert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        anInsert.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                anInsert.executeBatch();
+            }
+        }
+    }
+
+    private static void writeBatch(
+            final PreparedStatement aStatement,
+            final List<ProductID> batch,
+            final List<Error> missing,
+            final boolean isUpdate
+    ) throws SQLException {
+        final var counts = aStatement.executeBatch();
+        if (isUpdate) {
+            collectMissing(counts, batch, missing);
+        } else {
+            batch.clear();
+        }
+    }
+
+    // a batch that reports no count per row is taken as applied
+    private static void collectMissing(final int[] counts, final List<ProductID> batch, final List<Error> missing) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 1 && counts[i] != Statement.SUCCESS_NO_INFO) {
+                missing.add(Error.of("'product' %s was not found", batch.get(i).getValue()));
+            }
+        }
+        batch.clear();
+    }
+
+    private static Runnable closing(final AutoCloseable... resources) {
+        return () -> {
+            Exception aFailure = null;
+            for (final var aResource : resources) {
+                if (aResource == null) {
+                    continue;
+                }
+                try {
+                    aResource.close();
+                } catch (final Exception e) {
+                    if (aFailure == null) {
+                        aFailure = e;
+                    } else {
+                        aFailure.addSuppressed(e);
+                    }
+                }
+            }
+            if (aFailure != null) {
+                throw new JdbcException("Could not close the product stream", aFailure);
+            }
+        };
+    }
+
+    private static boolean isIntegrityViolation(final SQLException anException) {
+        return anException instanceof SQLIntegrityConstraintViolationException
+                || (anException.getSQLState() != null && anException.getSQLState().startsWith(INTEGRITY_VIOLATION_STATE));
+    }
+
+    private static int requirePositive(final int aQuantity) {
+        if (aQuantity <= 0) {
+            throw new IllegalArgumentException("'quantity' should be greater than zero");
+        }
+        return aQuantity;
+    }
+
+    private static void rollback(final Connection aConnection, final SQLException aCause) {
+        try {
+            aConnection.rollback();
+        } catch (final SQLException e) {
+            aCause.addSuppressed(e);
+        }
+    }
+
+    private static void bindInsert(final PreparedStatement aStatement, final Product aProduct) throws SQLException {
+        aStatement.setString(1, aProduct.getId().getValue());
+        bindColumns(aStatement, 2, aProduct, true);
+    }
+
+    private static void bindUpdate(final PreparedStatement aStatement, final Product aProduct) throws SQLException {
+        bindColumns(aStatement, 1, aProduct, false);
+        aStatement.setString(9, aProduct.getId().getValue());
+    }
+
+    // binds every column but id, starting at the given parameter index
+    private static void bindColumns(
+            final PreparedStatement aStatement,
+            final int aFirstIndex,
+            final Product aProduct,
+            final boolean withStock
+    ) throws SQLException {
+        var index = aFirstIndex;
+        aStatement.setString(index++, aProduct.name());
+        aStatement.setString(index++, aProduct.description());
+        aStatement.setBoolean(index++, aProduct.isActive());
+        aStatement.setBigDecimal(index++, aProduct.price());
+        if (aProduct.expirationDate() != null) {
+            aStatement.setDate(index++, Date.valueOf(aProduct.expirationDate()));
+        } else {
+            aStatement.setNull(index++, Types.DATE);
+        }
+        if (withStock && aProduct.stock() != null) {
+            aStatement.setInt(index++, aProduct.stock());
+        } else if (withStock) {
+            aStatement.setNull(index++, Types.INTEGER);
+        }
+        aStatement.setTimestamp(index++, Timestamp.from(aProduct.createdAt()));
+        aStatement.setTimestamp(index++, Timestamp.from(aProduct.updatedAt()));
+        aStatement.setTimestamp(index, timestamp(aProduct.deletedAt()));
+    }
+
+    // columns in the order of COLUMNS
+    static Product toProduct(final ResultSet aResultSet) throws SQLException {
+        final var anExpirationDate = aResultSet.getDate(6);
+        final var aStock = aResultSet.getInt(7);
+        final var hasStock = !aResultSet.wasNull();
+        return Product.with(
+                ProductID.from(aResultSet.getString(1)),
+                aResultSet.getString(2),
+                aResultSet.getString(3),
+                aResultSet.getBoolean(4),
+                aResultSet.getBigDecimal(5),
+                anExpirationDate != null ? anExpirationDate.toLocalDate() : null,
+                hasStock ? aStock : null,
+                aResultSet.getTimestamp(8).toInstant(),
+                aResultSet.getTimestamp(9).toInstant(),
+                instant(aResultSet.getTimestamp(10))
+        );
+    }
+
+    private static String selectExisting(final int aSize) {
+        return "SELECT id FROM products WHERE id IN (" + String.join(", ", Collections.nCopies(aSize, "?")) + ")";
+    }
+
+    private static void collectExisting(
+            final PreparedStatement aStatement,
+            final List<String> values,
+            final Set<String> found
+    ) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            aStatement.setString(i + 1, values.get(i));
+        }
+        try (final var aResultSet = aStatement.executeQuery()) {
+            while (aResultSet.next()) {
+                found.add(aResultSet.getString(1));
+            }
+        }
+    }
+
+    private static Cursor cursor(final Product aProduct, final String aSort, final String aDirection) {
+        final var aKey = switch (aSort) {
+            case "name" -> aProduct.name();
+            case "updatedAt" -> aProduct.updatedAt().toString();
+            default -> aProduct.createdAt().toString();
+        };
+        return new Cursor(aSort, aDirection, aKey, aProduct.getId().getValue());
+    }
+
+    private static void bindSortKey(
+            final PreparedStatement aStatement,
+            final int anIndex,
+            final String aSort,
+            final Cursor aCursor
+    ) throws SQLException {
+        if ("name".equals(aSort)) {
+            aStatement.setString(anIndex, aCursor.key());
+        } else {
+            aStatement.setTimestamp(anIndex, Timestamp.from(Instant.parse(aCursor.key())));
+        }
+    }
+
+    private static Timestamp timestamp(final Instant anInstant) {
+        return anInstant != null ? Timestamp.from(anInstant) : null;
+    }
+
+    private static Instant instant(final Timestamp aTimestamp) {
+        return aTimestamp != null ? aTimestamp.toInstant() : null;
+    }
+
+    private static String sortColumn(final String aSort) {
+        return aSort != null ? SORT_COLUMNS.getOrDefault(aSort, DEFAULT_SORT_COLUMN) : DEFAULT_SORT_COLUMN;
+    }
+
+    private static String direction(final String aDirection) {
+        return "desc".equalsIgnoreCase(aDirection) ? "DESC" : "ASC";
+    }
+
+    // one prefix pattern per word of the search, like the terms indexed for each name
+    private static List<String> patterns(final String terms) {
+        return terms(terms).stream().map(aTerm -> escapeLike(aTerm) + "%").toList();
+    }
+
+    private static String where(final List<String> patterns) {
+        return patterns.isEmpty() ? "" : " WHERE " + String.join(" AND ", Collections.nCopies(patterns.size(), TERM_CONDITION));
+    }
+
+    private static int bindPatterns(
+            final PreparedStatement aStatement,
+            final int aFirstIndex,
+            final List<String> patterns
+    ) throws SQLException {
+        var index = aFirstIndex;
+        for (final var aPattern : patterns) {
+            aStatement.setString(index++, aPattern);
+        }
+        return index;
+    }
+
+    private static List<String> terms(final String aText) {
+        if (aText == null || aText.isBlank()) {
+            return List.of();
+        }
+        final var terms = new ArrayList<String>();
+        for (final var aTerm : aText.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!aTerm.isEmpty() && !terms.contains(aTerm)) {
+                terms.add(aTerm);
+            }
+        }
+        return terms;
+    }
+
+    private static String escapeLike(final String aTerm) {
+        return aTerm.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // maps one row per tryAdvance, so only the driver's fetch buffer is held in memory
+    private static final class ResultSetSpliterator extends Spliterators.AbstractSpliterator<Product> {
+
+        private final ResultSet resultSet;
+
+        private ResultSetSpliterator(final ResultSet aResultSet) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.resultSet = aResultSet;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Product> action) {
+            try {
+                if (!this.resultSet.next()) {
+                    return false;
+                }
+                action.accept(toProduct(this.resultSet));
+                return true;
+            } catch (final SQLException e) {
+                throw new JdbcException("Could not read the product stream", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement aStatement, Product aProduct) throws SQLException;
+    }
+}
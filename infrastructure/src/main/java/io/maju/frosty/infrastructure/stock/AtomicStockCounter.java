@@ -0,0 +1,66 @@
+package io.maju.frosty.infrastructure.stock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Both sides packed in a single {@link AtomicLong}, available units in the high half and
+ * reserved units in the low half. Every move is one compare-and-set on that value.
+ */
+public final class AtomicStockCounter implements StockCounter {
+
+    private final AtomicLong value = new AtomicLong();
+
+    public AtomicStockCounter() {
+    }
+
+    public AtomicStockCounter(final int anAvailable) {
+        reset(anAvailable);
+    }
+
+    @Override
+    public boolean move(final long availableDelta, final long reservedDelta) {
+        while (true) {
+            final var current = this.value.get();
+            final var available = availableOf(current) + availableDelta;
+            final var reserved = reservedOf(current) + reservedDelta;
+            if (!fits(available) || !fits(reserved)) {
+                return false;
+            }
+            if (this.value.compareAndSet(current, pack(available, reserved))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void reset(final int anAvailable) {
+        final var available = Math.max(0, anAvailable);
+        this.value.getAndUpdate(current -> pack(available, reservedOf(current)));
+    }
+
+    @Override
+    public long available() {
+        return availableOf(this.value.get());
+    }
+
+    @Override
+    public long reserved() {
+        return reservedOf(this.value.get());
+    }
+
+    static long pack(final long available, final long reserved) {
+        return available << 32 | reserved;
+    }
+
+    static long availableOf(final long aPacked) {
+        return aPacked >>> 32;
+    }
+
+    static long reservedOf(final long aPacked) {
+        return aPacked & 0xFFFFFFFFL;
+    }
+
+    static boolean fits(final long aValue) {
+        return aValue >= 0 && aValue <= Integer.MAX_VALUE;
+    }
+}
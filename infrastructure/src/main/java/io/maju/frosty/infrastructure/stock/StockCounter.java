@@ -0,0 +1,29 @@
+package io.maju.frosty.infrastructure.stock;
+
+/**
+ * Available and reserved units of one product. {@link #move(long, long)} applies both deltas
+ * atomically and refuses any move that would take either side below zero.
+ */
+public interface StockCounter {
+
+    boolean move(long availableDelta, long reservedDelta);
+
+    // replaces the available units, reservations in flight are kept
+    void reset(int anAvailable);
+
+    long available();
+
+    long reserved();
+
+    default boolean reserve(final int aQuantity) {
+        return move(-aQuantity, aQuantity);
+    }
+
+    default boolean release(final int aQuantity) {
+        return move(aQuantity, -aQuantity);
+    }
+
+    default boolean commit(final int aQuantity) {
+        return move(0, -aQuantity);
+    }
+}
@@ -0,0 +1,146 @@
+package io.maju.frosty.infrastructure.stock;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongUnaryOperator;
+
+import static io.maju.frosty.infrastructure.stock.AtomicStockCounter.availableOf;
+import static io.maju.frosty.infrastructure.stock.AtomicStockCounter.fits;
+import static io.maju.frosty.infrastructure.stock.AtomicStockCounter.pack;
+import static io.maju.frosty.infrastructure.stock.AtomicStockCounter.reservedOf;
+
+/**
+ * Stock split over several stripes, each packed like {@link AtomicStockCounter} and padded onto
+ * its own cache lines. A thread moves stock on its own stripe only, so threads selling the same
+ * product rarely touch the same memory.
+ * <p>
+ * When a stripe can not cover a move, the counter collapses: under a lock every stripe is drained,
+ * the move is checked against the exact totals, and what is left is spread evenly again. Near
+ * zero most stripes are empty and moves go through that exact path, so the stock never goes
+ * below zero. {@link #available()} and {@link #reserved()} sum the stripes; a collapse bumps a
+ * version before draining and after spreading, and a sum that overlapped one is taken again under
+ * the collapse lock, so reads never see the drained stripes.
+ */
+public class StripedStockCounter implements StockCounter {
+
+    // 16 longs = 128 bytes, keeps stripes off each other's (prefetched pair of) cache lines
+    private static final int PADDING = 16;
+
+    private final AtomicLongArray stripes;
+    private final int mask;
+    // odd while a collapse has the stripes drained
+    private final AtomicLong version = new AtomicLong();
+
+    public StripedStockCounter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public StripedStockCounter(final int aStripeCount) {
+        final var count = Integer.highestOneBit(Math.max(1, aStripeCount - 1)) << 1;
+        this.stripes = new AtomicLongArray(count * PADDING);
+        this.mask = count - 1;
+    }
+
+    @Override
+    public boolean move(final long availableDelta, final long reservedDelta) {
+        final var index = stripe();
+        while (true) {
+            final var current = this.stripes.get(index);
+            final var available = availableOf(current) + availableDelta;
+            final var reserved = reservedOf(current) + reservedDelta;
+            if (!fits(available) || !fits(reserved)) {
+                return collapse(availableDelta, reservedDelta, 0L, false);
+            }
+            if (this.stripes.compareAndSet(index, current, pack(available, reserved))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void reset(final int anAvailable) {
+        collapse(0L, 0L, Math.max(0, anAvailable), true);
+    }
+
+    @Override
+    public long available() {
+        return sum(AtomicStockCounter::availableOf);
+    }
+
+    @Override
+    public long reserved() {
+        return sum(AtomicStockCounter::reservedOf);
+    }
+
+    public int stripeCount() {
+        return this.mask + 1;
+    }
+
+    // drains every stripe, applies the move to the exact totals and spreads the result again
+    private synchronized boolean collapse(
+            final long availableDelta,
+            final long reservedDelta,
+            final long aNewAvailable,
+            final boolean replaceAvailable
+    ) {
+        this.version.incrementAndGet();
+        var available = 0L;
+        var reserved = 0L;
+        for (int i = 0; i <= this.mask; i++) {
+            final var drained = this.stripes.getAndSet(i * PADDING, 0L);
+            available += availableOf(drained);
+            reserved += reservedOf(drained);
+        }
+
+        if (replaceAvailable) {
+            available = aNewAvailable;
+        }
+        final var movedAvailable = available + availableDelta;
+        final var movedReserved = reserved + reservedDelta;
+        final var moved = movedAvailable >= 0 && movedReserved >= 0;
+        if (moved) {
+            available = movedAvailable;
+            reserved = movedReserved;
+        }
+
+        spread(available, reserved);
+        this.version.incrementAndGet();
+        return moved;
+    }
+
+    private long sum(final LongUnaryOperator aSide) {
+        final var aVersion = this.version.get();
+        if ((aVersion & 1L) == 0L) {
+            final var total = sumStripes(aSide);
+            if (this.version.get() == aVersion) {
+                return total;
+            }
+        }
+        synchronized (this) {
+            return sumStripes(aSide);
+        }
+    }
+
+    private long sumStripes(final LongUnaryOperator aSide) {
+        var total = 0L;
+        for (int i = 0; i <= this.mask; i++) {
+            total += aSide.applyAsLong(this.stripes.get(i * PADDING));
+        }
+        return total;
+    }
+
+    // stripes were drained, concurrent moves on them can only have failed, so adding is safe
+    private void spread(final long available, final long reserved) {
+        final var count = stripeCount();
+        for (int i = 0; i < count; i++) {
+            final var aShareOfAvailable = available / count + (i < available % count ? 1 : 0);
+            final var aShareOfReserved = reserved / count + (i < reserved % count ? 1 : 0);
+            this.stripes.getAndAdd(i * PADDING, pack(aShareOfAvailable, aShareOfReserved));
+        }
+    }
+
+    private int stripe() {
+        final var aHash = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return ((int) (aHash >>> 32) & this.mask) * PADDING;
+    }
+}
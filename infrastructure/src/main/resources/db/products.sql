@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS products (
+    id              VARCHAR(36)    NOT NULL PRIMARY KEY,
+    name            VARCHAR(255)   NOT NULL,
+    description     VARCHAR(4000),
+    active          BOOLEAN        NOT NULL,
+    price           DECIMAL(19, 4),
+    expiration_date DATE,
+    stock           INT,
+    reserved        INT            NOT NULL DEFAULT 0,
+    created_at      DATETIME(6)    NOT NULL,
+    updated_at      DATETIME(6)    NOT NULL,
+    deleted_at      DATETIME(6),
+    INDEX idx_products_name (name),
+    INDEX idx_products_created_at (created_at)
+);
+
+CREATE TABLE IF NOT EXISTS product_name_terms (
+    term       VARCHAR(255) NOT NULL,
+    product_id VARCHAR(36)  NOT NULL,
+    PRIMARY KEY (term, product_id),
+    INDEX idx_product_name_terms_product_id (product_id),
+    FOREIGN KEY (product_id) REFERENCES products (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS checkin_stock_receipts (
+    checkin_order_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    received_at      DATETIME(6) NOT NULL
+);
@@ -0,0 +1,44 @@
+package io.maju.frosty.infrastructure.checkin;
+
+import io.maju.frosty.checkin.CheckinOrder;
+import io.maju.frosty.checkin.CheckinOrderItem;
+import io.maju.frosty.utils.IdUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
+class CheckinOrderBinaryCodecTest {
+
+    private final CheckinOrderBinaryCodec codec = new CheckinOrderBinaryCodec();
+
+    @Test
+    void givenALargeCanceledOrder_whenEncodeAndDecode_shouldKeepEveryItemCompactly() {
+        final var anOrder = CheckinOrder.builder()
+                .items(IntStream.range(0, 3_000)
+                        .mapToObj(i -> CheckinOrderItem.with("Sorvete " + i, new BigDecimal("10.75"), i + 1, IdUtils.uuid())))
+                .build()
+                .cancel();
+
+        final var bytes = this.codec.encode(anOrder);
+        final var actualOrder = this.codec.decode(bytes);
+
+        Assertions.assertTrue(bytes.length < 3_000 * 56);
+        Assertions.assertEquals(anOrder.getId(), actualOrder.getId());
+        Assertions.assertTrue(actualOrder.isCanceled());
+        Assertions.assertEquals(anOrder.createdAt(), actualOrder.createdAt());
+        Assertions.assertEquals(anOrder.updatedAt(), actualOrder.updatedAt());
+        Assertions.assertEquals(anOrder.deletedAt(), actualOrder.deletedAt());
+        Assertions.assertEquals(anOrder.total(), actualOrder.total());
+        for (int i = 0; i < anOrder.items().size(); i++) {
+            final var expected = anOrder.items().get(i);
+            final var actual = actualOrder.items().get(i);
+            Assertions.assertEquals(expected.id(), actual.id());
+            Assertions.assertEquals(expected.name(), actual.name());
+            Assertions.assertEquals(expected.price(), actual.price());
+            Assertions.assertEquals(expected.quantity(), actual.quantity());
+            Assertions.assertEquals(expected.productId(), actual.productId());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.maju.frosty.infrastructure.checkout;
+
+import io.maju.frosty.checkout.CheckoutOrder;
+import io.maju.frosty.checkout.CheckoutOrderEvent;
+import io.maju.frosty.checkout.CheckoutOrderItem;
+import io.maju.frosty.checkout.CheckoutOrderStatus;
+import io.maju.frosty.infrastructure.codec.BinaryWriter;
+import io.maju.frosty.utils.InstantUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class CheckoutOrderBinaryCodecTest {
+
+    private final CheckoutOrderBinaryCodec codec = new CheckoutOrderBinaryCodec();
+
+    @Test
+    void givenAClosedOrder_whenEncodeAndDecode_shouldKeepEveryField() {
+        final var anOrder = CheckoutOrder.builder()
+                .amount(new BigDecimal("37.00"))
+                .customerName("Maria")
+                .item(CheckoutOrderItem.with(new BigDecimal("10.75"), 2, "123"))
+                .item(CheckoutOrderItem.with(new BigDecimal("3.10"), 5, "legacy-product"))
+                .build()
+                .close(CheckoutOrderStatus.COMPLETED);
+
+        final var actualOrder = this.codec.decode(this.codec.encode(anOrder));
+
+        Assertions.assertEquals(anOrder.getId(), actualOrder.getId());
+        Assertions.assertEquals(anOrder.amount(), actualOrder.amount());
+        Assertions.assertEquals(anOrder.items(), actualOrder.items());
+        Assertions.assertEquals("legacy-product", actualOrder.items().getLast().productId());
+        Assertions.assertFalse(actualOrder.isOpen());
+        Assertions.assertEquals(CheckoutOrderStatus.COMPLETED, actualOrder.status());
+        Assertions.assertEquals("Maria", actualOrder.customerName());
+        Assertions.assertEquals(anOrder.createdAt(), actualOrder.createdAt());
+        Assertions.assertEquals(anOrder.updatedAt(), actualOrder.updatedAt());
+        Assertions.assertEquals(anOrder.deletedAt(), actualOrder.deletedAt());
+    }
+
+    @Test
+    void givenACorruptItemCount_whenDecode_shouldThrowIllegalArgumentException() {
+        final var anItem = CheckoutOrderItem.with(BigDecimal.TEN, 1, "123");
+        final var bytes = this.codec.encode(CheckoutOrder.builder().amount(BigDecimal.TEN).item(anItem).build());
+        final var anItemSize = new BinaryWriter(64)
+                .writeId(anItem.id())
+                .writeMoney(anItem.priceAsMoney())
+                .writeSignedVarLong(anItem.quantity())
+                .writeId(anItem.productId())
+                .size();
+        // the count of a single item is the one byte right before it
+        final var corrupt = Arrays.copyOf(bytes, bytes.length - anItemSize - 1);
+        final var aWriter = new BinaryWriter(corrupt.length + 8);
+        for (final var aByte : corrupt) {
+            aWriter.writeByte(aByte);
+        }
+        final var aCorruptOrder = aWriter.writeVarLong(Integer.MAX_VALUE).toByteArray();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.codec.decode(aCorruptOrder));
+    }
+
+    @Test
+    void givenEachStatus_whenEncodeAClose_shouldWriteItsFixedCode() {
+        final var aCodec = new CheckoutOrderEventCodec();
+        final var codes = new ArrayList<Integer>();
+        for (final var aStatus : CheckoutOrderStatus.values()) {
+            final var aWriter = new BinaryWriter(32);
+            aCodec.write(new CheckoutOrderEvent.Closed(aStatus, InstantUtils.now()), aWriter);
+            codes.add((int) aWriter.toByteArray()[1]);
+        }
+
+        Assertions.assertEquals(List.of(0, 1, 2), codes);
+    }
+}
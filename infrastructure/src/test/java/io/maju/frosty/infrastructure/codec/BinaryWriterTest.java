@@ -0,0 +1,124 @@
+package io.maju.frosty.infrastructure.codec;
+
+import io.maju.frosty.Money;
+import io.maju.frosty.product.ProductID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+class BinaryWriterTest {
+
+    @Test
+    void givenEdgeValues_whenWriteAndRead_shouldReadTheSameValues() {
+        final var longs = List.of(0L, 1L, -1L, 127L, 128L, Long.MAX_VALUE, Long.MIN_VALUE);
+        final var aWriter = new BinaryWriter(1);
+        longs.forEach(aWriter::writeSignedVarLong);
+        aWriter.writeVarLong(-1L);
+        aWriter.writeString("Açaí com granola");
+
+        final var aReader = new BinaryReader(aWriter.toByteArray());
+
+        for (final var expected : longs) {
+            Assertions.assertEquals(expected, aReader.readSignedVarLong());
+        }
+        Assertions.assertEquals(-1L, aReader.readVarLong());
+        Assertions.assertEquals("Açaí com granola", aReader.readString());
+        Assertions.assertFalse(aReader.hasRemaining());
+    }
+
+    @Test
+    void givenSmallValues_whenWrite_shouldUseOneBytePerValue() {
+        final var aWriter = new BinaryWriter(16)
+                .writeVarLong(127)
+                .writeSignedVarLong(-64)
+                .writeSignedVarLong(63);
+
+        Assertions.assertEquals(3, aWriter.size());
+    }
+
+    @Test
+    void givenMoneyInstantsAndDates_whenWriteAndRead_shouldKeepValueAndScale() {
+        final var amounts = List.of(
+                Money.of("10.75"), Money.of("-0.001"), Money.of("1E+3"), Money.of("0"),
+                Money.of(new BigDecimal("92233720368547758070.99"))
+        );
+        final var instants = List.of(
+                Instant.parse("2024-03-01T10:15:30.123456Z"), Instant.parse("1969-12-31T23:59:59.999999Z"), Instant.EPOCH
+        );
+        final var aDate = LocalDate.of(2025, 12, 31);
+        final var aWriter = new BinaryWriter(16);
+        amounts.forEach(aWriter::writeMoney);
+        instants.forEach(aWriter::writeInstant);
+        aWriter.writeDate(aDate);
+
+        final var aReader = new BinaryReader(aWriter.toByteArray());
+
+        for (final var expected : amounts) {
+            Assertions.assertEquals(expected.toBigDecimal(), aReader.readMoney().toBigDecimal());
+        }
+        for (final var expected : instants) {
+            Assertions.assertEquals(expected, aReader.readInstant());
+        }
+        Assertions.assertEquals(aDate, aReader.readDate());
+    }
+
+    @Test
+    void givenIds_whenWriteAndRead_shouldKeepTheirValueAndUseSixteenBytesForHex() {
+        final var aBinaryId = ProductID.unique();
+        final var aTextId = ProductID.from("legacy-42");
+        final var aWriter = new BinaryWriter(16).writeId(aBinaryId);
+
+        Assertions.assertEquals(17, aWriter.size());
+
+        aWriter.writeId(aTextId).writeId(aBinaryId.getValue()).writeId("ABC");
+        final var aReader = new BinaryReader(aWriter.toByteArray());
+
+        Assertions.assertEquals(aBinaryId, aReader.readId(ProductID::from, ProductID::from));
+        Assertions.assertEquals(aTextId, aReader.readId(ProductID::from, ProductID::from));
+        Assertions.assertEquals(aBinaryId.getValue(), aReader.readId());
+        Assertions.assertEquals("ABC", aReader.readId());
+    }
+
+    @Test
+    void givenSubMicrosecondInstant_whenWrite_shouldThrowIllegalArgumentException() {
+        final var aWriter = new BinaryWriter(16);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> aWriter.writeInstant(Instant.ofEpochSecond(0, 1)));
+    }
+
+    @Test
+    void givenTruncatedInput_whenRead_shouldThrowIllegalArgumentException() {
+        final var bytes = new BinaryWriter(16).writeString("sorvete").toByteArray();
+        final var aReader = new BinaryReader(Arrays.copyOf(bytes, 4));
+
+        Assertions.assertThrows(IllegalArgumentException.class, aReader::readString);
+    }
+
+    @Test
+    void givenValuesOutOfRange_whenReadIntOrCount_shouldThrowIllegalArgumentException() {
+        final var bytes = new BinaryWriter(16)
+                .writeVarLong(Integer.MAX_VALUE + 1L)
+                .writeVarLong(3)
+                .writeByte(0)
+                .toByteArray();
+        final var aReader = new BinaryReader(bytes);
+
+        Assertions.assertThrows(IllegalArgumentException.class, aReader::readVarInt);
+        Assertions.assertThrows(IllegalArgumentException.class, aReader::readCount);
+    }
+
+    @Test
+    void givenAnOffsetAndLength_whenRead_shouldStayWithinThem() {
+        final var bytes = new BinaryWriter(16).writeByte(7).writeString("sorvete").writeByte(9).toByteArray();
+        final var aReader = new BinaryReader(bytes, 1, bytes.length - 2);
+
+        Assertions.assertEquals("sorvete", aReader.readString());
+        Assertions.assertFalse(aReader.hasRemaining());
+        Assertions.assertThrows(IllegalArgumentException.class, aReader::readByte);
+    }
+}
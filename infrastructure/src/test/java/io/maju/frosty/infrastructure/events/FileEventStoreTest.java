@@ -0,0 +1,200 @@
+package io.maju.frosty.infrastructure.events;
+
+import io.maju.frosty.checkin.CheckinOrder;
+import io.maju.frosty.checkin.CheckinOrderEvent;
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.checkin.CheckinOrderItem;
+import io.maju.frosty.checkout.CheckoutOrder;
+import io.maju.frosty.checkout.CheckoutOrderEvent;
+import io.maju.frosty.checkout.CheckoutOrderID;
+import io.maju.frosty.checkout.CheckoutOrderItem;
+import io.maju.frosty.checkout.CheckoutOrderStatus;
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.infrastructure.checkin.CheckinOrderEventCodec;
+import io.maju.frosty.infrastructure.checkout.CheckoutOrderEventCodec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+class FileEventStoreTest {
+
+    @Test
+    void givenALargeOrder_whenAddOneItem_shouldAppendASingleSmallEvent() throws IOException {
+        final var aDirectory = Files.createTempDirectory("checkin-events");
+        final var aRepository = checkinRepository(aDirectory, 100);
+        final var anOrder = aRepository.save(newCheckinOrder(3_000));
+        final var anEventsFile = aDirectory.resolve(anOrder.getId().getValue() + ".events");
+        final var sizeBefore = Files.size(anEventsFile);
+
+        anOrder.addOrderItem(CheckinOrderItem.with("Picole", new BigDecimal("2.50"), 4, "product-x"));
+        aRepository.save(anOrder);
+
+        Assertions.assertEquals(2, anOrder.version());
+        Assertions.assertTrue(anOrder.pendingEvents().isEmpty());
+        Assertions.assertTrue(Files.size(anEventsFile) - sizeBefore < 200);
+
+        final var actualOrder = aRepository.findById(anOrder.getId()).orElseThrow();
+
+        Assertions.assertEquals(3_001, actualOrder.items().size());
+        Assertions.assertEquals(anOrder.total(), actualOrder.total());
+        Assertions.assertEquals(anOrder.updatedAt(), actualOrder.updatedAt());
+        Assertions.assertEquals(2, actualOrder.version());
+    }
+
+    @Test
+    void givenManyChanges_whenFindById_shouldReplayFromTheLastSnapshot() throws IOException {
+        final var aDirectory = Files.createTempDirectory("checkin-events");
+        final var aStore = new FileEventStore<CheckinOrderID, CheckinOrderEvent>(aDirectory, new CheckinOrderEventCodec());
+        final var aRepository = new EventSourcedRepository<>(
+                aStore, CheckinOrderEvent.class, CheckinOrder::replay, CheckinOrder::snapshot, 4
+        );
+        final var anOrder = aRepository.save(newCheckinOrder(10));
+
+        for (int i = 0; i < 9; i++) {
+            final var anItem = CheckinOrderItem.with("Item " + i, BigDecimal.ONE, 1, "product-" + i);
+            anOrder.addOrderItem(anItem);
+            if (i % 3 == 0) {
+                anOrder.removeOrderItem(anItem);
+            }
+            aRepository.save(anOrder);
+        }
+        anOrder.cancel();
+        aRepository.save(anOrder);
+
+        final var aStream = aStore.load(anOrder.getId());
+        Assertions.assertEquals(14, aStream.version());
+        Assertions.assertTrue(aStream.events().getFirst() instanceof CheckinOrderEvent.Snapshot);
+        Assertions.assertTrue(aStream.events().size() <= 4);
+
+        final var actualOrder = new EventSourcedRepository<>(
+                new FileEventStore<CheckinOrderID, CheckinOrderEvent>(aDirectory, new CheckinOrderEventCodec()),
+                CheckinOrderEvent.class, CheckinOrder::replay, CheckinOrder::snapshot, 4
+        ).findById(anOrder.getId()).orElseThrow();
+
+        Assertions.assertEquals(anOrder.items(), actualOrder.items());
+        Assertions.assertEquals(anOrder.total(), actualOrder.total());
+        Assertions.assertTrue(actualOrder.isCanceled());
+        Assertions.assertEquals(anOrder.deletedAt(), actualOrder.deletedAt());
+        Assertions.assertEquals(anOrder.createdAt(), actualOrder.createdAt());
+    }
+
+    @Test
+    void givenAStaleVersion_whenAppend_shouldThrowDomainException() throws IOException {
+        final var aRepository = checkinRepository(Files.createTempDirectory("checkin-events"), 100);
+        final var anOrder = aRepository.save(newCheckinOrder(1));
+        final var aStaleOrder = aRepository.findById(anOrder.getId()).orElseThrow();
+
+        anOrder.cancel();
+        aRepository.save(anOrder);
+        aStaleOrder.addOrderItem(CheckinOrderItem.with("Picole", BigDecimal.ONE, 1, "product-x"));
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> aRepository.save(aStaleOrder));
+
+        Assertions.assertEquals(
+                "'version' 1 of %s is stale, the current one is 2".formatted(anOrder.getId().getValue()),
+                actualException.getMessage()
+        );
+    }
+
+    @Test
+    void givenARecordTornByACrash_whenReopen_shouldDropItAndKeepAppending() throws IOException {
+        final var aDirectory = Files.createTempDirectory("checkin-events");
+        final var anOrder = checkinRepository(aDirectory, 100).save(newCheckinOrder(2));
+        anOrder.cancel();
+        checkinRepository(aDirectory, 100).save(anOrder);
+
+        final var anEventsFile = aDirectory.resolve(anOrder.getId().getValue() + ".events");
+        final var aValidSize = Files.size(anEventsFile);
+        Files.write(anEventsFile, new byte[]{0, 0, 0, 42, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        final var aRepository = checkinRepository(aDirectory, 100);
+        final var actualOrder = aRepository.findById(anOrder.getId()).orElseThrow();
+
+        Assertions.assertEquals(aValidSize, Files.size(anEventsFile));
+        Assertions.assertEquals(2, actualOrder.version());
+        Assertions.assertTrue(actualOrder.isCanceled());
+
+        actualOrder.uncancel();
+        aRepository.save(actualOrder);
+
+        Assertions.assertFalse(aRepository.findById(anOrder.getId()).orElseThrow().isCanceled());
+    }
+
+    @Test
+    void givenACheckoutOrder_whenSaveAndFindById_shouldReplayEveryChange() throws IOException {
+        final var aRepository = new EventSourcedRepository<>(
+                new FileEventStore<CheckoutOrderID, CheckoutOrderEvent>(
+                        Files.createTempDirectory("checkout-events"), new CheckoutOrderEventCodec()
+                ),
+                CheckoutOrderEvent.class, CheckoutOrder::replay, CheckoutOrder::snapshot, 3
+        );
+        final var aFirstItem = CheckoutOrderItem.with(new BigDecimal("10.75"), 2, "123");
+        final var anOrder = aRepository.save(CheckoutOrder.builder()
+                .recordEvents(true)
+                .amount(new BigDecimal("21.50"))
+                .customerName("Maria")
+                .item(aFirstItem)
+                .build());
+
+        anOrder.addOrderItem(CheckoutOrderItem.with(new BigDecimal("3.10"), 5, "456"));
+        anOrder.removeOrderItem(aFirstItem);
+        aRepository.save(anOrder);
+        anOrder.close(CheckoutOrderStatus.COMPLETED);
+        aRepository.save(anOrder);
+
+        final var actualOrder = aRepository.findById(anOrder.getId()).orElseThrow();
+
+        Assertions.assertEquals(anOrder.items(), actualOrder.items());
+        Assertions.assertEquals(new BigDecimal("15.50"), actualOrder.amount());
+        Assertions.assertEquals(CheckoutOrderStatus.COMPLETED, actualOrder.status());
+        Assertions.assertFalse(actualOrder.isOpen());
+        Assertions.assertEquals("Maria", actualOrder.customerName());
+        Assertions.assertEquals(anOrder.deletedAt(), actualOrder.deletedAt());
+    }
+
+    @Test
+    void givenAnOrderThatDoesNotRecordEvents_whenSave_shouldThrowIllegalArgumentException() throws IOException {
+        final var aRepository = checkinRepository(Files.createTempDirectory("checkin-events"), 100);
+        final var anOrder = CheckinOrder.builder()
+                .item(CheckinOrderItem.with("Picole", BigDecimal.ONE, 1, "product-x"))
+                .build();
+
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class, () -> aRepository.save(anOrder));
+
+        Assertions.assertEquals(
+                "'aggregate' %s does not record its events".formatted(anOrder.getId().getValue()),
+                actualException.getMessage()
+        );
+    }
+
+    @Test
+    void givenAnUnknownId_whenFindById_shouldReturnEmpty() throws IOException {
+        final var aRepository = checkinRepository(Files.createTempDirectory("checkin-events"), 100);
+
+        Assertions.assertTrue(aRepository.findById(CheckinOrderID.unique()).isEmpty());
+    }
+
+    private static EventSourcedRepository<CheckinOrderID, CheckinOrder, CheckinOrderEvent> checkinRepository(
+            final Path aDirectory,
+            final int aSnapshotEvery
+    ) {
+        return new EventSourcedRepository<>(
+                new FileEventStore<>(aDirectory, new CheckinOrderEventCodec()),
+                CheckinOrderEvent.class, CheckinOrder::replay, CheckinOrder::snapshot, aSnapshotEvery
+        );
+    }
+
+    private static CheckinOrder newCheckinOrder(final int anItemCount) {
+        return CheckinOrder.builder()
+                .recordEvents(true)
+                .items(IntStream.range(0, anItemCount)
+                        .mapToObj(i -> CheckinOrderItem.with("Sorvete " + i, new BigDecimal("10.75"), 3, "product-" + i)))
+                .build();
+    }
+}
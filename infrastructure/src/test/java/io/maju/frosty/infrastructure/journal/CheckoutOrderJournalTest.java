@@ -0,0 +1,110 @@
+package io.maju.frosty.infrastructure.journal;
+
+import io.maju.frosty.checkout.CheckoutOrder;
+import io.maju.frosty.checkout.CheckoutOrderEvent;
+import io.maju.frosty.checkout.CheckoutOrderItem;
+import io.maju.frosty.checkout.CheckoutOrderStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+class CheckoutOrderJournalTest {
+
+    @Test
+    void givenJournaledCheckouts_whenDrain_shouldHandEachEventOnceInOrder() throws IOException {
+        final var aDirectory = Files.createTempDirectory("checkout-journal");
+        final var orders = new ArrayList<CheckoutOrder>();
+
+        try (final var aJournal = new CheckoutOrderJournal(aDirectory, 1_024)) {
+            for (int i = 0; i < 10; i++) {
+                final var anOrder = CheckoutOrder.builder()
+                        .recordEvents(true)
+                        .amount(new BigDecimal("21.50"))
+                        .customerName("Maria")
+                        .item(CheckoutOrderItem.with(new BigDecimal("10.75"), 2, "product-" + i))
+                        .build();
+                anOrder.close(CheckoutOrderStatus.COMPLETED);
+                anOrder.pendingEvents().forEach(anEvent -> aJournal.append(anOrder.getId(), (CheckoutOrderEvent) anEvent));
+                orders.add(anOrder);
+            }
+
+            final var drained = new ArrayList<CheckoutOrderJournal.Entry>();
+            Assertions.assertEquals(8, aJournal.drain(8, drained::addAll));
+
+            Assertions.assertEquals(orders.getFirst().getId(), drained.getFirst().orderId());
+            Assertions.assertTrue(drained.getFirst().event() instanceof CheckoutOrderEvent.Created);
+            Assertions.assertTrue(drained.get(1).event() instanceof CheckoutOrderEvent.Closed);
+        }
+
+        try (final var aJournal = new CheckoutOrderJournal(aDirectory, 1_024)) {
+            final var drained = new ArrayList<CheckoutOrderJournal.Entry>();
+            Assertions.assertEquals(12, aJournal.drain(100, drained::addAll));
+            Assertions.assertEquals(0, aJournal.drain(100, drained::addAll));
+
+            Assertions.assertEquals(9, drained.getFirst().sequence());
+            Assertions.assertEquals(orders.getLast().getId(), drained.getLast().orderId());
+            final var aCreated = (CheckoutOrderEvent.Created) drained.get(10).event();
+            Assertions.assertEquals(orders.getLast().items(), aCreated.items());
+            Assertions.assertEquals(new BigDecimal("21.50"), aCreated.amount().toBigDecimal());
+        }
+    }
+
+    @Test
+    void givenAFailingSink_whenDrain_shouldHandTheSameBatchAgain() throws IOException {
+        try (final var aJournal = new CheckoutOrderJournal(Files.createTempDirectory("checkout-journal"), 1_024)) {
+            final var anOrder = CheckoutOrder.builder()
+                    .recordEvents(true)
+                    .amount(BigDecimal.TEN)
+                    .item(CheckoutOrderItem.with(BigDecimal.TEN, 1, "product"))
+                    .build();
+            aJournal.append(anOrder.getId(), (CheckoutOrderEvent) anOrder.pendingEvents().getFirst());
+
+            Assertions.assertThrows(IllegalStateException.class, () -> aJournal.drain(10, entries -> {
+                throw new IllegalStateException("database is down");
+            }));
+
+            final var drained = new ArrayList<CheckoutOrderJournal.Entry>();
+            Assertions.assertEquals(1, aJournal.drain(10, drained::addAll));
+            Assertions.assertEquals(List.of(1L), drained.stream().map(CheckoutOrderJournal.Entry::sequence).toList());
+        }
+    }
+
+    @Test
+    void givenConcurrentAppends_whenDrain_shouldOnlyHandDurableEntriesOnce() throws Exception {
+        final var appends = 2_000;
+        final var anExecutor = Executors.newSingleThreadExecutor();
+
+        try (final var aJournal = new CheckoutOrderJournal(Files.createTempDirectory("checkout-journal"), 4_096)) {
+            final var anOrder = CheckoutOrder.builder()
+                    .recordEvents(true)
+                    .amount(BigDecimal.TEN)
+                    .item(CheckoutOrderItem.with(BigDecimal.TEN, 1, "product"))
+                    .build();
+            final var anEvent = (CheckoutOrderEvent) anOrder.pendingEvents().getFirst();
+            final var anAppender = anExecutor.submit(() -> {
+                for (int i = 0; i < appends; i++) {
+                    aJournal.append(anOrder.getId(), anEvent);
+                }
+            });
+
+            final var sequences = new ArrayList<Long>();
+            while (sequences.size() < appends) {
+                aJournal.drain(64, entries -> entries.forEach(anEntry -> sequences.add(anEntry.sequence())));
+            }
+            anAppender.get();
+
+            for (int i = 0; i < appends; i++) {
+                Assertions.assertEquals(i + 1L, sequences.get(i));
+            }
+            Assertions.assertEquals(0, aJournal.drain(64, entries -> Assertions.fail("nothing is left to drain")));
+        } finally {
+            anExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package io.maju.frosty.infrastructure.journal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+class SegmentedJournalTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @Test
+    void givenMoreRecordsThanASegmentHolds_whenRead_shouldReturnThemInOrderAcrossSegments() throws IOException {
+        final var aDirectory = Files.createTempDirectory("journal");
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            for (int i = 1; i <= 50; i++) {
+                Assertions.assertEquals(i, aJournal.append(payload(i)));
+            }
+
+            final var actualRecords = aJournal.read(20, 100);
+
+            Assertions.assertTrue(segments(aDirectory).size() > 1);
+            Assertions.assertEquals(30, actualRecords.size());
+            for (int i = 0; i < actualRecords.size(); i++) {
+                Assertions.assertEquals(21 + i, actualRecords.get(i).sequence());
+                Assertions.assertEquals("record-" + (21 + i), text(actualRecords.get(i).payload()));
+            }
+        }
+    }
+
+    @Test
+    void givenAJournal_whenReopen_shouldKeepEveryRecordAndTheNextSequence() throws IOException {
+        final var aDirectory = Files.createTempDirectory("journal");
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            for (int i = 1; i <= 30; i++) {
+                aJournal.append(payload(i));
+            }
+        }
+
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            Assertions.assertEquals(30, aJournal.lastSequence());
+            Assertions.assertEquals(31, aJournal.append(payload(31)));
+            Assertions.assertEquals(31, aJournal.read(0, 100).size());
+        }
+    }
+
+    @Test
+    void givenASegmentTruncatedMidRecord_whenReopen_shouldDropOnlyTheTornRecord() throws IOException {
+        final var aDirectory = Files.createTempDirectory("journal");
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            for (int i = 1; i <= 3; i++) {
+                aJournal.append(payload(i));
+            }
+        }
+        final var aSegment = segments(aDirectory).getLast();
+        final var aRecordSize = Integer.BYTES * 2 + payload(1).length;
+        try (final var aChannel = FileChannel.open(aSegment, StandardOpenOption.WRITE)) {
+            aChannel.truncate(aRecordSize * 2L + aRecordSize / 2);
+        }
+
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            Assertions.assertEquals(2, aJournal.lastSequence());
+            Assertions.assertEquals(3, aJournal.append(payload(33)));
+
+            final var actualRecords = aJournal.read(0, 100);
+
+            Assertions.assertEquals(3, actualRecords.size());
+            Assertions.assertEquals("record-33", text(actualRecords.getLast().payload()));
+        }
+    }
+
+    @Test
+    void givenACorruptedPayload_whenReopen_shouldStopAtTheChecksumMismatch() throws IOException {
+        final var aDirectory = Files.createTempDirectory("journal");
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            for (int i = 1; i <= 3; i++) {
+                aJournal.append(payload(i));
+            }
+        }
+        final var aRecordSize = Integer.BYTES * 2 + payload(1).length;
+        try (final var aChannel = FileChannel.open(segments(aDirectory).getLast(), StandardOpenOption.WRITE)) {
+            aChannel.write(ByteBuffer.wrap(new byte[]{'X'}), aRecordSize + Integer.BYTES * 2L);
+        }
+
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            Assertions.assertEquals(1, aJournal.lastSequence());
+            Assertions.assertEquals(1, aJournal.read(0, 100).size());
+        }
+    }
+
+    @Test
+    void givenADrainedPrefix_whenCheckpoint_shouldDeleteFullyDrainedSegments() throws IOException {
+        final var aDirectory = Files.createTempDirectory("journal");
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            for (int i = 1; i <= 50; i++) {
+                aJournal.append(payload(i));
+            }
+            final var segmentsBefore = segments(aDirectory).size();
+
+            aJournal.checkpoint(40);
+
+            Assertions.assertTrue(segments(aDirectory).size() < segmentsBefore);
+            Assertions.assertEquals(10, aJournal.read(aJournal.checkpoint(), 100).size());
+        }
+
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            Assertions.assertEquals(40, aJournal.checkpoint());
+            Assertions.assertEquals(50, aJournal.lastSequence());
+            Assertions.assertEquals(41, aJournal.read(aJournal.checkpoint(), 1).getFirst().sequence());
+        }
+    }
+
+    @Test
+    void givenManyThreads_whenAppend_shouldGiveEveryRecordItsOwnSequence() throws Exception {
+        final var aDirectory = Files.createTempDirectory("journal");
+        final var threads = 8;
+        final var appendsPerThread = 200;
+        final var anExecutor = Executors.newFixedThreadPool(threads);
+
+        try (final var aJournal = new SegmentedJournal(aDirectory, 4_096)) {
+            final var tasks = new ArrayList<Callable<Void>>();
+            for (int t = 0; t < threads; t++) {
+                final var aThread = t;
+                tasks.add(() -> {
+                    for (int i = 0; i < appendsPerThread; i++) {
+                        aJournal.append(payload(aThread * appendsPerThread + i));
+                    }
+                    return null;
+                });
+            }
+            for (final var aFuture : anExecutor.invokeAll(tasks)) {
+                aFuture.get();
+            }
+
+            final var actualRecords = aJournal.read(0, Integer.MAX_VALUE);
+            final var payloads = new HashSet<String>();
+            actualRecords.forEach(aRecord -> payloads.add(text(aRecord.payload())));
+
+            Assertions.assertEquals(threads * appendsPerThread, actualRecords.size());
+            Assertions.assertEquals(threads * appendsPerThread, payloads.size());
+            Assertions.assertEquals(threads * appendsPerThread, aJournal.lastSequence());
+        } finally {
+            anExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenAnEmptyPayload_whenAppend_shouldRejectItAndKeepEveryRecordOnReopen() throws IOException {
+        final var aDirectory = Files.createTempDirectory("journal");
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            aJournal.append(payload(1));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> aJournal.append(new byte[0]));
+            aJournal.append(payload(2));
+        }
+
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE)) {
+            Assertions.assertEquals(2, aJournal.lastSequence());
+            Assertions.assertEquals(2, aJournal.read(0, 100).size());
+        }
+    }
+
+    @Test
+    void givenAFailingForce_whenAppend_shouldNotTreatAnyWaitingRecordAsDurable() throws Exception {
+        final var aDirectory = Files.createTempDirectory("journal");
+        final var forceStarted = new CountDownLatch(1);
+        final var forceReleased = new CountDownLatch(1);
+        final var anExecutor = Executors.newFixedThreadPool(2);
+
+        try (final var aJournal = new SegmentedJournal(aDirectory, SEGMENT_SIZE) {
+            @Override
+            void force(final MappedByteBuffer aBuffer) {
+                forceStarted.countDown();
+                try {
+                    forceReleased.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new UncheckedIOException(new IOException("disk failed"));
+            }
+        }) {
+            final var aFirstAppend = anExecutor.submit(() -> aJournal.append(payload(1)));
+            forceStarted.await();
+            final var aSecondAppend = anExecutor.submit(() -> aJournal.append(payload(2)));
+            while (aJournal.lastSequence() < 2) {
+                Thread.onSpinWait();
+            }
+            forceReleased.countDown();
+
+            Assertions.assertThrows(ExecutionException.class, aFirstAppend::get);
+            Assertions.assertThrows(ExecutionException.class, aSecondAppend::get);
+            Assertions.assertTrue(aJournal.read(0, 100).isEmpty());
+        } finally {
+            anExecutor.shutdownNow();
+        }
+    }
+
+    private static byte[] payload(final int i) {
+        return "record-%d".formatted(i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(final byte[] aPayload) {
+        return new String(aPayload, StandardCharsets.UTF_8);
+    }
+
+    private static List<Path> segments(final Path aDirectory) throws IOException {
+        try (final Stream<Path> files = Files.list(aDirectory)) {
+            return files.filter(aFile -> aFile.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.maju.frosty.infrastructure.product;
+
+import io.maju.frosty.product.Product;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+class ProductBinaryCodecTest {
+
+    private final ProductBinaryCodec codec = new ProductBinaryCodec();
+
+    @Test
+    void givenAProduct_whenEncodeAndDecode_shouldKeepEveryField() {
+        final var aProduct = Product.newProduct(
+                "Sorvete de chocolate", "Pote de 2 litros", true, new BigDecimal("39.90"), LocalDate.of(2025, 12, 31), 120
+        ).deactivate();
+
+        final var actualProduct = this.codec.decode(this.codec.encode(aProduct));
+
+        Assertions.assertEquals(aProduct.getId(), actualProduct.getId());
+        Assertions.assertEquals(aProduct.name(), actualProduct.name());
+        Assertions.assertEquals(aProduct.description(), actualProduct.description());
+        Assertions.assertEquals(aProduct.isActive(), actualProduct.isActive());
+        Assertions.assertEquals(aProduct.price(), actualProduct.price());
+        Assertions.assertEquals(aProduct.expirationDate(), actualProduct.expirationDate());
+        Assertions.assertEquals(aProduct.stock(), actualProduct.stock());
+        Assertions.assertEquals(aProduct.createdAt(), actualProduct.createdAt());
+        Assertions.assertEquals(aProduct.updatedAt(), actualProduct.updatedAt());
+        Assertions.assertEquals(aProduct.deletedAt(), actualProduct.deletedAt());
+    }
+
+    @Test
+    void givenAProductWithoutOptionalFields_whenEncodeAndDecode_shouldKeepThemNull() {
+        final var aProduct = Product.newProduct("Acai", null, true, BigDecimal.TEN, null, null);
+
+        final var bytes = this.codec.encode(aProduct);
+        final var actualProduct = this.codec.decode(bytes);
+
+        Assertions.assertTrue(bytes.length < 48);
+        Assertions.assertNull(actualProduct.description());
+        Assertions.assertNull(actualProduct.expirationDate());
+        Assertions.assertNull(actualProduct.stock());
+        Assertions.assertNull(actualProduct.deletedAt());
+    }
+
+    @Test
+    void givenAnUnknownVersion_whenDecode_shouldThrowIllegalArgumentException() {
+        final var bytes = this.codec.encode(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, null));
+        bytes[0] = 99;
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.codec.decode(bytes));
+    }
+}
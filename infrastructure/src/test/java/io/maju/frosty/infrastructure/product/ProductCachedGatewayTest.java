@@ -0,0 +1,127 @@
+package io.maju.frosty.infrastructure.product;
+
+import io.maju.frosty.ExistenceSet;
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ProductCachedGatewayTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CountingGateway store = new CountingGateway();
+    private final ProductCachedGateway gateway =
+            new ProductCachedGateway(store, 100, Duration.ofSeconds(5), now::get);
+
+    @Test
+    void givenACachedProduct_whenCallFindById_shouldNotReachTheDelegateAgain() {
+        final var aProduct = store.create(newProduct());
+
+        final var aFirstRead = gateway.findById(aProduct.getId()).orElseThrow();
+        final var aSecondRead = gateway.findById(aProduct.getId()).orElseThrow();
+
+        Assertions.assertEquals(1, store.findByIdCalls.get());
+        Assertions.assertNotSame(aFirstRead, aSecondRead);
+        Assertions.assertEquals(aProduct.getId(), aSecondRead.getId());
+    }
+
+    @Test
+    void givenAnUnknownProduct_whenCallFindById_shouldCacheTheMiss() {
+        final var anId = ProductID.unique();
+
+        Assertions.assertTrue(gateway.findById(anId).isEmpty());
+        Assertions.assertTrue(gateway.findById(anId).isEmpty());
+        Assertions.assertEquals(1, store.findByIdCalls.get());
+    }
+
+    @Test
+    void givenACachedProduct_whenStockChangesBehindTheCache_shouldReloadAfterTheStalenessBound() {
+        final var aProduct = store.create(newProduct());
+        gateway.findById(aProduct.getId());
+
+        store.reserve(aProduct.getId(), 7);
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        final var aStaleStock = gateway.findById(aProduct.getId()).orElseThrow().stock();
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        final var aFreshStock = gateway.findById(aProduct.getId()).orElseThrow().stock();
+
+        Assertions.assertEquals(10, aStaleStock);
+        Assertions.assertEquals(3, aFreshStock);
+    }
+
+    @Test
+    void givenACachedProduct_whenUpdateOrDeleteThroughTheCache_shouldInvalidateAtOnce() {
+        final var aProduct = store.create(newProduct());
+        gateway.findById(aProduct.getId());
+
+        gateway.update(Product.with(aProduct).update("Sorvete de morango", null, true, BigDecimal.TEN, null, 7));
+        final var anUpdatedName = gateway.findById(aProduct.getId()).orElseThrow().name();
+        gateway.deleteById(aProduct.getId());
+
+        Assertions.assertEquals("Sorvete de morango", anUpdatedName);
+        Assertions.assertTrue(gateway.findById(aProduct.getId()).isEmpty());
+        Assertions.assertTrue(gateway.existsByIds(List.of(aProduct.getId())).isEmpty());
+    }
+
+    @Test
+    void givenACachedProduct_whenStockMovesThroughTheInvalidatingGateway_shouldServeTheNewStock() {
+        final var aProduct = store.create(newProduct());
+        final var aStockGateway = gateway.invalidating(store);
+        gateway.findById(aProduct.getId());
+
+        Assertions.assertTrue(aStockGateway.reserve(aProduct.getId(), 4));
+
+        Assertions.assertEquals(6, gateway.findById(aProduct.getId()).orElseThrow().stock());
+        Assertions.assertEquals(2, store.findByIdCalls.get());
+    }
+
+    @Test
+    void givenSomeCachedIds_whenCallExistsByIds_shouldAskTheDelegateOnlyForTheMissingOnes() {
+        final var aProduct = store.create(newProduct());
+        final var anotherProduct = store.create(newProduct());
+        final var anUnknownId = ProductID.unique();
+        gateway.existsByIds(List.of(aProduct.getId()));
+
+        final var actualIds = gateway.existsByIds(List.of(anUnknownId, anotherProduct.getId(), aProduct.getId()));
+        gateway.existsByIds(List.of(anUnknownId, anotherProduct.getId(), aProduct.getId()));
+
+        Assertions.assertEquals(List.of(anotherProduct.getId(), aProduct.getId()), actualIds);
+        Assertions.assertEquals(2, store.existsByIdsCalls.size());
+        Assertions.assertEquals(List.of(aProduct.getId()), store.existsByIdsCalls.get(0));
+        Assertions.assertEquals(
+                Set.of(anUnknownId, anotherProduct.getId()),
+                Set.copyOf(store.existsByIdsCalls.get(1))
+        );
+    }
+
+    private static Product newProduct() {
+        return Product.newProduct("Sorvete", null, true, BigDecimal.TEN, null, 10);
+    }
+
+    private static class CountingGateway extends ProductInMemoryGateway {
+
+        private final AtomicInteger findByIdCalls = new AtomicInteger();
+        private final List<List<ProductID>> existsByIdsCalls = new ArrayList<>();
+
+        @Override
+        public Optional<Product> findById(final ProductID anId) {
+            findByIdCalls.incrementAndGet();
+            return super.findById(anId);
+        }
+
+        @Override
+        public ExistenceSet<ProductID> existenceOf(final List<ProductID> ids) {
+            existsByIdsCalls.add(ids);
+            return super.existenceOf(ids);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.maju.frosty.infrastructure.product;
+
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductID;
+import io.maju.frosty.utils.InstantUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+class ProductCatalogTest {
+
+    @Test
+    void givenManyProducts_whenRebuild_shouldFindEachOfThem() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var products = new ArrayList<Product>();
+        for (int i = 0; i < 5_000; i++) {
+            products.add(aGateway.create(Product.newProduct("Sorvete " + i, null, true, BigDecimal.TEN, null, i)));
+        }
+
+        final var aCatalog = new ProductCatalog(aGateway).rebuild();
+
+        Assertions.assertEquals(5_000, aCatalog.size());
+        for (final var aProduct : products) {
+            final var actualProduct = aCatalog.findById(aProduct.getId()).orElseThrow();
+            Assertions.assertEquals(aProduct.getId(), actualProduct.getId());
+            Assertions.assertEquals(aProduct.name(), actualProduct.name());
+            Assertions.assertEquals(aProduct.stock(), actualProduct.stock());
+        }
+    }
+
+    @Test
+    void givenAnUnknownId_whenFindById_shouldReturnEmpty() {
+        final var aGateway = new ProductInMemoryGateway();
+        aGateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, 1));
+
+        final var aCatalog = new ProductCatalog(aGateway).rebuild();
+
+        Assertions.assertTrue(aCatalog.findById(ProductID.unique()).isEmpty());
+        Assertions.assertFalse(aCatalog.contains(ProductID.from("legacy-1")));
+    }
+
+    @Test
+    void givenANonUuidId_whenRebuild_shouldFindIt() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var now = InstantUtils.now();
+        aGateway.create(Product.with(
+                ProductID.from("legacy-1"), "Picole", null, true, BigDecimal.ONE, null, 3, now, now, null
+        ));
+
+        final var aCatalog = new ProductCatalog(aGateway).rebuild();
+
+        Assertions.assertTrue(aCatalog.contains(ProductID.from("legacy-1")));
+        Assertions.assertEquals("Picole", aCatalog.findById(ProductID.from("legacy-1")).orElseThrow().name());
+    }
+
+    @Test
+    void givenAChangedProduct_whenRebuild_shouldSwapInTheNewSnapshot() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aProduct = aGateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, 1));
+        final var aCatalog = new ProductCatalog(aGateway);
+
+        Assertions.assertEquals(0, aCatalog.size());
+        Assertions.assertFalse(aCatalog.contains(aProduct.getId()));
+
+        aCatalog.rebuild();
+        aGateway.update(Product.with(aProduct).update("Acai com banana", null, true, BigDecimal.TEN, null, 1));
+        aGateway.reserve(aProduct.getId(), 1);
+        final var anAdded = aGateway.create(Product.newProduct("Picole", null, true, BigDecimal.ONE, null, 2));
+
+        Assertions.assertEquals("Acai", aCatalog.findById(aProduct.getId()).orElseThrow().name());
+        Assertions.assertFalse(aCatalog.contains(anAdded.getId()));
+
+        aCatalog.rebuild();
+
+        Assertions.assertEquals(2, aCatalog.size());
+        Assertions.assertEquals("Acai com banana", aCatalog.findById(aProduct.getId()).orElseThrow().name());
+        Assertions.assertEquals(0, aCatalog.findById(aProduct.getId()).orElseThrow().stock());
+        Assertions.assertTrue(aCatalog.contains(anAdded.getId()));
+    }
+
+    @Test
+    void givenADirectory_whenRebuild_shouldLeaveNoFileBehind() throws IOException {
+        final var aDirectory = Files.createTempDirectory("product-catalog");
+        final var aGateway = new ProductInMemoryGateway();
+        final var aProduct = aGateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, 1));
+
+        final var aCatalog = new ProductCatalog(aGateway, aDirectory).rebuild().rebuild();
+
+        Assertions.assertTrue(aCatalog.contains(aProduct.getId()));
+        try (final var files = Files.list(aDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package io.maju.frosty.infrastructure.product;
+
+import io.maju.frosty.checkin.CheckinOrder;
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.checkin.CheckinOrderItem;
+import io.maju.frosty.checkin.CheckinOrderStockReceipt;
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.pagination.CursorQuery;
+import io.maju.frosty.pagination.SearchQuery;
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ProductInMemoryGatewayTest {
+
+    @Test
+    void givenAProduct_whenCallCreate_shouldStoreACopy() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aProduct = newProduct("Sorvete de chocolate", true, "2024-12-31");
+
+        final var actualProduct = aGateway.create(aProduct);
+        aProduct.update("Sorvete de morango", null, true, BigDecimal.ONE, null, 1);
+
+        Assertions.assertNotSame(aProduct, actualProduct);
+        Assertions.assertEquals("Sorvete de chocolate", aGateway.findById(aProduct.getId()).orElseThrow().name());
+    }
+
+    @Test
+    void givenAStoredProduct_whenCallUpdate_shouldReindexIt() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aProduct = aGateway.create(newProduct("Sorvete de chocolate", true, "2024-12-31"));
+
+        aGateway.update(aProduct.update("Picole de morango", null, false, BigDecimal.TEN, null, 5));
+
+        Assertions.assertEquals(0, aGateway.findAll(query("chocolate", "name", "asc")).total());
+        Assertions.assertEquals(1, aGateway.findAll(query("morango", "name", "asc")).total());
+        Assertions.assertTrue(aGateway.findAllActive().isEmpty());
+        Assertions.assertTrue(aGateway.findAllExpiringUntil(LocalDate.parse("2030-01-01")).isEmpty());
+    }
+
+    @Test
+    void givenStoredProducts_whenCallFindAllWithoutTerms_shouldPageBySort() {
+        final var aGateway = new ProductInMemoryGateway();
+        aGateway.create(newProduct("Sorvete de creme", true, "2024-12-31"));
+        aGateway.create(newProduct("Acai", true, null));
+        aGateway.create(newProduct("Picole de uva", false, "2024-06-30"));
+
+        final var firstPage = aGateway.findAll(new SearchQuery(0, 2, null, "name", "asc"));
+        final var secondPage = aGateway.findAll(new SearchQuery(1, 2, null, "name", "asc"));
+        final var byExpiration = aGateway.findAll(new SearchQuery(0, 3, "", "expirationDate", "desc"));
+
+        Assertions.assertEquals(3, firstPage.total());
+        Assertions.assertEquals(List.of("Acai", "Picole de uva"), names(firstPage.items()));
+        Assertions.assertEquals(List.of("Sorvete de creme"), names(secondPage.items()));
+        Assertions.assertEquals(List.of("Acai", "Sorvete de creme", "Picole de uva"), names(byExpiration.items()));
+    }
+
+    @Test
+    void givenStoredProducts_whenCallFindAllWithTerms_shouldMatchWordPrefixes() {
+        final var aGateway = new ProductInMemoryGateway();
+        aGateway.create(newProduct("Sorvete de chocolate", true, "2024-12-31"));
+        aGateway.create(newProduct("Picole de chocolate", true, "2024-12-31"));
+        aGateway.create(newProduct("Sorvete de creme", true, "2024-12-31"));
+
+        final var actualPage = aGateway.findAll(query("SORV choc", "name", "asc"));
+        final var allChocolate = aGateway.findAll(query("choco", "name", "desc"));
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(List.of("Sorvete de chocolate"), names(actualPage.items()));
+        Assertions.assertEquals(List.of("Sorvete de chocolate", "Picole de chocolate"), names(allChocolate.items()));
+    }
+
+    @Test
+    void givenStoredProducts_whenCallExistsByIdsAndDelete_shouldReturnOnlyStoredIds() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aProduct = aGateway.create(newProduct("Sorvete de creme", true, "2024-12-31"));
+        final var anotherProduct = aGateway.create(newProduct("Acai", true, null));
+        final var anUnknownId = ProductID.unique();
+
+        final var actualIds = aGateway.existsByIds(List.of(aProduct.getId(), anUnknownId, anotherProduct.getId()));
+        final var actualExistence = aGateway.existenceOf(List.of(aProduct.getId(), anUnknownId));
+        aGateway.deleteById(aProduct.getId());
+
+        Assertions.assertEquals(List.of(aProduct.getId(), anotherProduct.getId()), actualIds);
+        Assertions.assertEquals(List.of(anUnknownId), actualExistence.missing());
+        Assertions.assertTrue(aGateway.findById(aProduct.getId()).isEmpty());
+        Assertions.assertEquals(List.of("Acai"), names(aGateway.findAll(query(null, "name", "asc")).items()));
+        Assertions.assertEquals(List.of("Acai"), names(aGateway.findAllActive()));
+    }
+
+    @Test
+    void givenStoredProducts_whenWalkWithCursors_shouldVisitEveryProductOnce() {
+        final var aGateway = new ProductInMemoryGateway();
+        aGateway.create(newProduct("Sorvete de creme", true, "2024-12-31"));
+        aGateway.create(newProduct("Acai", true, null));
+        aGateway.create(newProduct("Picole de uva", false, "2024-06-30"));
+        aGateway.create(newProduct("Sorvete de uva", true, "2024-06-30"));
+        aGateway.create(newProduct("Picole de limao", true, "2025-01-31"));
+
+        Assertions.assertEquals(
+                List.of("Acai", "Picole de limao", "Picole de uva", "Sorvete de creme", "Sorvete de uva"),
+                walk(aGateway, CursorQuery.first(2, null, "name", "asc"))
+        );
+        Assertions.assertEquals(
+                List.of("Acai", "Picole de limao", "Sorvete de creme"),
+                names(walkProducts(aGateway, CursorQuery.first(2, null, "expirationDate", "desc")).subList(0, 3))
+        );
+        Assertions.assertEquals(
+                List.of("Sorvete de uva", "Picole de uva"),
+                walk(aGateway, CursorQuery.first(1, "uva", "name", "desc"))
+        );
+    }
+
+    @Test
+    void givenACursorPage_whenStoreChangesBeforeTheNextPage_shouldContinueAfterTheLastKey() {
+        final var aGateway = new ProductInMemoryGateway();
+        aGateway.create(newProduct("Acai", true, null));
+        aGateway.create(newProduct("Picole", true, null));
+        aGateway.create(newProduct("Sorvete", true, null));
+
+        final var aFirstPage = aGateway.findAll(CursorQuery.first(1, null, "name", "asc"));
+        aGateway.create(newProduct("Banana split", true, null));
+        final var aSecondPage = aGateway.findAll(CursorQuery.first(1, null, "name", "asc").next(aFirstPage.next().orElseThrow()));
+
+        Assertions.assertEquals(List.of("Acai"), names(aFirstPage.items()));
+        Assertions.assertEquals(List.of("Banana split"), names(aSecondPage.items()));
+        Assertions.assertEquals(4, aSecondPage.total());
+    }
+
+    @Test
+    void givenStoredProducts_whenCallStreamAll_shouldYieldEveryMatchInSortOrder() {
+        final var aGateway = new ProductInMemoryGateway();
+        aGateway.create(newProduct("Sorvete de creme", true, "2024-12-31"));
+        aGateway.create(newProduct("Acai", true, null));
+        aGateway.create(newProduct("Sorvete de uva", true, "2024-06-30"));
+
+        try (final var aStream = aGateway.streamAll(query(null, "name", "desc"));
+             final var aFilteredStream = aGateway.streamAll(query("sorvete", "expirationDate", "asc"))) {
+            Assertions.assertEquals(
+                    List.of("Sorvete de uva", "Sorvete de creme", "Acai"),
+                    aStream.map(Product::name).toList()
+            );
+            Assertions.assertEquals(
+                    List.of("Sorvete de uva", "Sorvete de creme"),
+                    aFilteredStream.map(Product::name).toList()
+            );
+        }
+    }
+
+    @Test
+    void givenAStoredProduct_whenMoveStock_shouldKeepAvailableAndReservedUnits() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aProduct = aGateway.create(newProduct("Sorvete de creme", true, null));
+        final var anId = aProduct.getId();
+
+        Assertions.assertTrue(aGateway.reserve(anId, 4));
+        Assertions.assertFalse(aGateway.reserve(anId, 7));
+        Assertions.assertTrue(aGateway.commit(anId, 3));
+        Assertions.assertFalse(aGateway.commit(anId, 2));
+        Assertions.assertTrue(aGateway.release(anId, 1));
+        Assertions.assertEquals(7, aGateway.findById(anId).orElseThrow().stock());
+
+        aGateway.update(aGateway.findById(anId).orElseThrow().update(aProduct.name(), null, true, BigDecimal.TEN, null, 20));
+        Assertions.assertEquals(7, aGateway.findById(anId).orElseThrow().stock());
+
+        Assertions.assertTrue(aGateway.reserve(anId, 2));
+        aGateway.update(aGateway.findById(anId).orElseThrow().update(aProduct.name(), null, true, BigDecimal.TEN, null, null));
+        Assertions.assertTrue(aGateway.commit(anId, 2));
+        Assertions.assertEquals(5, aGateway.findById(anId).orElseThrow().stock());
+        Assertions.assertFalse(aGateway.reserve(ProductID.unique(), 1));
+    }
+
+    @Test
+    void givenAProductWithoutStock_whenCallReserve_shouldFail() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aProduct = aGateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, null));
+
+        Assertions.assertFalse(aGateway.reserve(aProduct.getId(), 1));
+        Assertions.assertNull(aGateway.findById(aProduct.getId()).orElseThrow().stock());
+    }
+
+    @Test
+    void givenConcurrentReservations_whenStockRunsOut_shouldNeverOversell() throws Exception {
+        assertNoOversell(new ProductInMemoryGateway());
+    }
+
+    @Test
+    void givenAHotProduct_whenConcurrentReservationsRunOut_shouldNeverOversellEither() throws Exception {
+        assertNoOversell(new ProductInMemoryGateway(anId -> true));
+    }
+
+    @Test
+    void givenACheckinOrder_whenReceiveItTwice_shouldIncreaseTheStockOnce() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aReceipt = new CheckinOrderStockReceipt(aGateway, aGateway);
+        final var aProduct = aGateway.create(newProduct("Sorvete de creme", true, null));
+        final var anUntrackedProduct = aGateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, null));
+        final var items = new ArrayList<CheckinOrderItem>();
+        for (int i = 0; i < 2_000; i++) {
+            final var aProductId = (i % 2 == 0 ? aProduct : anUntrackedProduct).getId().getValue();
+            items.add(CheckinOrderItem.with("Item " + i, BigDecimal.ONE, 1, aProductId));
+        }
+        final var anOrder = CheckinOrder.newOrder(items, false);
+
+        Assertions.assertTrue(aReceipt.receive(anOrder));
+        Assertions.assertFalse(aReceipt.receive(CheckinOrder.with(anOrder)));
+
+        Assertions.assertEquals(1_010, aGateway.findById(aProduct.getId()).orElseThrow().stock());
+        Assertions.assertEquals(1_000, aGateway.findById(anUntrackedProduct.getId()).orElseThrow().stock());
+    }
+
+    @Test
+    void givenAnUnknownProduct_whenReceiveOnTheGateway_shouldChangeNothing() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aProduct = aGateway.create(newProduct("Sorvete de creme", true, null));
+        final var anUnknownId = ProductID.unique();
+        final var aCheckinOrderId = CheckinOrderID.unique();
+        final var quantities = new LinkedHashMap<ProductID, Integer>();
+        quantities.put(aProduct.getId(), 5);
+        quantities.put(anUnknownId, 5);
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class, () -> aGateway.receive(aCheckinOrderId, quantities)
+        );
+
+        Assertions.assertEquals(
+                "'product' %s was not found".formatted(anUnknownId.getValue()),
+                actualException.getErrors().getFirst().message()
+        );
+        Assertions.assertEquals(10, aGateway.findById(aProduct.getId()).orElseThrow().stock());
+        Assertions.assertTrue(aGateway.receive(aCheckinOrderId, Map.of(aProduct.getId(), 5)));
+        Assertions.assertEquals(15, aGateway.findById(aProduct.getId()).orElseThrow().stock());
+    }
+
+    @Test
+    void givenAStockThatCannotGrow_whenReceive_shouldTakeBackTheOtherIncreases() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aProduct = aGateway.create(newProduct("Sorvete de creme", true, null));
+        final var aFullProduct = aGateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, Integer.MAX_VALUE));
+        final var quantities = new LinkedHashMap<ProductID, Integer>();
+        quantities.put(aProduct.getId(), 5);
+        quantities.put(aFullProduct.getId(), 1);
+
+        Assertions.assertThrows(DomainException.class, () -> aGateway.receive(CheckinOrderID.unique(), quantities));
+
+        Assertions.assertEquals(10, aGateway.findById(aProduct.getId()).orElseThrow().stock());
+        Assertions.assertEquals(Integer.MAX_VALUE, aGateway.findById(aFullProduct.getId()).orElseThrow().stock());
+    }
+
+    @Test
+    void givenACheckinOrderWithUnknownProducts_whenReceive_shouldThrowDomainException() {
+        final var aGateway = new ProductInMemoryGateway();
+        final var aReceipt = new CheckinOrderStockReceipt(aGateway, aGateway);
+        final var aProduct = aGateway.create(newProduct("Sorvete de creme", true, null));
+        final var anUnknownId = ProductID.unique().getValue();
+        final var anOrder = CheckinOrder.newOrder(List.of(
+                CheckinOrderItem.with("Sorvete", BigDecimal.ONE, 5, aProduct.getId().getValue()),
+                CheckinOrderItem.with("Picole", BigDecimal.ONE, 5, anUnknownId)
+        ), false);
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> aReceipt.receive(anOrder));
+
+        Assertions.assertEquals(1, actualException.getErrors().size());
+        Assertions.assertEquals(
+                "'product' %s was not found".formatted(anUnknownId),
+                actualException.getErrors().getFirst().message()
+        );
+        Assertions.assertEquals(10, aGateway.findById(aProduct.getId()).orElseThrow().stock());
+    }
+
+    private static void assertNoOversell(final ProductInMemoryGateway aGateway) throws Exception {
+        final var aProduct = aGateway.create(Product.newProduct("Sorvete", null, true, BigDecimal.TEN, null, 1_000));
+        final var reservations = new AtomicInteger();
+        final var anExecutor = Executors.newFixedThreadPool(8);
+
+        try {
+            final var tasks = new ArrayList<Callable<Void>>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        if (aGateway.reserve(aProduct.getId(), 1)) {
+                            reservations.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (final var aFuture : anExecutor.invokeAll(tasks)) {
+                aFuture.get();
+            }
+        } finally {
+            anExecutor.shutdown();
+        }
+
+        Assertions.assertEquals(1_000, reservations.get());
+        Assertions.assertEquals(0, aGateway.findById(aProduct.getId()).orElseThrow().stock());
+    }
+
+    private static List<String> walk(final ProductInMemoryGateway aGateway, final CursorQuery aQuery) {
+        return names(walkProducts(aGateway, aQuery));
+    }
+
+    private static List<Product> walkProducts(final ProductInMemoryGateway aGateway, final CursorQuery aQuery) {
+        final var products = new ArrayList<Product>();
+        var aPage = aGateway.findAll(aQuery);
+        products.addAll(aPage.items());
+        while (aPage.hasNext()) {
+            aPage = aGateway.findAll(aQuery.next(aPage.next().orElseThrow()));
+            products.addAll(aPage.items());
+        }
+        return products;
+    }
+
+    private static Product newProduct(final String aName, final boolean isActive, final String anExpirationDate) {
+        return Product.newProduct(
+                aName,
+                null,
+                isActive,
+                BigDecimal.TEN,
+                anExpirationDate != null ? LocalDate.parse(anExpirationDate) : null,
+                10
+        );
+    }
+
+    private static SearchQuery query(final String terms, final String sort, final String direction) {
+        return new SearchQuery(0, 10, terms, sort, direction);
+    }
+
+    private static List<String> names(final List<Product> products) {
+        return products.stream().map(Product::name).toList();
+    }
+}
@@ -0,0 +1,280 @@
+package io.maju.frosty.infrastructure.product;
+
+import io.maju.frosty.checkin.CheckinOrderID;
+import io.maju.frosty.exceptions.DomainException;
+import io.maju.frosty.pagination.CursorQuery;
+import io.maju.frosty.pagination.SearchQuery;
+import io.maju.frosty.product.Product;
+import io.maju.frosty.product.ProductID;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+class ProductJdbcGatewayTest {
+
+    private DataSource dataSource;
+    private ProductJdbcGateway gateway;
+
+    @BeforeEach
+    void setUp() throws SQLException, IOException {
+        final var anH2 = new JdbcDataSource();
+        anH2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        this.dataSource = anH2;
+        this.gateway = new ProductJdbcGateway(anH2);
+
+        runSchema();
+    }
+
+    @Test
+    void givenAProduct_whenCallCreate_shouldPersistAllColumns() {
+        final var aProduct = Product.newProduct(
+                "Sorvete de chocolate",
+                "Pote de 2 litros",
+                true,
+                new BigDecimal("10.50"),
+                LocalDate.parse("2024-12-31"),
+                null
+        );
+
+        this.gateway.create(aProduct);
+        final var actualProduct = this.gateway.findById(aProduct.getId()).orElseThrow();
+
+        Assertions.assertEquals(aProduct.getId(), actualProduct.getId());
+        Assertions.assertEquals(aProduct.name(), actualProduct.name());
+        Assertions.assertEquals(aProduct.description(), actualProduct.description());
+        Assertions.assertTrue(actualProduct.isActive());
+        Assertions.assertEquals(0, aProduct.price().compareTo(actualProduct.price()));
+        Assertions.assertEquals(aProduct.expirationDate(), actualProduct.expirationDate());
+        Assertions.assertNull(actualProduct.stock());
+        Assertions.assertEquals(aProduct.createdAt(), actualProduct.createdAt());
+        Assertions.assertNull(actualProduct.deletedAt());
+    }
+
+    @Test
+    void givenManyProducts_whenCallCreateAllAndUpdateAll_shouldWriteInBatches() {
+        final var productCount = ProductJdbcGateway.BATCH_SIZE * 2 + 7;
+        final var products = IntStream.range(0, productCount)
+                .mapToObj(i -> Product.newProduct("Produto " + i, null, true, BigDecimal.TEN, null, i))
+                .toList();
+
+        this.gateway.createAll(products);
+        products.forEach(aProduct -> aProduct.update(aProduct.name(), null, false, BigDecimal.ONE, null, 0));
+        this.gateway.updateAll(products);
+
+        final var actualPage = this.gateway.findAll(new SearchQuery(0, 10, null, "name", "asc"));
+        final var aLastProduct = this.gateway.findById(products.get(productCount - 1).getId()).orElseThrow();
+
+        Assertions.assertEquals(productCount, actualPage.total());
+        Assertions.assertEquals(10, actualPage.items().size());
+        Assertions.assertFalse(aLastProduct.isActive());
+        Assertions.assertEquals(productCount - 1, aLastProduct.stock());
+    }
+
+    @Test
+    void givenAMissingProduct_whenCallUpdateAll_shouldRollBackEveryUpdate() {
+        final var aStored = this.gateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, 1));
+        final var aMissing = Product.newProduct("Cupuacu", null, true, BigDecimal.TEN, null, 1);
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> this.gateway.updateAll(List.of(
+                        Product.with(aStored).update("Acai com banana", null, true, BigDecimal.ONE, null, 1),
+                        aMissing
+                ))
+        );
+
+        Assertions.assertEquals(
+                "'product' %s was not found".formatted(aMissing.getId().getValue()),
+                actualException.getErrors().getFirst().message()
+        );
+        Assertions.assertEquals("Acai", this.gateway.findById(aStored.getId()).orElseThrow().name());
+    }
+
+    @Test
+    void givenStoredProducts_whenCallFindAllWithTerms_shouldFilterAndPage() {
+        this.gateway.createAll(List.of(
+                Product.newProduct("Sorvete de chocolate", null, true, BigDecimal.TEN, null, 1),
+                Product.newProduct("Picole de chocolate", null, true, BigDecimal.TEN, null, 1),
+                Product.newProduct("Sorvete de creme", null, true, BigDecimal.TEN, null, 1)
+        ));
+
+        final var actualPage = this.gateway.findAll(new SearchQuery(1, 1, "CHOCOLATE", "name", "desc"));
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(List.of("Picole de chocolate"), actualPage.items().stream().map(Product::name).toList());
+    }
+
+    @Test
+    void givenARenamedAndADeletedProduct_whenCallFindAllWithTerms_shouldMatchTheCurrentNames() {
+        final var aRenamed = Product.newProduct("Sorvete de chocolate", null, true, BigDecimal.TEN, null, 1);
+        final var aDeleted = Product.newProduct("Picole de chocolate", null, true, BigDecimal.TEN, null, 1);
+        this.gateway.createAll(List.of(aRenamed, aDeleted));
+
+        this.gateway.update(Product.with(aRenamed).update("Sorvete de creme", null, true, BigDecimal.TEN, null, 1));
+        this.gateway.deleteById(aDeleted.getId());
+
+        Assertions.assertEquals(0, this.gateway.findAll(new SearchQuery(0, 10, "choc", "name", "asc")).total());
+        Assertions.assertEquals(
+                List.of("Sorvete de creme"),
+                this.gateway.findAll(new SearchQuery(0, 10, "sorv CREM", "name", "asc")).items().stream()
+                        .map(Product::name)
+                        .toList()
+        );
+    }
+
+    @Test
+    void givenTheSchema_whenRunItAgain_shouldKeepTheStoredProducts() throws SQLException, IOException {
+        final var aProduct = Product.newProduct("Acai", null, true, BigDecimal.TEN, null, 1);
+        this.gateway.create(aProduct);
+
+        runSchema();
+
+        Assertions.assertTrue(this.gateway.findById(aProduct.getId()).isPresent());
+    }
+
+    @Test
+    void givenStoredProducts_whenWalkWithCursors_shouldVisitEveryProductOnce() {
+        final var products = IntStream.range(0, 25)
+                .mapToObj(i -> Product.newProduct("Produto %02d".formatted(i), null, true, BigDecimal.TEN, null, i))
+                .toList();
+        this.gateway.createAll(products);
+
+        final var aQuery = CursorQuery.first(10, "produto", "name", "desc");
+        final var actualNames = new ArrayList<String>();
+        var aPage = this.gateway.findAll(aQuery);
+        actualNames.addAll(aPage.items().stream().map(Product::name).toList());
+        while (aPage.hasNext()) {
+            aPage = this.gateway.findAll(aQuery.next(aPage.next().orElseThrow()));
+            actualNames.addAll(aPage.items().stream().map(Product::name).toList());
+        }
+
+        Assertions.assertEquals(25, aPage.total());
+        Assertions.assertEquals(25, actualNames.size());
+        Assertions.assertEquals("Produto 24", actualNames.getFirst());
+        Assertions.assertEquals("Produto 00", actualNames.getLast());
+    }
+
+    @Test
+    void givenManyProducts_whenCallStreamAll_shouldYieldEveryMatchInSortOrder() {
+        final var productCount = ProductJdbcGateway.STREAM_FETCH_SIZE * 3 + 1;
+        this.gateway.createAll(IntStream.range(0, productCount)
+                .mapToObj(i -> Product.newProduct("Produto %04d".formatted(i), null, true, BigDecimal.TEN, null, i))
+                .toList());
+
+        try (final var aStream = this.gateway.streamAll(new SearchQuery(0, 10, "produto", "name", "asc"))) {
+            final var actualNames = aStream.map(Product::name).toList();
+
+            Assertions.assertEquals(productCount, actualNames.size());
+            Assertions.assertEquals("Produto 0000", actualNames.getFirst());
+            Assertions.assertEquals("Produto %04d".formatted(productCount - 1), actualNames.getLast());
+        }
+    }
+
+    @Test
+    void givenMoreIdsThanOneInClause_whenCallExistenceOf_shouldAlignBitsWithTheInput() {
+        final var products = IntStream.range(0, ProductJdbcGateway.IN_CLAUSE_SIZE + 10)
+                .mapToObj(i -> Product.newProduct("Produto " + i, null, true, BigDecimal.TEN, null, i))
+                .toList();
+        this.gateway.createAll(products);
+
+        final var ids = new ArrayList<ProductID>();
+        products.forEach(aProduct -> {
+            ids.add(aProduct.getId());
+            ids.add(ProductID.unique());
+        });
+        ids.add(products.getFirst().getId());
+
+        final var actualExistence = this.gateway.existenceOf(ids);
+
+        Assertions.assertEquals(ids.size(), actualExistence.size());
+        Assertions.assertEquals(products.size() + 1, actualExistence.presentCount());
+        Assertions.assertTrue(actualExistence.exists(0));
+        Assertions.assertFalse(actualExistence.exists(1));
+        Assertions.assertTrue(actualExistence.exists(ids.size() - 1));
+        Assertions.assertEquals(ids.get(1), actualExistence.missing().getFirst());
+    }
+
+    @Test
+    void givenAStoredProduct_whenMoveStock_shouldGuardEveryUpdate() {
+        final var aProduct = this.gateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, 5));
+        final var anId = aProduct.getId();
+
+        Assertions.assertTrue(this.gateway.reserve(anId, 4));
+        Assertions.assertFalse(this.gateway.reserve(anId, 2));
+        Assertions.assertTrue(this.gateway.commit(anId, 3));
+        Assertions.assertFalse(this.gateway.release(anId, 2));
+        Assertions.assertTrue(this.gateway.release(anId, 1));
+        Assertions.assertEquals(2, this.gateway.findById(anId).orElseThrow().stock());
+        Assertions.assertFalse(this.gateway.reserve(ProductID.unique(), 1));
+    }
+
+    @Test
+    void givenACheckinOrder_whenReceiveItTwice_shouldIncreaseTheStockOnce() {
+        final var aProduct = this.gateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, null));
+        final var anotherProduct = this.gateway.create(Product.newProduct("Sorvete", null, true, BigDecimal.TEN, null, 5));
+        final var aCheckinOrderId = CheckinOrderID.unique();
+        final var quantities = Map.of(aProduct.getId(), 7, anotherProduct.getId(), 3);
+
+        Assertions.assertTrue(this.gateway.receive(aCheckinOrderId, quantities));
+        Assertions.assertFalse(this.gateway.receive(aCheckinOrderId, quantities));
+
+        Assertions.assertEquals(7, this.gateway.findById(aProduct.getId()).orElseThrow().stock());
+        Assertions.assertEquals(8, this.gateway.findById(anotherProduct.getId()).orElseThrow().stock());
+    }
+
+    @Test
+    void givenAMissingProduct_whenReceive_shouldRollBackTheWholeReceipt() {
+        final var aProduct = this.gateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, 5));
+        final var anUnknownId = ProductID.unique();
+        final var aCheckinOrderId = CheckinOrderID.unique();
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> this.gateway.receive(aCheckinOrderId, Map.of(aProduct.getId(), 7, anUnknownId, 3))
+        );
+
+        Assertions.assertEquals(
+                "'product' %s was not found".formatted(anUnknownId.getValue()),
+                actualException.getErrors().getFirst().message()
+        );
+        Assertions.assertEquals(5, this.gateway.findById(aProduct.getId()).orElseThrow().stock());
+        Assertions.assertTrue(this.gateway.receive(aCheckinOrderId, Map.of(aProduct.getId(), 7)));
+    }
+
+    @Test
+    void givenStoredProducts_whenCallExistsByIdsAndDelete_shouldReturnOnlyStoredIds() {
+        final var aProduct = this.gateway.create(Product.newProduct("Acai", null, true, BigDecimal.TEN, null, 1));
+        final var anUnknownId = ProductID.unique();
+
+        final var actualIds = this.gateway.existsByIds(List.of(anUnknownId, aProduct.getId()));
+        this.gateway.deleteById(aProduct.getId());
+
+        Assertions.assertEquals(List.of(aProduct.getId()), actualIds);
+        Assertions.assertTrue(this.gateway.findById(aProduct.getId()).isEmpty());
+    }
+
+    private void runSchema() throws SQLException, IOException {
+        try (final var aSchema = getClass().getResourceAsStream("/db/products.sql");
+             final var aConnection = this.dataSource.getConnection();
+             final var aStatement = aConnection.createStatement()) {
+            for (final var aSql : new String(aSchema.readAllBytes(), StandardCharsets.UTF_8).split(";")) {
+                if (!aSql.isBlank()) {
+                    aStatement.execute(aSql);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.maju.frosty.infrastructure.stock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class StripedStockCounterTest {
+
+    @Test
+    void givenAStripeCount_whenCreate_shouldRoundUpToAPowerOfTwo() {
+        Assertions.assertEquals(2, new StripedStockCounter(1).stripeCount());
+        Assertions.assertEquals(8, new StripedStockCounter(8).stripeCount());
+        Assertions.assertEquals(16, new StripedStockCounter(9).stripeCount());
+    }
+
+    @Test
+    void givenAStripedCounter_whenMoveMoreThanOneStripeHolds_shouldCollapseToTheExactTotal() {
+        final var aCounter = new StripedStockCounter(8);
+        aCounter.reset(10);
+
+        Assertions.assertTrue(aCounter.reserve(9));
+        Assertions.assertFalse(aCounter.reserve(2));
+        Assertions.assertTrue(aCounter.reserve(1));
+        Assertions.assertFalse(aCounter.reserve(1));
+        Assertions.assertEquals(0, aCounter.available());
+        Assertions.assertEquals(10, aCounter.reserved());
+
+        Assertions.assertTrue(aCounter.commit(6));
+        Assertions.assertTrue(aCounter.release(4));
+        Assertions.assertFalse(aCounter.commit(1));
+        Assertions.assertEquals(4, aCounter.available());
+        Assertions.assertEquals(0, aCounter.reserved());
+    }
+
+    @Test
+    void givenReservationsInFlight_whenCallReset_shouldKeepThem() {
+        final var aCounter = new StripedStockCounter(4);
+        aCounter.reset(10);
+        aCounter.reserve(3);
+
+        aCounter.reset(20);
+
+        Assertions.assertEquals(20, aCounter.available());
+        Assertions.assertEquals(3, aCounter.reserved());
+        Assertions.assertTrue(aCounter.commit(3));
+    }
+
+    @Test
+    void givenManyThreads_whenReserveTheLastUnits_shouldNeverOversell() throws Exception {
+        final var threads = 32;
+        final var aCounter = new StripedStockCounter(8);
+        aCounter.reset(10_000);
+        final var reservations = new AtomicInteger();
+        final var anExecutor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final var tasks = new ArrayList<Callable<Void>>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> {
+                    for (int j = 0; j < 1_000; j++) {
+                        if (aCounter.reserve(1)) {
+                            reservations.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (final var aFuture : anExecutor.invokeAll(tasks)) {
+                aFuture.get();
+            }
+        } finally {
+            anExecutor.shutdown();
+        }
+
+        Assertions.assertEquals(10_000, reservations.get());
+        Assertions.assertEquals(0, aCounter.available());
+        Assertions.assertEquals(10_000, aCounter.reserved());
+    }
+
+    @Test
+    void givenCollapsesInFlight_whenCallAvailable_shouldNeverSeeTheDrainedStripes() throws Exception {
+        final var aCounter = new StripedStockCounter(8);
+        aCounter.reset(8);
+        final var done = new AtomicBoolean();
+        final var anExecutor = Executors.newSingleThreadExecutor();
+
+        try {
+            // one unit per stripe, every reservation of two collapses the counter
+            final var aMover = anExecutor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    aCounter.reserve(2);
+                    aCounter.release(2);
+                }
+                done.set(true);
+            });
+            while (!done.get()) {
+                final var available = aCounter.available();
+                Assertions.assertTrue(available == 8 || available == 6, "available was " + available);
+            }
+            aMover.get();
+        } finally {
+            anExecutor.shutdownNow();
+        }
+
+        Assertions.assertEquals(8, aCounter.available());
+        Assertions.assertEquals(0, aCounter.reserved());
+    }
+}